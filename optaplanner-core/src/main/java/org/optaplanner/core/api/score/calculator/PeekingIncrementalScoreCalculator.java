@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.calculator;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+/**
+ * Allows a {@link IncrementalScoreCalculator} to calculate the {@link Score} of a {@link Move}
+ * without doing that move on the working solution.
+ * <p>
+ * For a move that can describe its genuine variable changes (such as a generic change or swap move
+ * on a non-chained variable), the solver calls {@link #peekScore(List)} instead of doing the move,
+ * calculating the score and undoing the move.
+ * That avoids triggering the variable listeners and the before/after notifications twice per evaluated move.
+ * Other moves are still done and undone as usual.
+ * <p>
+ * The shadow variables are not updated for a peeked move,
+ * so this calculator must take into account any shadow variable that would change.
+ * With the {@code environmentMode} {@code FULL_ASSERT} or {@code NON_INTRUSIVE_FULL_ASSERT},
+ * every move is still done and its peeked score is compared with the score calculated after doing it.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the {@link Score} type
+ */
+public interface PeekingIncrementalScoreCalculator<Solution_, Score_ extends Score<Score_>>
+        extends IncrementalScoreCalculator<Solution_, Score_> {
+
+    /**
+     * Calculates the {@link Score} that {@link #calculateScore()} would return
+     * if all the given changes were done on the working solution.
+     * <p>
+     * This method must not change the working solution, nor the state of this calculator.
+     * Every entity and genuine {@link PlanningVariable} pair appears at most once in the list.
+     *
+     * @param variableChangeList never null, sometimes empty, the genuine variable changes of a move
+     * @return never null, the score as if the changes were done, with an initScore of 0
+     */
+    Score_ peekScore(List<VariableChange> variableChangeList);
+
+}
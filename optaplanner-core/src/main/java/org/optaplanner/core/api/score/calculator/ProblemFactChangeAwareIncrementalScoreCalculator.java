@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.calculator;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.api.solver.ProblemFactChange;
+
+/**
+ * Allows a {@link IncrementalScoreCalculator} to process {@link ProblemFactChange}s incrementally,
+ * instead of having {@link #resetWorkingSolution(Object)} called after every problem fact change.
+ * <p>
+ * Every method mirrors the {@link ScoreDirector} method with the same name.
+ * The working solution has already been changed when the after method is called.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the {@link Score} type
+ */
+public interface ProblemFactChangeAwareIncrementalScoreCalculator<Solution_, Score_ extends Score<Score_>>
+        extends IncrementalScoreCalculator<Solution_, Score_> {
+
+    /**
+     * @param problemFact never null, an instance of a {@link ProblemFactCollectionProperty} class
+     */
+    void beforeProblemFactAdded(Object problemFact);
+
+    /**
+     * @param problemFact never null, an instance of a {@link ProblemFactCollectionProperty} class
+     */
+    void afterProblemFactAdded(Object problemFact);
+
+    /**
+     * @param problemFactOrEntity never null, a problem fact or an instance of a {@link PlanningEntity} class
+     *        of which a problem property (so not a planning variable) changes
+     */
+    void beforeProblemPropertyChanged(Object problemFactOrEntity);
+
+    /**
+     * @param problemFactOrEntity never null, a problem fact or an instance of a {@link PlanningEntity} class
+     *        of which a problem property (so not a planning variable) changed
+     */
+    void afterProblemPropertyChanged(Object problemFactOrEntity);
+
+    /**
+     * @param problemFact never null, an instance of a {@link ProblemFactCollectionProperty} class
+     */
+    void beforeProblemFactRemoved(Object problemFact);
+
+    /**
+     * @param problemFact never null, an instance of a {@link ProblemFactCollectionProperty} class
+     */
+    void afterProblemFactRemoved(Object problemFact);
+
+}
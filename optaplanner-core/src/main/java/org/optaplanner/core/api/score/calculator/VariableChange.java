@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.calculator;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+
+/**
+ * Describes a genuine {@link PlanningVariable} change that hasn't been done on the working solution (yet).
+ *
+ * @see PeekingIncrementalScoreCalculator
+ */
+public final class VariableChange {
+
+    private final Object entity;
+    private final String variableName;
+    private final Object toValue;
+
+    /**
+     * @param entity never null, an instance of a {@link PlanningEntity} class
+     * @param variableName never null, a genuine {@link PlanningVariable}
+     * @param toValue sometimes null, the value the variable would have after the change
+     */
+    public VariableChange(Object entity, String variableName, Object toValue) {
+        this.entity = entity;
+        this.variableName = variableName;
+        this.toValue = toValue;
+    }
+
+    /**
+     * @return never null, an instance of a {@link PlanningEntity} class
+     */
+    public Object getEntity() {
+        return entity;
+    }
+
+    /**
+     * @return never null, a genuine {@link PlanningVariable}
+     */
+    public String getVariableName() {
+        return variableName;
+    }
+
+    /**
+     * @return sometimes null, the value the variable would have after the change
+     */
+    public Object getToValue() {
+        return toValue;
+    }
+
+    @Override
+    public String toString() {
+        return entity + "." + variableName + " -> " + toValue;
+    }
+
+}
@@ -17,7 +17,9 @@
 package org.optaplanner.core.api.solver;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -50,8 +52,30 @@ public interface SolverJob<Solution_, ProblemId_> {
     // TODO Future features
     //    void reloadProblem(Function<? super ProblemId_, Solution_> problemFinder);
 
-    // TODO Future features
-    //    void addProblemFactChange(ProblemFactChange<Solution_> problemFactChange);
+    /**
+     * Schedules a {@link ProblemFactChange} to be processed by the underlying {@link Solver}
+     * and returns immediately.
+     * <p>
+     * All changes scheduled while the {@link Solver} is busy are applied together, in one restart of the solver.
+     * <p>
+     * This method is thread-safe.
+     *
+     * @param problemFactChange never null
+     * @return never null, completes after the change has been applied to the best solution, before the solver
+     *         restarts. Completes exceptionally if the change fails or if solving terminates before it is applied.
+     * @see #addProblemFactChanges(List)
+     */
+    CompletableFuture<Void> addProblemFactChange(ProblemFactChange<Solution_> problemFactChange);
+
+    /**
+     * As defined by {@link #addProblemFactChange(ProblemFactChange)},
+     * but the changes are applied in order, in the same restart of the {@link Solver}.
+     *
+     * @param problemFactChangeList never null, not empty
+     * @return never null, completes after all changes have been applied to the best solution
+     * @see #addProblemFactChange(ProblemFactChange)
+     */
+    CompletableFuture<Void> addProblemFactChanges(List<ProblemFactChange<Solution_>> problemFactChangeList);
 
     /**
      * Terminates the solver or cancels the solver job if it hasn't (re)started yet.
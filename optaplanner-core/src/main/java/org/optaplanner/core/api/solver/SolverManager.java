@@ -16,7 +16,9 @@
 
 package org.optaplanner.core.api.solver;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -303,8 +305,28 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
     // TODO Future features
     //    void reloadProblem(ProblemId_ problemId, Function<? super ProblemId_, Solution_> problemFinder);
 
-    // TODO Future features
-    //    void addProblemFactChange(ProblemId_ problemId, ProblemFactChange<Solution_> problemFactChange);
+    /**
+     * Schedules a {@link ProblemFactChange} to be processed by the solver of that problemId and returns immediately.
+     * <p>
+     * As defined by {@link SolverJob#addProblemFactChange(ProblemFactChange)}.
+     *
+     * @param problemId never null, a value given to {@link #solve(Object, Function, Consumer)}
+     *        or {@link #solveAndListen(Object, Function, Consumer)}
+     * @param problemFactChange never null
+     * @return never null, completes exceptionally if that problemId is not solving
+     */
+    CompletableFuture<Void> addProblemFactChange(ProblemId_ problemId, ProblemFactChange<Solution_> problemFactChange);
+
+    /**
+     * As defined by {@link SolverJob#addProblemFactChanges(List)}.
+     *
+     * @param problemId never null, a value given to {@link #solve(Object, Function, Consumer)}
+     *        or {@link #solveAndListen(Object, Function, Consumer)}
+     * @param problemFactChangeList never null, not empty
+     * @return never null, completes exceptionally if that problemId is not solving
+     */
+    CompletableFuture<Void> addProblemFactChanges(ProblemId_ problemId,
+            List<ProblemFactChange<Solution_>> problemFactChangeList);
 
     /**
      * Terminates the solver or cancels the solver job if it hasn't (re)started yet.
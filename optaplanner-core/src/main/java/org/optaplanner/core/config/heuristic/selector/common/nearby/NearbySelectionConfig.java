@@ -39,7 +39,10 @@ import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistance
         "linearDistributionSizeMaximum",
         "parabolicDistributionSizeMaximum",
         "betaDistributionAlpha",
-        "betaDistributionBeta"
+        "betaDistributionBeta",
+        "distanceMatrixSizeMaximum",
+        "distanceMatrixCalculatedInParallel",
+        "distanceMatrixCached"
 })
 public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig> {
 
@@ -61,6 +64,10 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
     protected Double betaDistributionAlpha = null;
     protected Double betaDistributionBeta = null;
 
+    protected Integer distanceMatrixSizeMaximum = null;
+    protected Boolean distanceMatrixCalculatedInParallel = null;
+    protected Boolean distanceMatrixCached = null;
+
     public EntitySelectorConfig getOriginEntitySelectorConfig() {
         return originEntitySelectorConfig;
     }
@@ -149,6 +156,46 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
         this.betaDistributionBeta = betaDistributionBeta;
     }
 
+    /**
+     * @return null to keep every destination per origin in the distance matrix,
+     *         otherwise only keep that many nearest destinations per origin.
+     *         With random selection, it must be at least the distribution size maximum.
+     */
+    public Integer getDistanceMatrixSizeMaximum() {
+        return distanceMatrixSizeMaximum;
+    }
+
+    public void setDistanceMatrixSizeMaximum(Integer distanceMatrixSizeMaximum) {
+        this.distanceMatrixSizeMaximum = distanceMatrixSizeMaximum;
+    }
+
+    /**
+     * @return null or false to calculate the distance matrix on the solver thread,
+     *         true to calculate it in parallel, which requires a thread-safe {@link NearbyDistanceMeter}
+     */
+    public Boolean getDistanceMatrixCalculatedInParallel() {
+        return distanceMatrixCalculatedInParallel;
+    }
+
+    public void setDistanceMatrixCalculatedInParallel(Boolean distanceMatrixCalculatedInParallel) {
+        this.distanceMatrixCalculatedInParallel = distanceMatrixCalculatedInParallel;
+    }
+
+    /**
+     * @return null or false to calculate the distance matrix for every phase,
+     *         true to share it with every other solver in the JVM with the same
+     *         {@link #getNearbyDistanceMeterClass() nearbyDistanceMeterClass} and planning ids,
+     *         which requires a planning id on every origin and destination.
+     *         Not used after problem fact changes.
+     */
+    public Boolean getDistanceMatrixCached() {
+        return distanceMatrixCached;
+    }
+
+    public void setDistanceMatrixCached(Boolean distanceMatrixCached) {
+        this.distanceMatrixCached = distanceMatrixCached;
+    }
+
     public void validateNearby(SelectionCacheType resolvedCacheType, SelectionOrder resolvedSelectionOrder) {
         if (originEntitySelectorConfig == null) {
             throw new IllegalArgumentException("The nearbySelectorConfig (" + this
@@ -180,6 +227,11 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
                     + ") has a resolvedCacheType (" + resolvedCacheType
                     + ") that is cached.");
         }
+        if (distanceMatrixSizeMaximum != null && distanceMatrixSizeMaximum < 1) {
+            throw new IllegalArgumentException("The nearbySelectorConfig (" + this
+                    + ") has a distanceMatrixSizeMaximum (" + distanceMatrixSizeMaximum
+                    + ") which is not at least 1.");
+        }
     }
 
     @Override
@@ -207,6 +259,12 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
                 inheritedConfig.getBetaDistributionAlpha());
         betaDistributionBeta = ConfigUtils.inheritOverwritableProperty(betaDistributionBeta,
                 inheritedConfig.getBetaDistributionBeta());
+        distanceMatrixSizeMaximum = ConfigUtils.inheritOverwritableProperty(distanceMatrixSizeMaximum,
+                inheritedConfig.getDistanceMatrixSizeMaximum());
+        distanceMatrixCalculatedInParallel = ConfigUtils.inheritOverwritableProperty(
+                distanceMatrixCalculatedInParallel, inheritedConfig.getDistanceMatrixCalculatedInParallel());
+        distanceMatrixCached = ConfigUtils.inheritOverwritableProperty(distanceMatrixCached,
+                inheritedConfig.getDistanceMatrixCached());
         return this;
     }
 
@@ -43,7 +43,9 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "localSearchType",
         "moveSelectorConfig",
         "acceptorConfig",
-        "foragerConfig"
+        "foragerConfig",
+        "moveSelectionOnMoveThreads",
+        "moveReuseEnabled"
 })
 public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig> {
 
@@ -78,6 +80,9 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
     @XmlElement(name = "forager")
     private LocalSearchForagerConfig foragerConfig = null;
 
+    protected Boolean moveSelectionOnMoveThreads = null;
+    protected Boolean moveReuseEnabled = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -114,6 +119,22 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         this.foragerConfig = foragerConfig;
     }
 
+    public Boolean getMoveSelectionOnMoveThreads() {
+        return moveSelectionOnMoveThreads;
+    }
+
+    public void setMoveSelectionOnMoveThreads(Boolean moveSelectionOnMoveThreads) {
+        this.moveSelectionOnMoveThreads = moveSelectionOnMoveThreads;
+    }
+
+    public Boolean getMoveReuseEnabled() {
+        return moveReuseEnabled;
+    }
+
+    public void setMoveReuseEnabled(Boolean moveReuseEnabled) {
+        this.moveReuseEnabled = moveReuseEnabled;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -138,6 +159,16 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         return this;
     }
 
+    public LocalSearchPhaseConfig withMoveSelectionOnMoveThreads(Boolean moveSelectionOnMoveThreads) {
+        this.moveSelectionOnMoveThreads = moveSelectionOnMoveThreads;
+        return this;
+    }
+
+    public LocalSearchPhaseConfig withMoveReuseEnabled(Boolean moveReuseEnabled) {
+        this.moveReuseEnabled = moveReuseEnabled;
+        return this;
+    }
+
     @Override
     public LocalSearchPhaseConfig inherit(LocalSearchPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -147,6 +178,10 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
                 getMoveSelectorConfig(), inheritedConfig.getMoveSelectorConfig()));
         acceptorConfig = ConfigUtils.inheritConfig(acceptorConfig, inheritedConfig.getAcceptorConfig());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        moveSelectionOnMoveThreads = ConfigUtils.inheritOverwritableProperty(moveSelectionOnMoveThreads,
+                inheritedConfig.getMoveSelectionOnMoveThreads());
+        moveReuseEnabled = ConfigUtils.inheritOverwritableProperty(moveReuseEnabled,
+                inheritedConfig.getMoveReuseEnabled());
         return this;
     }
 
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.config.partitionedsearch;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -34,13 +35,18 @@ import org.optaplanner.core.config.phase.NoChangePhaseConfig;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.io.jaxb.adapter.JaxbCustomPropertiesAdapter;
+import org.optaplanner.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
 import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
 
 @XmlType(propOrder = {
         "solutionPartitionerClass",
         "solutionPartitionerCustomProperties",
+        "nearbyDistanceMeterClass",
         "runnablePartThreadLimit",
+        "partEventThrottlingDelay",
+        "roundCountLimit",
         "phaseConfigList"
 })
 public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchPhaseConfig> {
@@ -55,8 +61,12 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
     protected Class<? extends SolutionPartitioner<?>> solutionPartitionerClass = null;
     @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
     protected Map<String, String> solutionPartitionerCustomProperties = null;
+    protected Class<? extends NearbyDistanceMeter> nearbyDistanceMeterClass = null;
 
     protected String runnablePartThreadLimit = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration partEventThrottlingDelay = null;
+    protected Integer roundCountLimit = null;
 
     @XmlElements({
             @XmlElement(name = ConstructionHeuristicPhaseConfig.XML_ELEMENT_NAME,
@@ -89,6 +99,22 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
         this.solutionPartitionerCustomProperties = solutionPartitionerCustomProperties;
     }
 
+    /**
+     * Only used by the default {@link SolutionPartitioner},
+     * which is used if there is no {@link #getSolutionPartitionerClass() solutionPartitionerClass}.
+     * Its origin and destination are both planning entities.
+     * The default {@link SolutionPartitioner} puts nearby planning entities in the same partition.
+     *
+     * @return sometimes null
+     */
+    public Class<? extends NearbyDistanceMeter> getNearbyDistanceMeterClass() {
+        return nearbyDistanceMeterClass;
+    }
+
+    public void setNearbyDistanceMeterClass(Class<? extends NearbyDistanceMeter> nearbyDistanceMeterClass) {
+        this.nearbyDistanceMeterClass = nearbyDistanceMeterClass;
+    }
+
     /**
      * Similar to a thread pool size, but instead of limiting the number of {@link Thread}s,
      * it limits the number of {@link java.lang.Thread.State#RUNNABLE runnable} {@link Thread}s to avoid consuming all
@@ -118,6 +144,48 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
         this.runnablePartThreadLimit = runnablePartThreadLimit;
     }
 
+    /**
+     * The minimum time between 2 new best solutions of the same partition
+     * that are sent to the solver thread.
+     * A new best solution that arrives sooner, is sent later (if no better one replaced it by then),
+     * at the latest when that partition ends.
+     * This reduces the overhead of partitions that improve their best solution very often.
+     * <p>
+     * Defaults to {@link Duration#ZERO}, which sends every new best solution immediately.
+     *
+     * @return sometimes null
+     */
+    public Duration getPartEventThrottlingDelay() {
+        return partEventThrottlingDelay;
+    }
+
+    public void setPartEventThrottlingDelay(Duration partEventThrottlingDelay) {
+        this.partEventThrottlingDelay = partEventThrottlingDelay;
+    }
+
+    /**
+     * Every round partitions the working solution and solves those partitions with the child phases.
+     * A round ends when all partitions have ended, for example because of the termination of their last phase.
+     * The next round repartitions the merged best solutions of those partitions,
+     * with different partition boundaries, and reuses the partition threads and their score directors.
+     * There is no next round if the termination of this phase has been reached.
+     * <p>
+     * A custom {@link SolutionPartitioner} must override
+     * {@link SolutionPartitioner#splitWorkingSolution(ScoreDirector, Integer, int)} to use a limit higher than 1,
+     * because otherwise every round gets the same partitions.
+     * <p>
+     * Defaults to 1, which never repartitions.
+     *
+     * @return sometimes null
+     */
+    public Integer getRoundCountLimit() {
+        return roundCountLimit;
+    }
+
+    public void setRoundCountLimit(Integer roundCountLimit) {
+        this.roundCountLimit = roundCountLimit;
+    }
+
     public List<PhaseConfig> getPhaseConfigList() {
         return phaseConfigList;
     }
@@ -133,8 +201,14 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
                 inheritedConfig.getSolutionPartitionerClass());
         solutionPartitionerCustomProperties = ConfigUtils.inheritMergeableMapProperty(
                 solutionPartitionerCustomProperties, inheritedConfig.getSolutionPartitionerCustomProperties());
+        nearbyDistanceMeterClass = ConfigUtils.inheritOverwritableProperty(nearbyDistanceMeterClass,
+                inheritedConfig.getNearbyDistanceMeterClass());
         runnablePartThreadLimit = ConfigUtils.inheritOverwritableProperty(runnablePartThreadLimit,
                 inheritedConfig.getRunnablePartThreadLimit());
+        partEventThrottlingDelay = ConfigUtils.inheritOverwritableProperty(partEventThrottlingDelay,
+                inheritedConfig.getPartEventThrottlingDelay());
+        roundCountLimit = ConfigUtils.inheritOverwritableProperty(roundCountLimit,
+                inheritedConfig.getRoundCountLimit());
         phaseConfigList = ConfigUtils.inheritMergeableListConfig(
                 phaseConfigList, inheritedConfig.getPhaseConfigList());
         return this;
@@ -151,6 +225,7 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
             getTerminationConfig().visitReferencedClasses(classVisitor);
         }
         classVisitor.accept(solutionPartitionerClass);
+        classVisitor.accept(nearbyDistanceMeterClass);
         if (phaseConfigList != null) {
             phaseConfigList.forEach(pc -> pc.visitReferencedClasses(classVisitor));
         }
@@ -51,6 +51,7 @@ import org.optaplanner.core.impl.score.director.drools.KieRuntimeBuilderWrapper;
         "droolsAlphaNetworkCompilationEnabled",
         "kieBaseConfigurationProperties",
         "initializingScoreTrend",
+        "incrementalSolutionCloningEnabled",
         "assertionScoreDirectorFactory"
 })
 public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFactoryConfig> {
@@ -85,6 +86,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     // TODO: this should be rather an enum?
     protected String initializingScoreTrend = null;
 
+    protected Boolean incrementalSolutionCloningEnabled = null;
+
     @XmlElement(name = "assertionScoreDirectorFactory")
     protected ScoreDirectorFactoryConfig assertionScoreDirectorFactory = null;
 
@@ -197,6 +200,25 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.initializingScoreTrend = initializingScoreTrend;
     }
 
+    /**
+     * @return null if it should default to false
+     */
+    public Boolean getIncrementalSolutionCloningEnabled() {
+        return incrementalSolutionCloningEnabled;
+    }
+
+    /**
+     * When enabled, a new best solution reuses the planning entity clones of the previous best solution
+     * for every planning entity that hasn't changed since then, instead of cloning every planning entity again.
+     * Only planning entities without references to other planning entities are reused.
+     * The best solutions must then never be changed, because they share planning entity instances.
+     *
+     * @param incrementalSolutionCloningEnabled null if it should default to false
+     */
+    public void setIncrementalSolutionCloningEnabled(Boolean incrementalSolutionCloningEnabled) {
+        this.incrementalSolutionCloningEnabled = incrementalSolutionCloningEnabled;
+    }
+
     public ScoreDirectorFactoryConfig getAssertionScoreDirectorFactory() {
         return assertionScoreDirectorFactory;
     }
@@ -285,6 +307,12 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig withIncrementalSolutionCloningEnabled(
+            boolean incrementalSolutionCloningEnabled) {
+        this.incrementalSolutionCloningEnabled = incrementalSolutionCloningEnabled;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig withAssertionScoreDirectorFactory(
             ScoreDirectorFactoryConfig assertionScoreDirectorFactory) {
         this.assertionScoreDirectorFactory = assertionScoreDirectorFactory;
@@ -319,6 +347,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 kieBaseConfigurationProperties, inheritedConfig.getKieBaseConfigurationProperties());
         initializingScoreTrend = ConfigUtils.inheritOverwritableProperty(
                 initializingScoreTrend, inheritedConfig.getInitializingScoreTrend());
+        incrementalSolutionCloningEnabled = ConfigUtils.inheritOverwritableProperty(
+                incrementalSolutionCloningEnabled, inheritedConfig.getIncrementalSolutionCloningEnabled());
         assertionScoreDirectorFactory = ConfigUtils.inheritOverwritableProperty(
                 assertionScoreDirectorFactory, inheritedConfig.getAssertionScoreDirectorFactory());
         return this;
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.solver;
+
+import javax.xml.bind.annotation.XmlEnum;
+
+import org.optaplanner.core.api.solver.ProblemFactChange;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.constructionheuristic.ConstructionHeuristicPhase;
+
+/**
+ * Determines how the {@link Solver} restarts after it processed {@link ProblemFactChange}s.
+ */
+@XmlEnum
+public enum RestartMode {
+    /**
+     * Reruns every phase from the start, as if the {@link Solver} solves a new problem.
+     * <p>
+     * This is the default.
+     */
+    FULL,
+    /**
+     * Resumes at the phase that was running when the {@link ProblemFactChange}s came in.
+     * The phases before it already completed, so they are skipped,
+     * except for a {@link ConstructionHeuristicPhase} if the changes left any planning variable uninitialized.
+     * That construction heuristic only initializes those variables.
+     * <p>
+     * Use this for real-time planning with frequent {@link ProblemFactChange}s,
+     * to avoid spending most of the CPU on rerunning the same phases.
+     */
+    WARM;
+}
@@ -46,6 +46,7 @@ import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.event.SolverEventListener;
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
@@ -71,11 +72,14 @@ import org.optaplanner.core.impl.solver.random.RandomFactory;
 @XmlType(name = SolverConfig.XML_TYPE_NAME, propOrder = {
         "environmentMode",
         "daemon",
+        "restartMode",
+        "lazyBestSolutionCloningEnabled",
         "randomType",
         "randomSeed",
         "randomFactoryClass",
         "moveThreadCount",
         "moveThreadBufferSize",
+        "moveThreadBatchSize",
         "threadFactoryClass",
         "solutionClass",
         "entityClassList",
@@ -229,11 +233,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
 
     protected EnvironmentMode environmentMode = null;
     protected Boolean daemon = null;
+    protected RestartMode restartMode = null;
+    protected Boolean lazyBestSolutionCloningEnabled = null;
     protected RandomType randomType = null;
     protected Long randomSeed = null;
     protected Class<? extends RandomFactory> randomFactoryClass = null;
     protected String moveThreadCount = null;
     protected Integer moveThreadBufferSize = null;
+    protected Integer moveThreadBatchSize = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
 
     protected Class<?> solutionClass = null;
@@ -316,6 +323,30 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.daemon = daemon;
     }
 
+    public RestartMode getRestartMode() {
+        return restartMode;
+    }
+
+    public void setRestartMode(RestartMode restartMode) {
+        this.restartMode = restartMode;
+    }
+
+    public Boolean getLazyBestSolutionCloningEnabled() {
+        return lazyBestSolutionCloningEnabled;
+    }
+
+    /**
+     * When enabled and no {@link SolverEventListener} is registered,
+     * a Local Search step that improves the best solution doesn't clone it yet.
+     * It is only cloned when a later step doesn't improve it, or when the phase ends.
+     * So a burst of improving steps only causes 1 planning clone.
+     *
+     * @param lazyBestSolutionCloningEnabled null if it should default to false
+     */
+    public void setLazyBestSolutionCloningEnabled(Boolean lazyBestSolutionCloningEnabled) {
+        this.lazyBestSolutionCloningEnabled = lazyBestSolutionCloningEnabled;
+    }
+
     public RandomType getRandomType() {
         return randomType;
     }
@@ -356,6 +387,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.moveThreadBufferSize = moveThreadBufferSize;
     }
 
+    public Integer getMoveThreadBatchSize() {
+        return moveThreadBatchSize;
+    }
+
+    public void setMoveThreadBatchSize(Integer moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+    }
+
     public Class<? extends ThreadFactory> getThreadFactoryClass() {
         return threadFactoryClass;
     }
@@ -442,6 +481,16 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withRestartMode(RestartMode restartMode) {
+        this.restartMode = restartMode;
+        return this;
+    }
+
+    public SolverConfig withLazyBestSolutionCloningEnabled(Boolean lazyBestSolutionCloningEnabled) {
+        this.lazyBestSolutionCloningEnabled = lazyBestSolutionCloningEnabled;
+        return this;
+    }
+
     public SolverConfig withRandomType(RandomType randomType) {
         this.randomType = randomType;
         return this;
@@ -467,6 +516,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withMoveThreadBatchSize(Integer moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+        return this;
+    }
+
     public SolverConfig withThreadFactoryClass(Class<? extends ThreadFactory> threadFactoryClass) {
         this.threadFactoryClass = threadFactoryClass;
         return this;
@@ -599,6 +653,9 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         classLoader = ConfigUtils.inheritOverwritableProperty(classLoader, inheritedConfig.getClassLoader());
         environmentMode = ConfigUtils.inheritOverwritableProperty(environmentMode, inheritedConfig.getEnvironmentMode());
         daemon = ConfigUtils.inheritOverwritableProperty(daemon, inheritedConfig.getDaemon());
+        restartMode = ConfigUtils.inheritOverwritableProperty(restartMode, inheritedConfig.getRestartMode());
+        lazyBestSolutionCloningEnabled = ConfigUtils.inheritOverwritableProperty(lazyBestSolutionCloningEnabled,
+                inheritedConfig.getLazyBestSolutionCloningEnabled());
         randomType = ConfigUtils.inheritOverwritableProperty(randomType, inheritedConfig.getRandomType());
         randomSeed = ConfigUtils.inheritOverwritableProperty(randomSeed, inheritedConfig.getRandomSeed());
         randomFactoryClass = ConfigUtils.inheritOverwritableProperty(randomFactoryClass,
@@ -607,6 +664,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadCount());
         moveThreadBufferSize = ConfigUtils.inheritOverwritableProperty(moveThreadBufferSize,
                 inheritedConfig.getMoveThreadBufferSize());
+        moveThreadBatchSize = ConfigUtils.inheritOverwritableProperty(moveThreadBatchSize,
+                inheritedConfig.getMoveThreadBatchSize());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
@@ -16,19 +16,23 @@
 
 package org.optaplanner.core.config.solver;
 
+import java.time.Duration;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "throttlingDelay"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
@@ -38,9 +42,10 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration throttlingDelay = null;
 
     // Future features:
-    // throttlingDelay
     // congestionStrategy
 
     // ************************************************************************
@@ -66,6 +71,14 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    public Duration getThrottlingDelay() {
+        return throttlingDelay;
+    }
+
+    public void setThrottlingDelay(Duration throttlingDelay) {
+        this.throttlingDelay = throttlingDelay;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -80,6 +93,11 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withThrottlingDelay(Duration throttlingDelay) {
+        this.throttlingDelay = throttlingDelay;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -107,6 +125,17 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return resolvedParallelSolverCount;
     }
 
+    public Duration resolveThrottlingDelay() {
+        if (throttlingDelay == null) {
+            return Duration.ZERO;
+        }
+        if (throttlingDelay.isNegative()) {
+            throw new IllegalArgumentException("The throttlingDelay (" + throttlingDelay
+                    + ") cannot be negative.");
+        }
+        return throttlingDelay;
+    }
+
     protected int getAvailableProcessors() {
         return Runtime.getRuntime().availableProcessors();
     }
@@ -126,6 +155,8 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        throttlingDelay = ConfigUtils.inheritOverwritableProperty(throttlingDelay,
+                inheritedConfig.getThrottlingDelay());
         return this;
     }
 
@@ -21,11 +21,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
@@ -46,6 +47,9 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.thread.ThreadUtils;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
@@ -54,6 +58,7 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     protected final ThreadFactory threadFactory;
     protected final int moveThreadCount;
     protected final int selectedMoveBufferSize;
+    protected final int moveThreadBatchSize;
 
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
@@ -61,17 +66,22 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
 
     protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
-    protected CyclicBarrier moveThreadBarrier;
+    protected Phaser moveThreadBarrier;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
 
+    // Metrics
+    protected final Timer barrierWaitTimer;
+
     public MultiThreadedConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
             ConstructionHeuristicForager<Solution_> forager, ThreadFactory threadFactory, int moveThreadCount,
-            int selectedMoveBufferSize) {
+            int selectedMoveBufferSize, int moveThreadBatchSize) {
         super(logIndentation, termination, forager);
         this.threadFactory = threadFactory;
         this.moveThreadCount = moveThreadCount;
         this.selectedMoveBufferSize = selectedMoveBufferSize;
+        this.moveThreadBatchSize = moveThreadBatchSize;
+        this.barrierWaitTimer = Metrics.timer("optaplanner.solver.move-thread.barrier-wait");
     }
 
     public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
@@ -93,7 +103,7 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
         // Capacity: number of moves in circulation + number of exception handling results
         resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
-        moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        moveThreadBarrier = new Phaser(moveThreadCount);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
         executor = createThreadPoolExecutor();
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
@@ -120,15 +130,21 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
             operationQueue.add(destroyOperation);
         }
         // TODO This should probably be in a finally that spans at least the entire phase, maybe even the entire solve
-        ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multithreaded Local Search");
+        ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multithreaded Construction Heuristic");
         long childThreadsScoreCalculationCount = 0;
+        long barrierWaitTimeNanos = 0L;
         for (MoveThreadRunner<Solution_, ?> moveThreadRunner : moveThreadRunnerList) {
             childThreadsScoreCalculationCount += moveThreadRunner.getCalculationCount();
+            barrierWaitTimeNanos += moveThreadRunner.getBarrierWaitTimeNanos();
         }
         phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
+        barrierWaitTimer.record(barrierWaitTimeNanos, TimeUnit.NANOSECONDS);
+        logger.debug("{}    Move threads waited ({}) ms in total on the move thread barrier.",
+                logIndentation, TimeUnit.NANOSECONDS.toMillis(barrierWaitTimeNanos));
         operationQueue = null;
         resultQueue = null;
         moveThreadRunnerList = null;
+        moveThreadBarrier = null;
     }
 
     protected ExecutorService createThreadPoolExecutor() {
@@ -147,23 +163,34 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         int stepIndex = stepScope.getStepIndex();
         resultQueue.startNextStep(stepIndex);
         int selectingMoveIndex = 0;
+        int dispatchedMoveIndex = 0;
         int foragingMoveIndex = 0;
         Iterator<Move<Solution_>> moveIterator = placement.iterator();
+        // The selected moves that haven't been handed out to a move thread yet
+        List<Move<Solution_>> selectedMoveList = new ArrayList<>(moveThreadBatchSize);
         do {
             boolean moveIteratorEmpty = !moveIterator.hasNext();
             // First fill the buffer so move evaluation can run freely in parallel
             // For reproducibility, the selectedMoveBufferSize always need to be entirely selected,
             // even if some of those moves won't end up being evaluated or foraged
             if (selectingMoveIndex >= selectedMoveBufferSize || moveIteratorEmpty) {
+                if (foragingMoveIndex >= dispatchedMoveIndex && !selectedMoveList.isEmpty()) {
+                    // The move to forage hasn't been handed out yet, so don't wait until its batch is full
+                    dispatchMoves(stepIndex, dispatchedMoveIndex, selectedMoveList);
+                    dispatchedMoveIndex = selectingMoveIndex;
+                }
                 if (forageResult(stepScope, stepIndex)) {
                     break;
                 }
                 foragingMoveIndex++;
             }
             if (!moveIteratorEmpty) {
-                Move<Solution_> selectingMove = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex, selectingMove));
+                selectedMoveList.add(moveIterator.next());
                 selectingMoveIndex++;
+                if (selectedMoveList.size() >= moveThreadBatchSize) {
+                    dispatchMoves(stepIndex, dispatchedMoveIndex, selectedMoveList);
+                    dispatchedMoveIndex = selectingMoveIndex;
+                }
             }
         } while (foragingMoveIndex < selectingMoveIndex);
 
@@ -181,6 +208,20 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         }
     }
 
+    /**
+     * Hands out the selectedMoveList as 1 batch and clears it.
+     *
+     * @param moveIndex the moveIndex of the first move in the selectedMoveList
+     */
+    private void dispatchMoves(int stepIndex, int moveIndex, List<Move<Solution_>> selectedMoveList) {
+        if (selectedMoveList.size() == 1) {
+            operationQueue.add(new MoveEvaluationOperation<>(stepIndex, moveIndex, selectedMoveList.get(0)));
+        } else {
+            operationQueue.add(new MoveEvaluationOperation<>(stepIndex, moveIndex, new ArrayList<>(selectedMoveList)));
+        }
+        selectedMoveList.clear();
+    }
+
     private boolean forageResult(ConstructionHeuristicStepScope<Solution_> stepScope, int stepIndex) {
         OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
         try {
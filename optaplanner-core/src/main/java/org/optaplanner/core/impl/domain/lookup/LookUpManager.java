@@ -16,14 +16,28 @@
 
 package org.optaplanner.core.impl.domain.lookup;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.optaplanner.core.api.domain.lookup.PlanningId;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.heuristic.move.Move;
 
 /**
+ * Besides the {@link LookUpStrategy} based look up,
+ * every working object also gets a dense index when the working objects are reset.
+ * A child thread {@link LookUpManager} (see {@link #linkParentLookUpManager(LookUpManager)})
+ * aligns its working objects to the indexes of its parent,
+ * so {@link Move#rebase(ScoreDirector)} between the parent and its children
+ * only needs an identity hash lookup and an array access,
+ * instead of building a {@link PlanningId} key for every entity and value.
+ * If an object isn't indexed, it falls back to its {@link LookUpStrategy}.
+ *
  * @see PlanningId
  * @see ScoreDirector#lookUpWorkingObject(Object)
  */
@@ -33,12 +47,28 @@ public class LookUpManager {
 
     private Map<Object, Object> idToWorkingObjectMap;
 
+    // Dense index, null if it is not available
+    private Map<Object, Integer> workingObjectIndexMap;
+    private Object[] indexedWorkingObjects;
+    private int indexedWorkingObjectCount;
+    /**
+     * The {@link #workingObjectIndexMap}s of the linked {@link LookUpManager}s (the parent or the children),
+     * which are aligned to the same index.
+     * Children link and unlink from their own thread, hence the {@link CopyOnWriteArrayList}.
+     */
+    private final List<Map<Object, Integer>> linkedWorkingObjectIndexMapList = new CopyOnWriteArrayList<>();
+    private LookUpManager parentLookUpManager = null;
+
     public LookUpManager(LookUpStrategyResolver lookUpStrategyResolver) {
         this.lookUpStrategyResolver = lookUpStrategyResolver;
     }
 
     public void resetWorkingObjects(Collection<Object> allFacts) {
+        clearWorkingObjectIndex();
         idToWorkingObjectMap = new HashMap<>(allFacts.size());
+        workingObjectIndexMap = new IdentityHashMap<>(allFacts.size());
+        indexedWorkingObjects = new Object[allFacts.size()];
+        indexedWorkingObjectCount = 0;
         for (Object fact : allFacts) {
             addWorkingObject(fact);
         }
@@ -47,17 +77,107 @@ public class LookUpManager {
     public void addWorkingObject(Object workingObject) {
         LookUpStrategy lookUpStrategy = lookUpStrategyResolver.determineLookUpStrategy(workingObject);
         lookUpStrategy.addWorkingObject(idToWorkingObjectMap, workingObject);
+        if (parentLookUpManager != null) {
+            // A new working object in a child breaks the alignment with its parent
+            unlinkWorkingObjectIndex();
+        } else if (workingObjectIndexMap != null) {
+            if (indexedWorkingObjectCount == indexedWorkingObjects.length) {
+                indexedWorkingObjects = Arrays.copyOf(indexedWorkingObjects,
+                        Math.max(16, indexedWorkingObjectCount * 2));
+            }
+            workingObjectIndexMap.put(workingObject, indexedWorkingObjectCount);
+            indexedWorkingObjects[indexedWorkingObjectCount] = workingObject;
+            indexedWorkingObjectCount++;
+        }
     }
 
     public void removeWorkingObject(Object workingObject) {
         LookUpStrategy lookUpStrategy = lookUpStrategyResolver.determineLookUpStrategy(workingObject);
         lookUpStrategy.removeWorkingObject(idToWorkingObjectMap, workingObject);
+        if (parentLookUpManager != null) {
+            unlinkWorkingObjectIndex();
+        } else if (workingObjectIndexMap != null) {
+            Integer index = workingObjectIndexMap.remove(workingObject);
+            if (index != null) {
+                // The index is not reused, so the children's indexes stay aligned
+                indexedWorkingObjects[index] = null;
+            }
+        }
     }
 
     public void clearWorkingObjects() {
+        clearWorkingObjectIndex();
         idToWorkingObjectMap = null;
     }
 
+    /**
+     * Aligns the dense index of this child thread {@link LookUpManager} with the one of its parent,
+     * so both can look up each other's working objects through that index.
+     * Must be called after {@link #resetWorkingObjects(Collection)} on both,
+     * while the parent's working objects are not being added or removed.
+     *
+     * @param parentLookUpManager never null, the {@link LookUpManager} of the working solution that was cloned
+     */
+    public void linkParentLookUpManager(LookUpManager parentLookUpManager) {
+        if (parentLookUpManager.workingObjectIndexMap == null || parentLookUpManager.parentLookUpManager != null) {
+            // The parent has no index or is a child itself
+            unlinkWorkingObjectIndex();
+            return;
+        }
+        unlinkWorkingObjectIndex();
+        int parentIndexedWorkingObjectCount = parentLookUpManager.indexedWorkingObjectCount;
+        Object[] parentIndexedWorkingObjects = parentLookUpManager.indexedWorkingObjects;
+        Map<Object, Integer> childWorkingObjectIndexMap = new IdentityHashMap<>(parentIndexedWorkingObjectCount);
+        Object[] childIndexedWorkingObjects = new Object[parentIndexedWorkingObjectCount];
+        for (int i = 0; i < parentIndexedWorkingObjectCount; i++) {
+            Object parentWorkingObject = parentIndexedWorkingObjects[i];
+            if (parentWorkingObject == null) {
+                continue;
+            }
+            LookUpStrategy lookUpStrategy = lookUpStrategyResolver.determineLookUpStrategy(parentWorkingObject);
+            if (lookUpStrategy instanceof NoneLookUpStrategy) {
+                // Left out of the index, so the look up still fails through the fallback
+                continue;
+            }
+            Object childWorkingObject = lookUpStrategy.lookUpWorkingObjectIfExists(idToWorkingObjectMap,
+                    parentWorkingObject);
+            if (childWorkingObject != null) {
+                childWorkingObjectIndexMap.put(childWorkingObject, i);
+                childIndexedWorkingObjects[i] = childWorkingObject;
+            }
+        }
+        workingObjectIndexMap = childWorkingObjectIndexMap;
+        indexedWorkingObjects = childIndexedWorkingObjects;
+        indexedWorkingObjectCount = parentIndexedWorkingObjectCount;
+        linkedWorkingObjectIndexMapList.add(parentLookUpManager.workingObjectIndexMap);
+        this.parentLookUpManager = parentLookUpManager;
+        parentLookUpManager.linkedWorkingObjectIndexMapList.add(childWorkingObjectIndexMap);
+    }
+
+    private void unlinkWorkingObjectIndex() {
+        if (parentLookUpManager != null) {
+            Map<Object, Integer> childWorkingObjectIndexMap = workingObjectIndexMap;
+            parentLookUpManager.linkedWorkingObjectIndexMapList.removeIf(
+                    linkedMap -> linkedMap == childWorkingObjectIndexMap);
+            parentLookUpManager = null;
+            workingObjectIndexMap = null;
+            indexedWorkingObjects = null;
+            indexedWorkingObjectCount = 0;
+        }
+        linkedWorkingObjectIndexMapList.clear();
+    }
+
+    private void clearWorkingObjectIndex() {
+        unlinkWorkingObjectIndex();
+        if (workingObjectIndexMap != null) {
+            // Children that are still linked hold on to this map, so they stop finding these working objects
+            workingObjectIndexMap.clear();
+        }
+        workingObjectIndexMap = null;
+        indexedWorkingObjects = null;
+        indexedWorkingObjectCount = 0;
+    }
+
     /**
      * As defined by {@link ScoreDirector#lookUpWorkingObject(Object)}.
      *
@@ -65,13 +185,18 @@ public class LookUpManager {
      * @return null if externalObject is null
      * @throws IllegalArgumentException if there is no workingObject for externalObject, if it cannot be looked up
      *         or if the externalObject's class is not supported
-     * @throws IllegalStateException if it cannot be looked up
+     * @throws IllegalStateException if it cannot be looked up or if the working objects have been cleared
      * @param <E> the object type
      */
     public <E> E lookUpWorkingObject(E externalObject) {
         if (externalObject == null) {
             return null;
         }
+        assertWorkingObjectsNotCleared(externalObject);
+        E workingObject = lookUpIndexedWorkingObject(externalObject);
+        if (workingObject != null) {
+            return workingObject;
+        }
         LookUpStrategy lookUpStrategy = lookUpStrategyResolver.determineLookUpStrategy(externalObject);
         return lookUpStrategy.lookUpWorkingObject(idToWorkingObjectMap, externalObject);
     }
@@ -82,15 +207,46 @@ public class LookUpManager {
      * @param externalObject sometimes null
      * @return null if externalObject is null or if there is no workingObject for externalObject
      * @throws IllegalArgumentException if it cannot be looked up or if the externalObject's class is not supported
-     * @throws IllegalStateException if it cannot be looked up
+     * @throws IllegalStateException if it cannot be looked up or if the working objects have been cleared
      * @param <E> the object type
      */
     public <E> E lookUpWorkingObjectOrReturnNull(E externalObject) {
         if (externalObject == null) {
             return null;
         }
+        assertWorkingObjectsNotCleared(externalObject);
+        E workingObject = lookUpIndexedWorkingObject(externalObject);
+        if (workingObject != null) {
+            return workingObject;
+        }
         LookUpStrategy lookUpStrategy = lookUpStrategyResolver.determineLookUpStrategy(externalObject);
         return lookUpStrategy.lookUpWorkingObjectIfExists(idToWorkingObjectMap, externalObject);
     }
 
+    private void assertWorkingObjectsNotCleared(Object externalObject) {
+        if (idToWorkingObjectMap == null) {
+            throw new IllegalStateException("The externalObject (" + externalObject
+                    + ") cannot be looked up, because the working objects have been cleared.\n"
+                    + "Maybe the " + ScoreDirector.class.getSimpleName() + " has already been closed.");
+        }
+    }
+
+    /**
+     * @param externalObject never null
+     * @return null if the externalObject is not a working object of a linked {@link LookUpManager}
+     * @param <E> the object type
+     */
+    private <E> E lookUpIndexedWorkingObject(E externalObject) {
+        if (indexedWorkingObjects == null) {
+            return null;
+        }
+        for (Map<Object, Integer> linkedWorkingObjectIndexMap : linkedWorkingObjectIndexMapList) {
+            Integer index = linkedWorkingObjectIndexMap.get(externalObject);
+            if (index != null) {
+                return index < indexedWorkingObjectCount ? (E) indexedWorkingObjects[index] : null;
+            }
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Creates planning clones that reuse the planning entity clones of the previous planning clone
+ * for every planning entity that hasn't changed since then.
+ * <p>
+ * A planning entity clone is only reused if none of its fields were deep cloned,
+ * so it doesn't reference any other planning entity (for example through a chained variable).
+ * The planning clones must never be changed, because a reused planning entity clone is shared with the previous ones.
+ * <p>
+ * This class is not thread-safe: each score director has its own instance.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class IncrementalSolutionCloner<Solution_> extends FieldAccessingSolutionCloner<Solution_> {
+
+    private Map<Object, Object> reusableEntityCloneMap = new IdentityHashMap<>();
+
+    public IncrementalSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor) {
+        super(solutionDescriptor);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * Must be called before a planning variable or problem property of that planning entity changes.
+     *
+     * @param entity never null
+     */
+    public void markEntityChanged(Object entity) {
+        reusableEntityCloneMap.remove(entity);
+    }
+
+    /**
+     * Must be called when an unknown set of planning entities changed,
+     * for example when the working solution is replaced.
+     */
+    public void markAllEntitiesChanged() {
+        reusableEntityCloneMap.clear();
+    }
+
+    /**
+     * Unlike {@link #cloneSolution(Object)}, the clone might share planning entity instances with previous clones.
+     *
+     * @param originalSolution never null
+     * @return never null, planning clone
+     */
+    public Solution_ cloneSolutionIncrementally(Solution_ originalSolution) {
+        IncrementalSolutionClonerRun run = new IncrementalSolutionClonerRun();
+        Solution_ cloneSolution = run.cloneSolution(originalSolution);
+        reusableEntityCloneMap = run.nextReusableEntityCloneMap;
+        return cloneSolution;
+    }
+
+    protected class IncrementalSolutionClonerRun extends FieldAccessingSolutionClonerRun {
+
+        protected Map<Object, Object> nextReusableEntityCloneMap;
+
+        @Override
+        protected Solution_ cloneSolution(Solution_ originalSolution) {
+            nextReusableEntityCloneMap = new IdentityHashMap<>(solutionDescriptor.getEntityCount(originalSolution));
+            return super.cloneSolution(originalSolution);
+        }
+
+        @Override
+        protected <C> C clone(C original) {
+            if (original == null) {
+                return null;
+            }
+            C reusableClone = (C) reusableEntityCloneMap.get(original);
+            if (reusableClone != null) {
+                nextReusableEntityCloneMap.put(original, reusableClone);
+                return reusableClone;
+            }
+            return super.clone(original);
+        }
+
+        @Override
+        protected <C> void copyFields(Class<C> clazz, Class<? extends C> instanceClass, C original, C clone) {
+            if (clazz != instanceClass) {
+                // Called recursively for a superclass
+                super.copyFields(clazz, instanceClass, original, clone);
+                return;
+            }
+            // Every deep cloned field is postponed in the unprocessedQueue, which doesn't shrink meanwhile
+            int unprocessedSize = unprocessedQueue.size();
+            super.copyFields(clazz, instanceClass, original, clone);
+            if (unprocessedQueue.size() == unprocessedSize && solutionDescriptor.hasEntityDescriptor(instanceClass)) {
+                nextReusableEntityCloneMap.put(original, clone);
+            }
+        }
+
+    }
+
+}
@@ -170,6 +170,7 @@ public class SolutionDescriptor<Solution_> {
     private final List<Class<?>> reversedEntityClassList;
     private final ConcurrentMap<Class<?>, EntityDescriptor<Solution_>> lowestEntityDescriptorMemoization =
             new ConcurrentMemoization<>();
+    private int variableDescriptorCount = 0;
 
     private SolutionCloner<Solution_> solutionCloner;
     private boolean assertModelForCloning = false;
@@ -506,6 +507,7 @@ public class SolutionDescriptor<Solution_> {
         for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptorMap.values()) {
             entityDescriptor.linkVariableDescriptors(descriptorPolicy);
         }
+        determineVariableOrdinals();
         determineGlobalShadowOrder();
         // Figure out all problem fact or entity types that are used within this solution,
         // using the knowledge we've already gained by processing all the annotations.
@@ -545,6 +547,17 @@ public class SolutionDescriptor<Solution_> {
         initSolutionCloner(descriptorPolicy);
     }
 
+    private void determineVariableOrdinals() {
+        int ordinal = 0;
+        for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptorMap.values()) {
+            for (VariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getDeclaredVariableDescriptors()) {
+                variableDescriptor.setOrdinal(ordinal);
+                ordinal++;
+            }
+        }
+        variableDescriptorCount = ordinal;
+    }
+
     private void determineGlobalShadowOrder() {
         // Topological sorting with Kahn's algorithm
         List<Pair<ShadowVariableDescriptor<Solution_>, Integer>> pairList = new ArrayList<>();
@@ -766,6 +779,14 @@ public class SolutionDescriptor<Solution_> {
         return entityDescriptor.getVariableDescriptor(variableName);
     }
 
+    /**
+     * @return {@code >= 0}, the number of declared variables (genuine and shadow) of all entity classes,
+     *         so every {@link VariableDescriptor#getOrdinal()} is lower than it
+     */
+    public int getVariableDescriptorCount() {
+        return variableDescriptorCount;
+    }
+
     public VariableDescriptor<Solution_> findVariableDescriptorOrFail(Object entity, String variableName) {
         EntityDescriptor<Solution_> entityDescriptor = findEntityDescriptorOrFail(entity.getClass());
         VariableDescriptor<Solution_> variableDescriptor = entityDescriptor.getVariableDescriptor(variableName);
@@ -34,6 +34,7 @@ public abstract class VariableDescriptor<Solution_> {
 
     protected final MemberAccessor variableMemberAccessor;
     protected final String variableName;
+    protected int ordinal = -1;
 
     protected List<ShadowVariableDescriptor<Solution_>> sinkVariableDescriptorList = new ArrayList<>(4);
 
@@ -65,6 +66,21 @@ public abstract class VariableDescriptor<Solution_> {
         return variableName;
     }
 
+    /**
+     * Unique per {@link VariableDescriptor} within the same
+     * {@link org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor},
+     * so it can be used as an array index instead of a map lookup on a hot path.
+     *
+     * @return {@code >= 0} once the solution descriptor is built, {@code -1} before that
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -16,25 +16,43 @@
 
 package org.optaplanner.core.impl.domain.variable.listener.support;
 
-import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.api.score.director.ScoreDirector;
 
 public class VariableListenerNotifiable implements Comparable<VariableListenerNotifiable> {
 
+    protected static final int INITIAL_BUFFER_CAPACITY = 16;
+
     protected final VariableListener variableListener;
     protected final int globalOrder;
 
+    /**
+     * Only used if {@link VariableListener#requiresUniqueEntityEvents()}, null otherwise.
+     */
     protected final Collection<VariableListenerNotification> notificationQueue;
+    /**
+     * Only used if not {@link VariableListener#requiresUniqueEntityEvents()}, null otherwise.
+     * The entity and type buffers are reused for every step and move,
+     * so no {@link VariableListenerNotification} is created per notification.
+     */
+    protected Object[] entityBuffer;
+    protected VariableListenerNotificationType[] typeBuffer;
+    protected int bufferSize = 0;
 
     public VariableListenerNotifiable(VariableListener variableListener, int globalOrder) {
         this.variableListener = variableListener;
         this.globalOrder = globalOrder;
         if (variableListener.requiresUniqueEntityEvents()) {
             notificationQueue = new SmallScalingOrderedSet<>();
+            entityBuffer = null;
+            typeBuffer = null;
         } else {
-            notificationQueue = new ArrayDeque<>();
+            notificationQueue = null;
+            entityBuffer = new Object[INITIAL_BUFFER_CAPACITY];
+            typeBuffer = new VariableListenerNotificationType[INITIAL_BUFFER_CAPACITY];
         }
     }
 
@@ -46,8 +64,83 @@ public class VariableListenerNotifiable implements Comparable<VariableListenerNo
         return globalOrder;
     }
 
-    public Collection<VariableListenerNotification> getNotificationQueue() {
-        return notificationQueue;
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param entity never null
+     * @param type never null
+     * @return true if the notification was added, false if it is a duplicate
+     *         of a notification that is already queued and {@link VariableListener#requiresUniqueEntityEvents()}
+     */
+    public boolean addNotification(Object entity, VariableListenerNotificationType type) {
+        if (notificationQueue != null) {
+            return notificationQueue.add(new VariableListenerNotification(entity, type));
+        }
+        if (bufferSize == entityBuffer.length) {
+            int newCapacity = bufferSize * 2;
+            entityBuffer = Arrays.copyOf(entityBuffer, newCapacity);
+            typeBuffer = Arrays.copyOf(typeBuffer, newCapacity);
+        }
+        entityBuffer[bufferSize] = entity;
+        typeBuffer[bufferSize] = type;
+        bufferSize++;
+        return true;
+    }
+
+    /**
+     * Calls the after*() methods of the {@link VariableListener} for every queued notification, in order,
+     * and clears the queue.
+     *
+     * @param scoreDirector never null
+     */
+    public void triggerNotifications(ScoreDirector scoreDirector) {
+        if (notificationQueue != null) {
+            int notifiedCount = 0;
+            for (VariableListenerNotification notification : notificationQueue) {
+                notify(scoreDirector, notification.getEntity(), notification.getType());
+                notifiedCount++;
+            }
+            assertNotifiedCount(notifiedCount, notificationQueue.size());
+            notificationQueue.clear();
+        } else {
+            int notifiedCount = bufferSize;
+            for (int i = 0; i < notifiedCount; i++) {
+                notify(scoreDirector, entityBuffer[i], typeBuffer[i]);
+            }
+            assertNotifiedCount(notifiedCount, bufferSize);
+            // Release the entities for garbage collection, the type buffer only holds enum constants
+            Arrays.fill(entityBuffer, 0, bufferSize, null);
+            bufferSize = 0;
+        }
+    }
+
+    private void notify(ScoreDirector scoreDirector, Object entity, VariableListenerNotificationType type) {
+        switch (type) {
+            case ENTITY_ADDED:
+                variableListener.afterEntityAdded(scoreDirector, entity);
+                break;
+            case VARIABLE_CHANGED:
+                variableListener.afterVariableChanged(scoreDirector, entity);
+                break;
+            case ENTITY_REMOVED:
+                variableListener.afterEntityRemoved(scoreDirector, entity);
+                break;
+            default:
+                throw new IllegalStateException("The variableListenerNotificationType ("
+                        + type + ") is not implemented.");
+        }
+    }
+
+    private void assertNotifiedCount(int notifiedCount, int queueSize) {
+        if (notifiedCount != queueSize) {
+            throw new IllegalStateException("The variableListener (" + variableListener.getClass()
+                    + ") has been notified with notifiedCount (" + notifiedCount
+                    + ") but after notification it has different size (" + queueSize + ").\n"
+                    + "Maybe that variableListener (" + variableListener.getClass()
+                    + ") changed an upstream shadow variable (which is illegal).");
+        }
     }
 
     @Override
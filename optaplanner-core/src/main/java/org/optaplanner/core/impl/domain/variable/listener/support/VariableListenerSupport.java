@@ -17,7 +17,6 @@
 package org.optaplanner.core.impl.domain.variable.listener.support;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -46,6 +45,11 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
 
     protected final List<VariableListenerNotifiable> notifiableList;
     protected final Map<VariableDescriptor<Solution_>, List<VariableListenerNotifiable>> sourceVariableToNotifiableMap;
+    /**
+     * Compiled from {@link #sourceVariableToNotifiableMap}, indexed by {@link VariableDescriptor#getOrdinal()},
+     * to avoid a map lookup and an iterator on every {@link #beforeVariableChanged(VariableDescriptor, Object)}.
+     */
+    protected VariableListenerNotifiable[][] sourceVariableNotifiables = new VariableListenerNotifiable[0][];
     protected final Map<EntityDescriptor<Solution_>, List<VariableListenerNotifiable>> sourceEntityToNotifiableMap;
     protected final Map<Demand<Solution_, ?>, Supply> supplyMap;
     protected int nextGlobalOrder = 0;
@@ -97,6 +101,22 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
             }
         }
         Collections.sort(notifiableList);
+        compileSourceVariableNotifiables();
+    }
+
+    private void compileSourceVariableNotifiables() {
+        sourceVariableNotifiables = new VariableListenerNotifiable[
+                scoreDirector.getSolutionDescriptor().getVariableDescriptorCount()][];
+        for (Map.Entry<VariableDescriptor<Solution_>, List<VariableListenerNotifiable>> entry
+                : sourceVariableToNotifiableMap.entrySet()) {
+            compileSourceVariableNotifiables(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void compileSourceVariableNotifiables(VariableDescriptor<Solution_> source,
+            List<VariableListenerNotifiable> variableNotifiableList) {
+        sourceVariableNotifiables[source.getOrdinal()] =
+                variableNotifiableList.toArray(new VariableListenerNotifiable[0]);
     }
 
     @Override
@@ -116,6 +136,7 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                 nextGlobalOrder++;
                 List<VariableListenerNotifiable> variableNotifiableList = sourceVariableToNotifiableMap.get(source);
                 variableNotifiableList.add(notifiable);
+                compileSourceVariableNotifiables(source, variableNotifiableList);
                 List<VariableListenerNotifiable> entityNotifiableList = sourceEntityToNotifiableMap
                         .get(source.getEntityDescriptor());
                 if (!entityNotifiableList.contains(notifiable)) {
@@ -150,9 +171,7 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
     public void beforeEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         List<VariableListenerNotifiable> notifiableList = sourceEntityToNotifiableMap.get(entityDescriptor);
         for (VariableListenerNotifiable notifiable : notifiableList) {
-            Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
-            boolean added = notificationQueue.add(
-                    new VariableListenerNotification(entity, VariableListenerNotificationType.ENTITY_ADDED));
+            boolean added = notifiable.addNotification(entity, VariableListenerNotificationType.ENTITY_ADDED);
             if (added) {
                 notifiable.getVariableListener().beforeEntityAdded(scoreDirector, entity);
             }
@@ -165,14 +184,18 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
     }
 
     public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
-        List<VariableListenerNotifiable> notifiableList = sourceVariableToNotifiableMap.getOrDefault(variableDescriptor,
-                Collections.emptyList()); // Avoids null for chained swap move on an unchained var.
-        for (VariableListenerNotifiable notifiable : notifiableList) {
-            Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
-            boolean added = notificationQueue.add(
-                    new VariableListenerNotification(entity, VariableListenerNotificationType.VARIABLE_CHANGED));
-            if (added) {
-                notifiable.getVariableListener().beforeVariableChanged(scoreDirector, entity);
+        int ordinal = variableDescriptor.getOrdinal();
+        // Avoids null for chained swap move on an unchained var.
+        if (ordinal >= 0 && ordinal < sourceVariableNotifiables.length) {
+            VariableListenerNotifiable[] notifiables = sourceVariableNotifiables[ordinal];
+            if (notifiables != null) {
+                for (VariableListenerNotifiable notifiable : notifiables) {
+                    boolean added = notifiable.addNotification(entity,
+                            VariableListenerNotificationType.VARIABLE_CHANGED);
+                    if (added) {
+                        notifiable.getVariableListener().beforeVariableChanged(scoreDirector, entity);
+                    }
+                }
             }
         }
         notificationQueuesAreEmpty = false;
@@ -185,9 +208,7 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         List<VariableListenerNotifiable> notifiableList = sourceEntityToNotifiableMap.get(entityDescriptor);
         for (VariableListenerNotifiable notifiable : notifiableList) {
-            Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
-            boolean added = notificationQueue.add(
-                    new VariableListenerNotification(entity, VariableListenerNotificationType.ENTITY_REMOVED));
+            boolean added = notifiable.addNotification(entity, VariableListenerNotificationType.ENTITY_REMOVED);
             if (added) {
                 notifiable.getVariableListener().beforeEntityRemoved(scoreDirector, entity);
             }
@@ -201,35 +222,7 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
 
     public void triggerVariableListenersInNotificationQueues() {
         for (VariableListenerNotifiable notifiable : notifiableList) {
-            Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
-            int notifiedCount = 0;
-            VariableListener<Solution_, Object> variableListener = notifiable.getVariableListener();
-            for (VariableListenerNotification notification : notificationQueue) {
-                Object entity = notification.getEntity();
-                switch (notification.getType()) {
-                    case ENTITY_ADDED:
-                        variableListener.afterEntityAdded(scoreDirector, entity);
-                        break;
-                    case VARIABLE_CHANGED:
-                        variableListener.afterVariableChanged(scoreDirector, entity);
-                        break;
-                    case ENTITY_REMOVED:
-                        variableListener.afterEntityRemoved(scoreDirector, entity);
-                        break;
-                    default:
-                        throw new IllegalStateException("The variableListenerNotificationType ("
-                                + notification.getType() + ") is not implemented.");
-                }
-                notifiedCount++;
-            }
-            if (notifiedCount != notificationQueue.size()) {
-                throw new IllegalStateException("The variableListener (" + variableListener.getClass()
-                        + ") has been notified with notifiedCount (" + notifiedCount
-                        + ") but after notification it has different size (" + notificationQueue.size() + ").\n"
-                        + "Maybe that variableListener (" + variableListener.getClass()
-                        + ") changed an upstream shadow variable (which is illegal).");
-            }
-            notificationQueue.clear();
+            notifiable.triggerNotifications(scoreDirector);
         }
         notificationQueuesAreEmpty = true;
     }
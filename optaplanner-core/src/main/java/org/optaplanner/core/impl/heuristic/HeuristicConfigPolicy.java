@@ -40,6 +40,7 @@ public class HeuristicConfigPolicy<Solution_> {
     private final String logIndentation;
     private final Integer moveThreadCount;
     private final Integer moveThreadBufferSize;
+    private final Integer moveThreadBatchSize;
     private final Class<? extends ThreadFactory> threadFactoryClass;
     private final InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory;
 
@@ -47,23 +48,27 @@ public class HeuristicConfigPolicy<Solution_> {
     private ValueSorterManner valueSorterManner = ValueSorterManner.NONE;
     private boolean reinitializeVariableFilterEnabled = false;
     private boolean initializedChainedValueFilterEnabled = false;
+    private boolean moveReuseEnabled = false;
 
     private Map<String, EntityMimicRecorder<Solution_>> entityMimicRecorderMap = new HashMap<>();
     private Map<String, ValueMimicRecorder<Solution_>> valueMimicRecorderMap = new HashMap<>();
 
     public HeuristicConfigPolicy(EnvironmentMode environmentMode, Integer moveThreadCount, Integer moveThreadBufferSize,
-            Class<? extends ThreadFactory> threadFactoryClass,
+            Integer moveThreadBatchSize, Class<? extends ThreadFactory> threadFactoryClass,
             InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory) {
-        this(environmentMode, "", moveThreadCount, moveThreadBufferSize, threadFactoryClass, scoreDirectorFactory);
+        this(environmentMode, "", moveThreadCount, moveThreadBufferSize, moveThreadBatchSize, threadFactoryClass,
+                scoreDirectorFactory);
     }
 
     public HeuristicConfigPolicy(EnvironmentMode environmentMode, String logIndentation, Integer moveThreadCount,
-            Integer moveThreadBufferSize, Class<? extends ThreadFactory> threadFactoryClass,
+            Integer moveThreadBufferSize, Integer moveThreadBatchSize,
+            Class<? extends ThreadFactory> threadFactoryClass,
             InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory) {
         this.environmentMode = environmentMode;
         this.logIndentation = logIndentation;
         this.moveThreadCount = moveThreadCount;
         this.moveThreadBufferSize = moveThreadBufferSize;
+        this.moveThreadBatchSize = moveThreadBatchSize;
         this.threadFactoryClass = threadFactoryClass;
         this.scoreDirectorFactory = scoreDirectorFactory;
     }
@@ -88,6 +93,10 @@ public class HeuristicConfigPolicy<Solution_> {
         return moveThreadBufferSize;
     }
 
+    public Integer getMoveThreadBatchSize() {
+        return moveThreadBatchSize;
+    }
+
     public SolutionDescriptor<Solution_> getSolutionDescriptor() {
         return scoreDirectorFactory.getSolutionDescriptor();
     }
@@ -140,13 +149,21 @@ public class HeuristicConfigPolicy<Solution_> {
         return initializedChainedValueFilterEnabled;
     }
 
+    public boolean isMoveReuseEnabled() {
+        return moveReuseEnabled;
+    }
+
+    public void setMoveReuseEnabled(boolean moveReuseEnabled) {
+        this.moveReuseEnabled = moveReuseEnabled;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
 
     public HeuristicConfigPolicy<Solution_> createPhaseConfigPolicy() {
         return new HeuristicConfigPolicy<>(environmentMode, logIndentation,
-                moveThreadCount, moveThreadBufferSize, threadFactoryClass,
+                moveThreadCount, moveThreadBufferSize, moveThreadBatchSize, threadFactoryClass,
                 scoreDirectorFactory);
     }
 
@@ -159,7 +176,7 @@ public class HeuristicConfigPolicy<Solution_> {
 
     public HeuristicConfigPolicy<Solution_> createChildThreadConfigPolicy(ChildThreadType childThreadType) {
         return new HeuristicConfigPolicy<>(environmentMode, logIndentation + "        ",
-                moveThreadCount, moveThreadBufferSize, threadFactoryClass,
+                moveThreadCount, moveThreadBufferSize, moveThreadBatchSize, threadFactoryClass,
                 scoreDirectorFactory);
     }
 
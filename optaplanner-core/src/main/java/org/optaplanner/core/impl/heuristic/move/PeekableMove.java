@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.move;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.calculator.PeekingIncrementalScoreCalculator;
+import org.optaplanner.core.api.score.calculator.VariableChange;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+
+/**
+ * A {@link Move} that can describe its genuine variable changes without doing them,
+ * so a {@link PeekingIncrementalScoreCalculator} can calculate its score without doing and undoing it.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public interface PeekableMove<Solution_> extends Move<Solution_> {
+
+    /**
+     * Called on the working solution as it is before this move is done.
+     *
+     * @param scoreDirector never null, the {@link ScoreDirector} that would be used to do this move
+     * @return null if this move changes more than its genuine variables (such as a chained variable's trailing entity),
+     *         otherwise the genuine variable changes that {@link #doMove(ScoreDirector)} would do
+     */
+    List<VariableChange> peekVariableChanges(ScoreDirector<Solution_> scoreDirector);
+
+}
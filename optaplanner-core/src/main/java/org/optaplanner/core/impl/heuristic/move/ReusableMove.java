@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.move;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+
+/**
+ * A {@link Move} instance that its {@link MoveSelector} overwrites when it selects the next move,
+ * to avoid allocating a new instance for every selected move.
+ * <p>
+ * Anything that keeps a reference to such a move beyond its evaluation (for example a forager's finalist)
+ * must keep {@link #copyIfReusable(Move)} instead.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public interface ReusableMove<Solution_> extends Move<Solution_> {
+
+    /**
+     * @param move never null
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @return never null, the move itself if neither it nor any of its {@link CompositeMove} children are reused,
+     *         otherwise a copy that is safe to keep
+     */
+    static <Solution_> Move<Solution_> copyIfReusable(Move<Solution_> move) {
+        if (move instanceof ReusableMove) {
+            return ((ReusableMove<Solution_>) move).copy();
+        }
+        if (move instanceof CompositeMove) {
+            Move<Solution_>[] childMoves = ((CompositeMove<Solution_>) move).getMoves();
+            Move<Solution_>[] copiedChildMoves = null;
+            for (int i = 0; i < childMoves.length; i++) {
+                Move<Solution_> copiedChildMove = copyIfReusable(childMoves[i]);
+                if (copiedChildMove != childMoves[i]) {
+                    if (copiedChildMoves == null) {
+                        copiedChildMoves = childMoves.clone();
+                    }
+                    copiedChildMoves[i] = copiedChildMove;
+                }
+            }
+            if (copiedChildMoves != null) {
+                return new CompositeMove<>(copiedChildMoves);
+            }
+        }
+        return move;
+    }
+
+    /**
+     * @return never null, a new instance that isn't reused, with the same state as this move
+     */
+    Move<Solution_> copy();
+
+}
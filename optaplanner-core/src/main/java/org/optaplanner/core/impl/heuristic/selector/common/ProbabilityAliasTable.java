@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
+
+/**
+ * Selects a random selection with a chance proportional to its probabilityWeight
+ * (see {@link SelectionProbabilityWeightFactory}) in {@code O(1)} time,
+ * regardless of the number of selections.
+ * <p>
+ * This is Vose's variant of Walker's alias method:
+ * every column of the table holds 1 selection with a probability
+ * and an alias selection which takes the rest of that column.
+ * Selecting takes 1 {@link Random#nextDouble()}: its integer part picks the column
+ * and its fractional part decides between that column's selection and its alias.
+ * The table is built deterministically, so the same {@link Random} seed results in the same selections.
+ *
+ * @param <T> the selection type
+ */
+public final class ProbabilityAliasTable<T> {
+
+    private final List<T> selectionList;
+    private final double probabilityWeightTotal;
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    private ProbabilityAliasTable(List<T> selectionList, double[] probabilityWeights, double probabilityWeightTotal) {
+        this.selectionList = selectionList;
+        this.probabilityWeightTotal = probabilityWeightTotal;
+        int size = selectionList.size();
+        probabilities = new double[size];
+        aliases = new int[size];
+        if (probabilityWeightTotal <= 0.0) {
+            return;
+        }
+        double[] scaledProbabilities = new double[size];
+        int[] smallStack = new int[size];
+        int smallStackSize = 0;
+        int[] largeStack = new int[size];
+        int largeStackSize = 0;
+        for (int i = 0; i < size; i++) {
+            scaledProbabilities[i] = probabilityWeights[i] * size / probabilityWeightTotal;
+            if (scaledProbabilities[i] < 1.0) {
+                smallStack[smallStackSize++] = i;
+            } else {
+                largeStack[largeStackSize++] = i;
+            }
+        }
+        while (smallStackSize > 0 && largeStackSize > 0) {
+            int small = smallStack[--smallStackSize];
+            int large = largeStack[--largeStackSize];
+            probabilities[small] = scaledProbabilities[small];
+            aliases[small] = large;
+            scaledProbabilities[large] = (scaledProbabilities[large] + scaledProbabilities[small]) - 1.0;
+            if (scaledProbabilities[large] < 1.0) {
+                smallStack[smallStackSize++] = large;
+            } else {
+                largeStack[largeStackSize++] = large;
+            }
+        }
+        while (largeStackSize > 0) {
+            int large = largeStack[--largeStackSize];
+            probabilities[large] = 1.0;
+            aliases[large] = large;
+        }
+        // Only due to floating point rounding errors, their scaled probability is (almost) 1.0
+        while (smallStackSize > 0) {
+            int small = smallStack[--smallStackSize];
+            probabilities[small] = 1.0;
+            aliases[small] = small;
+        }
+    }
+
+    /**
+     * @return {@code >= 0}, the number of selections, including those with a probabilityWeight of 0.0
+     */
+    public int getSize() {
+        return selectionList.size();
+    }
+
+    public double getProbabilityWeightTotal() {
+        return probabilityWeightTotal;
+    }
+
+    /**
+     * @param workingRandom never null
+     * @return never null
+     * @throws IllegalStateException if there is no selection with a probabilityWeight above 0.0
+     */
+    public T sample(Random workingRandom) {
+        if (probabilityWeightTotal <= 0.0) {
+            throw new IllegalStateException("The probabilityWeightTotal (" + probabilityWeightTotal
+                    + ") of the selections (" + selectionList.size() + ") must be positive.\n"
+                    + "Maybe the selection list is empty or the "
+                    + SelectionProbabilityWeightFactory.class.getSimpleName() + " only returns 0.0.");
+        }
+        int size = probabilities.length;
+        double randomOffset = workingRandom.nextDouble() * size;
+        // Math.min() because of floating point rounding errors with a huge size
+        int column = Math.min((int) randomOffset, size - 1);
+        int index = (randomOffset - column) < probabilities[column] ? column : aliases[column];
+        return selectionList.get(index);
+    }
+
+    @Override
+    public String toString() {
+        return "ProbabilityAliasTable(" + selectionList.size() + ")";
+    }
+
+    // ************************************************************************
+    // Builder
+    // ************************************************************************
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static final class Builder<T> {
+
+        private final List<T> selectionList = new ArrayList<>();
+        private double[] probabilityWeights = new double[16];
+        private double probabilityWeightTotal = 0.0;
+
+        private Builder() {
+        }
+
+        /**
+         * @param selection sometimes null
+         * @param probabilityWeight {@code 0.0 <= probabilityWeight <} {@link Double#POSITIVE_INFINITY}
+         * @return this
+         */
+        public Builder<T> add(T selection, double probabilityWeight) {
+            if (!(probabilityWeight >= 0.0) || probabilityWeight == Double.POSITIVE_INFINITY) {
+                throw new IllegalArgumentException("The selection (" + selection
+                        + ") has a probabilityWeight (" + probabilityWeight
+                        + ") which is negative, infinite or not a number.");
+            }
+            int index = selectionList.size();
+            if (index == probabilityWeights.length) {
+                probabilityWeights = Arrays.copyOf(probabilityWeights, index * 2);
+            }
+            selectionList.add(selection);
+            probabilityWeights[index] = probabilityWeight;
+            probabilityWeightTotal += probabilityWeight;
+            return this;
+        }
+
+        public ProbabilityAliasTable<T> build() {
+            return new ProbabilityAliasTable<>(selectionList, probabilityWeights, probabilityWeightTotal);
+        }
+
+    }
+
+}
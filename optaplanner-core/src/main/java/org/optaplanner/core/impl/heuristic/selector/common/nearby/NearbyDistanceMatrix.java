@@ -16,78 +16,306 @@
 
 package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
 
+/**
+ * Holds, per origin, its destinations sorted by ascending nearby distance.
+ * <p>
+ * Each destination is registered once and referenced by its int index,
+ * so every origin only holds an {@code int[]}, which the garbage collector doesn't need to trace.
+ * With a {@link #destinationSizeMaximum}, only that many nearest destinations are kept per origin.
+ * A nearbyIndex beyond that is served by sorting all destinations of that origin again on demand.
+ *
+ * @param <Origin> the type of the origin
+ * @param <Destination> the type of the destination
+ */
 public final class NearbyDistanceMatrix<Origin, Destination> {
 
+    /**
+     * In parallel mode, the destinations of this many origins per available thread are iterated
+     * on the calling thread, before their distances are measured in parallel.
+     * This bounds the memory of the iterated destinations.
+     */
+    private static final int PARALLEL_ORIGIN_BATCH_SIZE_PER_THREAD = 4;
+
     private final NearbyDistanceMeter<Origin, Destination> nearbyDistanceMeter;
-    private final Map<Origin, Destination[]> originToDestinationsMap;
     private final Function<Origin, Iterator<Destination>> destinationIteratorProvider;
     private final ToIntFunction<Origin> destinationSizeFunction;
+    private final int destinationSizeMaximum;
+    private final boolean parallel;
+
+    private final Map<Object, Integer> destinationToIndexMap;
+    private final List<Object> destinationList;
+    private final Map<Origin, int[]> originToDestinationIndexesMap;
+
+    // Fallback for a nearbyIndex of at least destinationSizeMaximum. Only the last such origin is cached,
+    // because the original nearby selection order requests all nearbyIndexes of the same origin consecutively.
+    // Random nearby selection never needs it, because its distribution size maximum is validated not to exceed it.
+    private Origin fallbackOrigin = null;
+    private int[] fallbackDestinationIndexes = null;
 
     public NearbyDistanceMatrix(NearbyDistanceMeter<Origin, Destination> nearbyDistanceMeter, int originSize,
             Function<Origin, Iterator<Destination>> destinationIteratorProvider,
             ToIntFunction<Origin> destinationSizeFunction) {
+        this(nearbyDistanceMeter, originSize, destinationIteratorProvider, destinationSizeFunction,
+                Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * @param nearbyDistanceMeter never null, must be thread-safe if parallel is true
+     * @param originSize {@code >= 0}, the expected number of origins
+     * @param destinationIteratorProvider never null, only called on the calling thread
+     * @param destinationSizeFunction never null
+     * @param destinationSizeMaximum {@code >= 1}, the maximum number of nearest destinations kept per origin,
+     *        {@link Integer#MAX_VALUE} to keep all of them
+     * @param parallel true if {@link #addAllDestinations(Iterator)} measures the distances
+     *        in the {@link ForkJoinPool#commonPool()}
+     */
+    public NearbyDistanceMatrix(NearbyDistanceMeter<Origin, Destination> nearbyDistanceMeter, int originSize,
+            Function<Origin, Iterator<Destination>> destinationIteratorProvider,
+            ToIntFunction<Origin> destinationSizeFunction, int destinationSizeMaximum, boolean parallel) {
+        if (destinationSizeMaximum < 1) {
+            throw new IllegalArgumentException("The destinationSizeMaximum (" + destinationSizeMaximum
+                    + ") must be at least 1.");
+        }
         this.nearbyDistanceMeter = nearbyDistanceMeter;
-        originToDestinationsMap = new HashMap<>(originSize);
         this.destinationIteratorProvider = destinationIteratorProvider;
         this.destinationSizeFunction = destinationSizeFunction;
+        this.destinationSizeMaximum = destinationSizeMaximum;
+        this.parallel = parallel;
+        destinationToIndexMap = new HashMap<>();
+        destinationList = new ArrayList<>();
+        originToDestinationIndexesMap = new HashMap<>(originSize);
     }
 
     public void addAllDestinations(Origin origin) {
         int destinationSize = destinationSizeFunction.applyAsInt(origin);
-        Destination[] destinations = (Destination[]) new Object[destinationSize];
-        double[] distances = new double[destinationSize];
-        Iterator<Destination> destinationIterator = destinationIteratorProvider.apply(origin);
-        int size = 0;
-        double highestDistance = Double.MAX_VALUE;
-        while (destinationIterator.hasNext()) {
-            Destination destination = destinationIterator.next();
-            double distance = nearbyDistanceMeter.getNearbyDistance(origin, destination);
-            if (distance < highestDistance || size < destinationSize) {
-                int insertIndex = Arrays.binarySearch(distances, 0, size, distance);
-                if (insertIndex < 0) {
-                    insertIndex = -insertIndex - 1;
-                } else {
-                    while (insertIndex < size && distances[insertIndex] == distance) {
-                        insertIndex++;
-                    }
-                }
-                if (size < destinationSize) {
-                    size++;
-                }
-                System.arraycopy(destinations, insertIndex, destinations, insertIndex + 1,
-                        size - insertIndex - 1);
-                System.arraycopy(distances, insertIndex, distances, insertIndex + 1,
-                        size - insertIndex - 1);
-                destinations[insertIndex] = destination;
-                distances[insertIndex] = distance;
-                highestDistance = distances[size - 1];
+        Object[] destinations = collectDestinations(origin, destinationSize);
+        int[] nearestPositions = findNearestPositions(origin, destinations,
+                Math.min(destinationSize, destinationSizeMaximum));
+        originToDestinationIndexesMap.put(origin, toDestinationIndexes(destinations, nearestPositions));
+    }
+
+    /**
+     * Equivalent to calling {@link #addAllDestinations(Object)} for every origin,
+     * but measures the distances in parallel if this matrix is parallel.
+     *
+     * @param originIterator never null
+     */
+    public void addAllDestinations(Iterator<Origin> originIterator) {
+        if (!parallel) {
+            originIterator.forEachRemaining(this::addAllDestinations);
+            return;
+        }
+        int originBatchSize = ForkJoinPool.getCommonPoolParallelism() * PARALLEL_ORIGIN_BATCH_SIZE_PER_THREAD;
+        List<Origin> originBatch = new ArrayList<>(originBatchSize);
+        List<Object[]> destinationsBatch = new ArrayList<>(originBatchSize);
+        int[] nearestSizeBatch = new int[originBatchSize];
+        while (originIterator.hasNext()) {
+            originBatch.clear();
+            destinationsBatch.clear();
+            while (originBatch.size() < originBatchSize && originIterator.hasNext()) {
+                Origin origin = originIterator.next();
+                int destinationSize = destinationSizeFunction.applyAsInt(origin);
+                nearestSizeBatch[originBatch.size()] = Math.min(destinationSize, destinationSizeMaximum);
+                originBatch.add(origin);
+                destinationsBatch.add(collectDestinations(origin, destinationSize));
+            }
+            int[][] nearestPositionsBatch = new int[originBatch.size()][];
+            IntStream.range(0, originBatch.size()).parallel()
+                    .forEach(i -> nearestPositionsBatch[i] = findNearestPositions(originBatch.get(i),
+                            destinationsBatch.get(i), nearestSizeBatch[i]));
+            for (int i = 0; i < originBatch.size(); i++) {
+                originToDestinationIndexesMap.put(originBatch.get(i),
+                        toDestinationIndexes(destinationsBatch.get(i), nearestPositionsBatch[i]));
+            }
+        }
+    }
+
+    private Object[] collectDestinations(Origin origin, int destinationSize) {
+        List<Object> destinations = new ArrayList<>(destinationSize);
+        destinationIteratorProvider.apply(origin).forEachRemaining(destinations::add);
+        if (destinations.size() < destinationSize) {
+            throw new IllegalStateException("The destinationIterator's size (" + destinations.size()
+                    + ") is lower than the expected destinationSize (" + destinationSize + ").");
+        }
+        return destinations.toArray();
+    }
+
+    /**
+     * Partially sorts the destinations with a bounded max-heap of the nearestSize nearest destinations,
+     * which takes {@code O(n log(nearestSize))} instead of {@code O(n log(n))}.
+     * Destinations with the same distance keep their iteration order.
+     * <p>
+     * This method is thread-safe if the {@link NearbyDistanceMeter} is thread-safe.
+     *
+     * @param origin never null
+     * @param destinations never null
+     * @param nearestSize {@code 0 <= nearestSize <= destinations.length}
+     * @return never null, the positions in destinations of the nearestSize nearest destinations,
+     *         sorted by ascending distance
+     */
+    private int[] findNearestPositions(Origin origin, Object[] destinations, int nearestSize) {
+        int[] heapPositions = new int[nearestSize];
+        double[] heapDistances = new double[nearestSize];
+        int heapSize = 0;
+        for (int position = 0; position < destinations.length; position++) {
+            double distance = nearbyDistanceMeter.getNearbyDistance(origin, (Destination) destinations[position]);
+            if (heapSize < nearestSize) {
+                siftUp(heapPositions, heapDistances, heapSize, position, distance);
+                heapSize++;
+            } else if (nearestSize > 0 && distance < heapDistances[0]) {
+                // A later position with the same distance as the farthest one is never nearer
+                siftDown(heapPositions, heapDistances, heapSize, position, distance);
+            }
+        }
+        // Heap sort: move the farthest remaining destination to the end
+        for (int end = heapSize - 1; end > 0; end--) {
+            int farthestPosition = heapPositions[0];
+            double farthestDistance = heapDistances[0];
+            siftDown(heapPositions, heapDistances, end, heapPositions[end], heapDistances[end]);
+            heapPositions[end] = farthestPosition;
+            heapDistances[end] = farthestDistance;
+        }
+        return heapPositions;
+    }
+
+    private static void siftUp(int[] heapPositions, double[] heapDistances, int index, int position,
+            double distance) {
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            if (!isFarther(distance, position, heapDistances[parentIndex], heapPositions[parentIndex])) {
+                break;
             }
+            heapPositions[index] = heapPositions[parentIndex];
+            heapDistances[index] = heapDistances[parentIndex];
+            index = parentIndex;
         }
-        if (size != destinationSize) {
-            throw new IllegalStateException("The destinationIterator's size (" + size
-                    + ") differs from the expected destinationSize (" + destinationSize + ").");
+        heapPositions[index] = position;
+        heapDistances[index] = distance;
+    }
+
+    /**
+     * Replaces the root of the heap.
+     */
+    private static void siftDown(int[] heapPositions, double[] heapDistances, int heapSize, int position,
+            double distance) {
+        int index = 0;
+        int childIndex;
+        while ((childIndex = (index << 1) + 1) < heapSize) {
+            int rightChildIndex = childIndex + 1;
+            if (rightChildIndex < heapSize && isFarther(heapDistances[rightChildIndex], heapPositions[rightChildIndex],
+                    heapDistances[childIndex], heapPositions[childIndex])) {
+                childIndex = rightChildIndex;
+            }
+            if (!isFarther(heapDistances[childIndex], heapPositions[childIndex], distance, position)) {
+                break;
+            }
+            heapPositions[index] = heapPositions[childIndex];
+            heapDistances[index] = heapDistances[childIndex];
+            index = childIndex;
+        }
+        heapPositions[index] = position;
+        heapDistances[index] = distance;
+    }
+
+    private static boolean isFarther(double distance, int position, double otherDistance, int otherPosition) {
+        return distance > otherDistance || (distance == otherDistance && position > otherPosition);
+    }
+
+    private int[] toDestinationIndexes(Object[] destinations, int[] nearestPositions) {
+        int[] destinationIndexes = new int[nearestPositions.length];
+        for (int i = 0; i < nearestPositions.length; i++) {
+            Object destination = destinations[nearestPositions[i]];
+            Integer destinationIndex = destinationToIndexMap.get(destination);
+            if (destinationIndex == null) {
+                destinationIndex = destinationList.size();
+                destinationList.add(destination);
+                destinationToIndexMap.put(destination, destinationIndex);
+            }
+            destinationIndexes[i] = destinationIndex;
+        }
+        return destinationIndexes;
+    }
+
+    /**
+     * Registers the destinations before any origin is added,
+     * so the destination index of each destination is its position in the destinationList.
+     *
+     * @param destinationList never null
+     */
+    public void registerDestinations(List<Destination> destinationList) {
+        if (!this.destinationList.isEmpty()) {
+            throw new IllegalStateException("The destinations (" + this.destinationList
+                    + ") have already been registered.");
         }
-        originToDestinationsMap.put(origin, destinations);
+        for (Destination destination : destinationList) {
+            destinationToIndexMap.putIfAbsent(destination, this.destinationList.size());
+            this.destinationList.add(destination);
+        }
+    }
+
+    /**
+     * @param origin never null
+     * @return null if the origin hasn't been added yet, otherwise the indexes of its nearest destinations
+     * @see #registerDestinations(List)
+     */
+    public int[] getDestinationIndexes(Origin origin) {
+        return originToDestinationIndexesMap.get(origin);
+    }
+
+    /**
+     * Adds an origin with destination indexes from an earlier equivalent matrix.
+     *
+     * @param origin never null
+     * @param destinationIndexes never null
+     * @see #registerDestinations(List)
+     */
+    public void putDestinationIndexes(Origin origin, int[] destinationIndexes) {
+        originToDestinationIndexesMap.put(origin, destinationIndexes);
+    }
+
+    public int getDestinationSize(Origin origin) {
+        return destinationSizeFunction.applyAsInt(origin);
+    }
+
+    public int getDestinationSizeMaximum() {
+        return destinationSizeMaximum;
     }
 
     public Object getDestination(Origin origin, int nearbyIndex) {
-        Destination[] destinations = originToDestinationsMap.get(origin);
-        if (destinations == null) {
+        int[] destinationIndexes = originToDestinationIndexesMap.get(origin);
+        if (destinationIndexes == null) {
             /*
              * The item may be missing in the distance matrix due to an underlying filtering selector.
              * In such a case, the distance matrix needs to be updated.
              */
             addAllDestinations(origin);
-            destinations = originToDestinationsMap.get(origin);
+            destinationIndexes = originToDestinationIndexesMap.get(origin);
+        }
+        if (nearbyIndex >= destinationIndexes.length && destinationIndexes.length == destinationSizeMaximum) {
+            destinationIndexes = getFallbackDestinationIndexes(origin);
+        }
+        return destinationList.get(destinationIndexes[nearbyIndex]);
+    }
+
+    private int[] getFallbackDestinationIndexes(Origin origin) {
+        if (fallbackOrigin != origin) {
+            int destinationSize = destinationSizeFunction.applyAsInt(origin);
+            Object[] destinations = collectDestinations(origin, destinationSize);
+            fallbackDestinationIndexes = toDestinationIndexes(destinations,
+                    findNearestPositions(origin, destinations, destinationSize));
+            fallbackOrigin = origin;
         }
-        return destinations[nearbyIndex];
+        return fallbackDestinationIndexes;
     }
 
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Shares the sorted destinations of a {@link NearbyDistanceMatrix} across solver runs in the same JVM,
+ * such as multiple solver jobs of the same problem, or the move threads of 1 solver.
+ * <p>
+ * There is 1 instance per {@link NearbyDistanceMeter} class, which is stored on that class,
+ * so it doesn't keep the class loader of that class (or of the planning entities and problem facts) reachable.
+ * An entry is keyed by the class names and the {@link PlanningId planning ids} of the origins and destinations,
+ * so the same problem facts and entities with the same planning ids must have the same nearby distances.
+ * A solver that restarted because of a problem fact change doesn't use the cache,
+ * because a problem fact change can change the distances without changing any planning id.
+ * The least recently used entries are evicted,
+ * and every entry is softly referenced, so the garbage collector evicts entries too when memory runs low.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class NearbyDistanceMatrixCache {
+
+    private static final int CACHE_SIZE_MAXIMUM = 16;
+
+    private static final ClassValue<NearbyDistanceMatrixCache> INSTANCES = new ClassValue<NearbyDistanceMatrixCache>() {
+        @Override
+        protected NearbyDistanceMatrixCache computeValue(Class<?> nearbyDistanceMeterClass) {
+            return new NearbyDistanceMatrixCache(CACHE_SIZE_MAXIMUM);
+        }
+    };
+
+    /**
+     * @param nearbyDistanceMeterClass never null
+     * @return never null, the cache shared in this JVM by every nearby selection with that nearbyDistanceMeterClass
+     */
+    public static NearbyDistanceMatrixCache getInstance(Class<?> nearbyDistanceMeterClass) {
+        return INSTANCES.get(nearbyDistanceMeterClass);
+    }
+
+    private final Map<Key, SoftReference<int[][]>> cacheMap;
+
+    NearbyDistanceMatrixCache(int cacheSizeMaximum) {
+        cacheMap = new LinkedHashMap<Key, SoftReference<int[][]>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SoftReference<int[][]>> eldest) {
+                return size() > cacheSizeMaximum;
+            }
+        };
+    }
+
+    /**
+     * Adds every origin to the nearbyDistanceMatrix,
+     * either from the cache or by measuring the distances, in which case the result is cached.
+     *
+     * @param nearbyDistanceMatrix never null, without any origins or destinations yet
+     * @param solutionDescriptor never null
+     * @param originList never null, every element must have a {@link PlanningId}
+     * @param destinationList never null, the destinations of every origin,
+     *        every element must have a {@link PlanningId}
+     * @param <Origin> the type of the origin
+     * @param <Destination> the type of the destination
+     */
+    public <Origin, Destination> void addAllDestinations(NearbyDistanceMatrix<Origin, Destination> nearbyDistanceMatrix,
+            SolutionDescriptor<?> solutionDescriptor, List<Origin> originList, List<Destination> destinationList) {
+        nearbyDistanceMatrix.registerDestinations(destinationList);
+        Map<Class<?>, MemberAccessor> planningIdAccessorMap = new HashMap<>();
+        int[] destinationSizes = originList.stream()
+                .mapToInt(nearbyDistanceMatrix::getDestinationSize)
+                .toArray();
+        Key key = new Key(nearbyDistanceMatrix.getDestinationSizeMaximum(), destinationSizes,
+                toPlanningIdList(originList, solutionDescriptor, planningIdAccessorMap),
+                toPlanningIdList(destinationList, solutionDescriptor, planningIdAccessorMap));
+        int[][] destinationIndexesArray = get(key);
+        if (destinationIndexesArray != null) {
+            for (int i = 0; i < originList.size(); i++) {
+                nearbyDistanceMatrix.putDestinationIndexes(originList.get(i), destinationIndexesArray[i]);
+            }
+            return;
+        }
+        nearbyDistanceMatrix.addAllDestinations(originList.iterator());
+        destinationIndexesArray = new int[originList.size()][];
+        for (int i = 0; i < originList.size(); i++) {
+            destinationIndexesArray[i] = nearbyDistanceMatrix.getDestinationIndexes(originList.get(i));
+        }
+        put(key, destinationIndexesArray);
+    }
+
+    private static List<Object> toPlanningIdList(List<?> objectList, SolutionDescriptor<?> solutionDescriptor,
+            Map<Class<?>, MemberAccessor> planningIdAccessorMap) {
+        List<Object> planningIdList = new ArrayList<>(objectList.size());
+        for (Object object : objectList) {
+            Class<?> objectClass = object.getClass();
+            MemberAccessor planningIdAccessor = planningIdAccessorMap.computeIfAbsent(objectClass,
+                    clazz -> ConfigUtils.findPlanningIdMemberAccessor(clazz, solutionDescriptor.getDomainAccessType(),
+                            solutionDescriptor.getGeneratedMemberAccessorMap()));
+            if (planningIdAccessor == null) {
+                throw new IllegalArgumentException("The class (" + objectClass
+                        + ") of the object (" + object + ") has no @" + PlanningId.class.getSimpleName()
+                        + " annotation, which a cached nearby distance matrix requires.\n"
+                        + "Maybe add a @" + PlanningId.class.getSimpleName() + " annotation on that class.\n"
+                        + "Maybe remove the distanceMatrixCached element from the nearbySelection.");
+            }
+            // The class name, because the class would keep its class loader reachable
+            planningIdList.add(Arrays.asList(objectClass.getName(), planningIdAccessor.executeGetter(object)));
+        }
+        return planningIdList;
+    }
+
+    synchronized int[][] get(Key key) {
+        SoftReference<int[][]> reference = cacheMap.get(key);
+        if (reference == null) {
+            return null;
+        }
+        int[][] destinationIndexesArray = reference.get();
+        if (destinationIndexesArray == null) {
+            cacheMap.remove(key);
+        }
+        return destinationIndexesArray;
+    }
+
+    synchronized void put(Key key, int[][] destinationIndexesArray) {
+        cacheMap.put(key, new SoftReference<>(destinationIndexesArray));
+    }
+
+    public synchronized int size() {
+        return cacheMap.size();
+    }
+
+    public synchronized void clear() {
+        cacheMap.clear();
+    }
+
+    static final class Key {
+
+        private final int destinationSizeMaximum;
+        private final int[] destinationSizes;
+        private final List<Object> originPlanningIdList;
+        private final List<Object> destinationPlanningIdList;
+        private final int hashCode;
+
+        Key(int destinationSizeMaximum, int[] destinationSizes,
+                List<Object> originPlanningIdList, List<Object> destinationPlanningIdList) {
+            this.destinationSizeMaximum = destinationSizeMaximum;
+            this.destinationSizes = destinationSizes;
+            this.originPlanningIdList = originPlanningIdList;
+            this.destinationPlanningIdList = destinationPlanningIdList;
+            hashCode = Objects.hash(destinationSizeMaximum, Arrays.hashCode(destinationSizes),
+                    originPlanningIdList, destinationPlanningIdList);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hashCode == other.hashCode
+                    && destinationSizeMaximum == other.destinationSizeMaximum
+                    && Arrays.equals(destinationSizes, other.destinationSizes)
+                    && originPlanningIdList.equals(other.originPlanningIdList)
+                    && destinationPlanningIdList.equals(other.destinationPlanningIdList);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -34,6 +34,24 @@ public class NearbyRandomFactory {
     }
 
     public NearbyRandom buildNearbyRandom(boolean randomSelection) {
+        NearbyRandom nearbyRandom = buildDistributionNearbyRandom(randomSelection);
+        Integer distanceMatrixSizeMaximum = nearbySelectionConfig.getDistanceMatrixSizeMaximum();
+        if (nearbyRandom != null && distanceMatrixSizeMaximum != null
+                && nearbyRandom.getOverallSizeMaximum() > distanceMatrixSizeMaximum) {
+            // Otherwise most selections beyond the distance matrix would sort all destinations of their origin again
+            throw new IllegalArgumentException("The nearbySelectorConfig (" + nearbySelectionConfig
+                    + ") with randomSelection (" + randomSelection
+                    + ") has a distanceMatrixSizeMaximum (" + distanceMatrixSizeMaximum
+                    + ") which is lower than the distribution's overallSizeMaximum ("
+                    + nearbyRandom.getOverallSizeMaximum() + ").\n"
+                    + "Maybe configure a distributionSizeMaximum (such as parabolicDistributionSizeMaximum)"
+                    + " that is not higher than the distanceMatrixSizeMaximum,"
+                    + " or remove the distanceMatrixSizeMaximum.");
+        }
+        return nearbyRandom;
+    }
+
+    private NearbyRandom buildDistributionNearbyRandom(boolean randomSelection) {
         boolean blockDistributionEnabled =
                 nearbySelectionConfig.getNearbySelectionDistributionType() == NearbySelectionDistributionType.BLOCK_DISTRIBUTION
                         || nearbySelectionConfig.getBlockDistributionSizeMinimum() != null
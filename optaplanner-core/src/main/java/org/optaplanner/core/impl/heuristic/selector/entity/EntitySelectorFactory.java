@@ -39,6 +39,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionPr
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSorter;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSorterWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.WeightFactorySelectionSorter;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrixCache;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandomFactory;
@@ -207,8 +208,14 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
                 nearbySelectionConfig.getNearbyDistanceMeterClass());
         // TODO Check nearbyDistanceMeterClass.getGenericInterfaces() to confirm generic type S is an entityClass
         NearbyRandom nearbyRandom = NearbyRandomFactory.create(nearbySelectionConfig).buildNearbyRandom(randomSelection);
+        NearbyDistanceMatrixCache nearbyDistanceMatrixCache =
+                Boolean.TRUE.equals(nearbySelectionConfig.getDistanceMatrixCached())
+                        ? NearbyDistanceMatrixCache.getInstance(nearbyDistanceMeter.getClass())
+                        : null;
         return new NearEntityNearbyEntitySelector<>(entitySelector, originEntitySelector, nearbyDistanceMeter,
-                nearbyRandom, randomSelection);
+                nearbyRandom, randomSelection, nearbySelectionConfig.getDistanceMatrixSizeMaximum(),
+                Boolean.TRUE.equals(nearbySelectionConfig.getDistanceMatrixCalculatedInParallel()),
+                nearbyDistanceMatrixCache);
     }
 
     private EntitySelector<Solution_> applyFiltering(EntitySelector<Solution_> entitySelector) {
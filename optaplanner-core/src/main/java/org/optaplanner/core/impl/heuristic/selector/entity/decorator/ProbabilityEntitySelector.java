@@ -18,19 +18,16 @@ package org.optaplanner.core.impl.heuristic.selector.entity.decorator;
 
 import java.util.Iterator;
 import java.util.ListIterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.common.ProbabilityAliasTable;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.entity.AbstractEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector<Solution_>
@@ -40,8 +37,7 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Object> cachedEntityMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected ProbabilityAliasTable<Object> cachedEntityTable = null;
 
     public ProbabilityEntitySelector(EntitySelector<Solution_> childEntitySelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory) {
@@ -72,21 +68,19 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedEntityMap = new TreeMap<>();
+        ProbabilityAliasTable.Builder<Object> builder = ProbabilityAliasTable.builder();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
         for (Object entity : childEntitySelector) {
             double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(
                     scoreDirector, entity);
-            cachedEntityMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
+            builder.add(entity, probabilityWeight);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
+        cachedEntityTable = builder.build();
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        cachedEntityTable = null;
     }
 
     @Override
@@ -106,7 +100,7 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedEntityTable.getSize();
     }
 
     @Override
@@ -119,10 +113,7 @@ public class ProbabilityEntitySelector<Solution_> extends AbstractEntitySelector
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedEntityTable.sample(workingRandom);
             }
 
             @Override
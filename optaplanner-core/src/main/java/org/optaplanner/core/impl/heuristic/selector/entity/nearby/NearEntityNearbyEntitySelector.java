@@ -16,12 +16,15 @@
 
 package org.optaplanner.core.impl.heuristic.selector.entity.nearby;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ListIterator;
 
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrix;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrixCache;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.entity.AbstractEntitySelector;
@@ -37,12 +40,16 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
     protected final NearbyRandom nearbyRandom;
     protected final boolean randomSelection;
     protected final boolean discardNearbyIndexZero = true; // TODO deactivate me when appropriate
+    protected final Integer distanceMatrixSizeMaximum;
+    protected final boolean distanceMatrixCalculatedInParallel;
+    protected final NearbyDistanceMatrixCache nearbyDistanceMatrixCache;
 
     protected NearbyDistanceMatrix nearbyDistanceMatrix = null;
 
     public NearEntityNearbyEntitySelector(EntitySelector<Solution_> childEntitySelector,
             EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
-            NearbyRandom nearbyRandom, boolean randomSelection) {
+            NearbyRandom nearbyRandom, boolean randomSelection, Integer distanceMatrixSizeMaximum,
+            boolean distanceMatrixCalculatedInParallel, NearbyDistanceMatrixCache nearbyDistanceMatrixCache) {
         this.childEntitySelector = childEntitySelector;
         if (!(originEntitySelector instanceof MimicReplayingEntitySelector)) {
             // In order to select a nearby entity, we must first have something to be near by.
@@ -53,6 +60,9 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
         this.nearbyDistanceMeter = nearbyDistanceMeter;
         this.nearbyRandom = nearbyRandom;
         this.randomSelection = randomSelection;
+        this.distanceMatrixSizeMaximum = distanceMatrixSizeMaximum;
+        this.distanceMatrixCalculatedInParallel = distanceMatrixCalculatedInParallel;
+        this.nearbyDistanceMatrixCache = nearbyDistanceMatrixCache;
         if (randomSelection && nearbyRandom == null) {
             throw new IllegalArgumentException("The entitySelector (" + this
                     + ") with randomSelection (" + randomSelection + ") has no nearbyRandom (" + nearbyRandom + ").");
@@ -87,10 +97,38 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
                     + ") which is higher than Integer.MAX_VALUE.");
         }
 
-        nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize,
-                origin -> childEntitySelector.endingIterator(), origin -> computeDestinationSize(childSize));
-        replayingOriginEntitySelector.endingIterator()
-                .forEachRemaining(origin -> nearbyDistanceMatrix.addAllDestinations(origin));
+        nearbyDistanceMatrix = buildNearbyDistanceMatrix((int) originSize, childSize);
+        if (nearbyDistanceMatrixCache == null
+                // A solver restarts after problem fact changes, which can change distances but not planning ids
+                || phaseScope.getSolverScope().getStartingSolverCount() > 1) {
+            nearbyDistanceMatrix.addAllDestinations(replayingOriginEntitySelector.endingIterator());
+        } else {
+            List<Object> originList = new ArrayList<>((int) originSize);
+            replayingOriginEntitySelector.endingIterator().forEachRemaining(originList::add);
+            List<Object> destinationList = new ArrayList<>((int) childSize);
+            childEntitySelector.endingIterator().forEachRemaining(destinationList::add);
+            nearbyDistanceMatrixCache.addAllDestinations(nearbyDistanceMatrix,
+                    getEntityDescriptor().getSolutionDescriptor(), originList, destinationList);
+        }
+    }
+
+    private NearbyDistanceMatrix buildNearbyDistanceMatrix(int originSize, long childSize) {
+        if (distanceMatrixSizeMaximum == null && !distanceMatrixCalculatedInParallel) {
+            return new NearbyDistanceMatrix(nearbyDistanceMeter, originSize,
+                    origin -> childEntitySelector.endingIterator(), origin -> computeDestinationSize(childSize));
+        }
+        int destinationSizeMaximum;
+        if (distanceMatrixSizeMaximum == null) {
+            destinationSizeMaximum = Integer.MAX_VALUE;
+        } else {
+            // The origin itself is the nearest destination, but it is discarded
+            destinationSizeMaximum = discardNearbyIndexZero && distanceMatrixSizeMaximum < Integer.MAX_VALUE
+                    ? distanceMatrixSizeMaximum + 1
+                    : distanceMatrixSizeMaximum;
+        }
+        return new NearbyDistanceMatrix(nearbyDistanceMeter, originSize,
+                origin -> childEntitySelector.endingIterator(), origin -> computeDestinationSize(childSize),
+                destinationSizeMaximum, distanceMatrixCalculatedInParallel);
     }
 
     private int computeDestinationSize(long childSize) {
@@ -20,29 +20,50 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
 import org.optaplanner.core.config.heuristic.selector.move.generic.SubPillarType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.selector.AbstractSelector;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 /**
+ * The pillars are cached per step.
+ * If the {@link ScoreDirector} notifies this selector of the variable changes,
+ * the pillars of the previous step are updated incrementally:
+ * only the pillars of the entities that changed are rebuilt,
+ * as new lists because the moves of the previous step can still reference the old ones.
+ * The pillars are kept ordered by the index of their first entity in the entity selection,
+ * so the result is the same as rebuilding all pillars from scratch, without sorting them every step.
+ *
  * @see PillarSelector
  */
 public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_>
@@ -57,6 +78,18 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
 
     protected List<List<Object>> cachedBasePillarList = null;
 
+    // Incremental pillar maintenance, only if changeTrackingAvailable
+    protected boolean changeTrackingAvailable = false;
+    protected boolean changeTrackingActive = false;
+    protected boolean pillarCacheStale = true;
+    protected final Set<Object> changedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    protected List<Object> cachedEntityList = null;
+    protected Map<Object, Integer> cachedEntityIndexMap = null;
+    protected Map<Object, List<Object>> cachedEntityToValueStateMap = null;
+    protected Map<List<Object>, List<Object>> cachedValueStateToPillarMap = null;
+    // Key: the index in cachedEntityList of the first entity of the pillar
+    protected NavigableMap<Integer, List<Object>> cachedFirstEntityIndexToPillarMap = null;
+
     public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptors, boolean randomSelection,
             SubPillarConfigPolicy subpillarConfigPolicy) {
@@ -102,6 +135,12 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         }
     }
 
+    private List<Object> getValueState(Object entity) {
+        int variableCount = variableDescriptors.size();
+        return variableCount == 1 ? getSingleVariableValueState(entity, variableDescriptors)
+                : getMultiVariableValueState(entity, variableDescriptors, variableCount);
+    }
+
     private static <Solution_> List<Object> getSingleVariableValueState(Object entity,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptors) {
         Object value = variableDescriptors.get(0).getValue(entity);
@@ -118,6 +157,40 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         return valueState;
     }
 
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        // Without a ScoreDirector (in some tests), the pillars are rebuilt from scratch every step
+        changeTrackingAvailable = scoreDirector != null;
+        if (changeTrackingAvailable) {
+            SupplyManager<Solution_> supplyManager = scoreDirector.getSupplyManager();
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptors) {
+                supplyManager.demand(new PillarChangeDemand(variableDescriptor));
+            }
+        }
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        // Another phase might have changed the working solution without this selector listening
+        changeTrackingActive = changeTrackingAvailable;
+        pillarCacheStale = true;
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        changeTrackingActive = false;
+        changedEntitySet.clear();
+        cachedEntityList = null;
+        cachedEntityIndexMap = null;
+        cachedEntityToValueStateMap = null;
+        cachedValueStateToPillarMap = null;
+        cachedFirstEntityIndexToPillarMap = null;
+    }
+
     // ************************************************************************
     // Cache lifecycle methods
     // ************************************************************************
@@ -140,6 +213,34 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
                     + entitySelector + ") with entitySize (" + entitySize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
+        Collection<List<Object>> pillarLists;
+        if (!changeTrackingActive) {
+            pillarLists = buildValueStateToPillarMap(streamEntities(), (int) entitySize).values();
+        } else {
+            // A (sorted) entity selection that differs from the previous step (for example due to a filter)
+            // would also differ in the order of the pillars, so rebuild those from scratch
+            if (pillarCacheStale || !isSameEntitySelection((int) entitySize)) {
+                rebuildPillarCache(streamEntities()
+                        .collect(Collectors.toCollection(() -> new ArrayList<>((int) entitySize))));
+            } else {
+                updateChangedPillars();
+            }
+            pillarLists = cachedFirstEntityIndexToPillarMap.values();
+            changedEntitySet.clear();
+            pillarCacheStale = false;
+        }
+        // Store the cache. Exclude pillars of size lower than the minimumSubPillarSize, as we shouldn't select those.
+        int minimumSubPillarSize = subpillarConfigPolicy.getMinimumSubPillarSize();
+        if (minimumSubPillarSize > 1) {
+            cachedBasePillarList = pillarLists.stream()
+                    .filter(pillar -> pillar.size() >= minimumSubPillarSize)
+                    .collect(Collectors.toList());
+        } else { // Use shortcut when we don't intend to remove anything.
+            cachedBasePillarList = new ArrayList<>(pillarLists);
+        }
+    }
+
+    private Stream<Object> streamEntities() {
         Stream<Object> entities = StreamSupport.stream(entitySelector.spliterator(), false);
         Comparator<?> comparator = subpillarConfigPolicy.getEntityComparator();
         if (comparator != null) {
@@ -149,25 +250,136 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
              */
             entities = entities.sorted((Comparator<? super Object>) comparator);
         }
+        return entities;
+    }
+
+    private Map<List<Object>, List<Object>> buildValueStateToPillarMap(Stream<Object> entities, int entitySize) {
         // Create all the pillars from a stream of entities; if sorted, the pillars will be sequential.
-        Map<List<Object>, List<Object>> valueStateToPillarMap = new LinkedHashMap<>((int) entitySize);
-        int variableCount = variableDescriptors.size();
+        Map<List<Object>, List<Object>> valueStateToPillarMap = new LinkedHashMap<>(entitySize);
         entities.forEach(entity -> {
-            List<Object> valueState = variableCount == 1 ? getSingleVariableValueState(entity, variableDescriptors)
-                    : getMultiVariableValueState(entity, variableDescriptors, variableCount);
+            List<Object> valueState = getValueState(entity);
             List<Object> pillar = valueStateToPillarMap.computeIfAbsent(valueState, key -> new ArrayList<>());
             pillar.add(entity);
         });
-        // Store the cache. Exclude pillars of size lower than the minimumSubPillarSize, as we shouldn't select those.
-        Collection<List<Object>> pillarLists = valueStateToPillarMap.values();
-        int minimumSubPillarSize = subpillarConfigPolicy.getMinimumSubPillarSize();
-        if (minimumSubPillarSize > 1) {
-            cachedBasePillarList = pillarLists.stream()
-                    .filter(pillar -> pillar.size() >= minimumSubPillarSize)
-                    .collect(Collectors.toList());
-        } else { // Use shortcut when we don't intend to remove anything.
-            cachedBasePillarList = new ArrayList<>(pillarLists);
+        return valueStateToPillarMap;
+    }
+
+    private boolean isSameEntitySelection(int entitySize) {
+        if (entitySize != cachedEntityList.size()) {
+            return false;
+        }
+        if (subpillarConfigPolicy.getEntityComparator() != null) {
+            List<Object> entityList = streamEntities()
+                    .collect(Collectors.toCollection(() -> new ArrayList<>(entitySize)));
+            return isSameEntityOrder(entityList.iterator());
         }
+        // Without sorting, compare the entity selection in place instead of copying it
+        return isSameEntityOrder(entitySelector.iterator());
+    }
+
+    private boolean isSameEntityOrder(Iterator<Object> entityIterator) {
+        for (Object cachedEntity : cachedEntityList) {
+            if (!entityIterator.hasNext() || entityIterator.next() != cachedEntity) {
+                return false;
+            }
+        }
+        return !entityIterator.hasNext();
+    }
+
+    private void rebuildPillarCache(List<Object> entityList) {
+        int entitySize = entityList.size();
+        cachedEntityList = entityList;
+        cachedEntityIndexMap = new IdentityHashMap<>(entitySize);
+        cachedEntityToValueStateMap = new IdentityHashMap<>(entitySize);
+        cachedValueStateToPillarMap = new HashMap<>(entitySize);
+        cachedFirstEntityIndexToPillarMap = new TreeMap<>();
+        for (int i = 0; i < entitySize; i++) {
+            Object entity = entityList.get(i);
+            List<Object> valueState = getValueState(entity);
+            cachedEntityIndexMap.put(entity, i);
+            cachedEntityToValueStateMap.put(entity, valueState);
+            List<Object> pillar = cachedValueStateToPillarMap.get(valueState);
+            if (pillar == null) {
+                pillar = new ArrayList<>();
+                cachedValueStateToPillarMap.put(valueState, pillar);
+                cachedFirstEntityIndexToPillarMap.put(i, pillar);
+            }
+            pillar.add(entity);
+        }
+    }
+
+    private void updateChangedPillars() {
+        // The pillars of the previous step are never modified, because its moves can still reference them
+        Set<List<Object>> copiedPillarSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object entity : changedEntitySet) {
+            List<Object> oldValueState = cachedEntityToValueStateMap.get(entity);
+            if (oldValueState == null) { // Not in the entity selection
+                continue;
+            }
+            List<Object> newValueState = getValueState(entity);
+            if (newValueState.equals(oldValueState)) { // For example, a move that was undone
+                continue;
+            }
+            cachedEntityToValueStateMap.put(entity, newValueState);
+            int entityIndex = cachedEntityIndexMap.get(entity);
+            List<Object> oldPillar = getCopiedPillar(oldValueState, copiedPillarSet);
+            oldPillar.remove(findPillarPosition(oldPillar, entityIndex));
+            if (oldPillar.isEmpty()) {
+                cachedValueStateToPillarMap.remove(oldValueState);
+            } else {
+                cachedFirstEntityIndexToPillarMap.put(cachedEntityIndexMap.get(oldPillar.get(0)), oldPillar);
+            }
+            List<Object> newPillar = getCopiedPillar(newValueState, copiedPillarSet);
+            newPillar.add(findPillarPosition(newPillar, entityIndex), entity);
+            cachedFirstEntityIndexToPillarMap.put(cachedEntityIndexMap.get(newPillar.get(0)), newPillar);
+        }
+    }
+
+    /**
+     * Also removes the pillar from {@link #cachedFirstEntityIndexToPillarMap},
+     * because changing it might change its first entity.
+     *
+     * @param valueState never null
+     * @param copiedPillarSet never null, the pillars that were already copied (or created) during this step
+     * @return never null, a pillar that can be modified
+     */
+    private List<Object> getCopiedPillar(List<Object> valueState, Set<List<Object>> copiedPillarSet) {
+        List<Object> pillar = cachedValueStateToPillarMap.get(valueState);
+        if (pillar == null) {
+            pillar = new ArrayList<>();
+            cachedValueStateToPillarMap.put(valueState, pillar);
+            copiedPillarSet.add(pillar);
+            return pillar;
+        }
+        cachedFirstEntityIndexToPillarMap.remove(cachedEntityIndexMap.get(pillar.get(0)));
+        if (!copiedPillarSet.contains(pillar)) {
+            pillar = new ArrayList<>(pillar);
+            cachedValueStateToPillarMap.put(valueState, pillar);
+            copiedPillarSet.add(pillar);
+        }
+        return pillar;
+    }
+
+    /**
+     * @param pillar never null, sorted by entity index
+     * @param entityIndex the index in {@link #cachedEntityList}
+     * @return the position of that entity in the pillar, or the insertion position if it isn't in the pillar
+     */
+    private int findPillarPosition(List<Object> pillar, int entityIndex) {
+        int low = 0;
+        int high = pillar.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleEntityIndex = cachedEntityIndexMap.get(pillar.get(middle));
+            if (middleEntityIndex < entityIndex) {
+                low = middle + 1;
+            } else if (middleEntityIndex > entityIndex) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return low;
     }
 
     @Override
@@ -265,6 +477,109 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         return getClass().getSimpleName() + "(" + entitySelector + ")";
     }
 
+    /**
+     * Equal for the same selector and variable, so solving again doesn't add another {@link PillarChangeListener}.
+     */
+    private final class PillarChangeDemand implements Demand<Solution_, PillarChangeListener> {
+
+        private final GenuineVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+        public PillarChangeDemand(GenuineVariableDescriptor<Solution_> sourceVariableDescriptor) {
+            this.sourceVariableDescriptor = sourceVariableDescriptor;
+        }
+
+        @Override
+        public PillarChangeListener createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+            return new PillarChangeListener(sourceVariableDescriptor);
+        }
+
+        private DefaultPillarSelector<Solution_> getPillarSelector() {
+            return DefaultPillarSelector.this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (o instanceof DefaultPillarSelector.PillarChangeDemand) {
+                PillarChangeDemand other = (PillarChangeDemand) o;
+                return getPillarSelector() == other.getPillarSelector()
+                        && sourceVariableDescriptor.equals(other.sourceVariableDescriptor);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(DefaultPillarSelector.this), sourceVariableDescriptor);
+        }
+
+    }
+
+    /**
+     * Collects the entities of which the pillar might have changed since the last step.
+     */
+    private final class PillarChangeListener implements SourcedVariableListener<Solution_, Object> {
+
+        private final GenuineVariableDescriptor<Solution_> sourceVariableDescriptor;
+
+        public PillarChangeListener(GenuineVariableDescriptor<Solution_> sourceVariableDescriptor) {
+            this.sourceVariableDescriptor = sourceVariableDescriptor;
+        }
+
+        @Override
+        public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+            return sourceVariableDescriptor;
+        }
+
+        @Override
+        public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+            pillarCacheStale = true;
+        }
+
+        @Override
+        public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+            // Do nothing
+        }
+
+        @Override
+        public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+            // The entity selection changes too
+            pillarCacheStale = true;
+        }
+
+        @Override
+        public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+            // Do nothing
+        }
+
+        @Override
+        public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+            // Ignore move evaluation, only the step changes the pillars
+            if (changeTrackingActive
+                    && !((InnerScoreDirector<Solution_, ?>) scoreDirector).isAllChangesWillBeUndoneBeforeStepEnds()) {
+                changedEntitySet.add(entity);
+            }
+        }
+
+        @Override
+        public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+            // Do nothing
+        }
+
+        @Override
+        public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+            pillarCacheStale = true;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+        }
+
+    }
+
     private class RandomSubPillarIterator extends UpcomingSelectionIterator<List<Object>> {
 
         public RandomSubPillarIterator() {
@@ -17,19 +17,16 @@
 package org.optaplanner.core.impl.heuristic.selector.move.decorator;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.ProbabilityAliasTable;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.AbstractMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Solution_>
@@ -39,8 +36,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory<Solution_, Move<Solution_>> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Move<Solution_>> cachedMoveMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected ProbabilityAliasTable<Move<Solution_>> cachedMoveTable = null;
 
     public ProbabilityMoveSelector(MoveSelector<Solution_> childMoveSelector, SelectionCacheType cacheType,
             SelectionProbabilityWeightFactory<Solution_, ? extends Move<Solution_>> probabilityWeightFactory) {
@@ -72,20 +68,18 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedMoveMap = new TreeMap<>();
+        ProbabilityAliasTable.Builder<Move<Solution_>> builder = ProbabilityAliasTable.builder();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
         for (Move<Solution_> entity : childMoveSelector) {
             double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector, entity);
-            cachedMoveMap.put(probabilityWeightOffset, entity);
-            probabilityWeightOffset += probabilityWeight;
+            builder.add(entity, probabilityWeight);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
+        cachedMoveTable = builder.build();
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        cachedMoveTable = null;
     }
 
     @Override
@@ -100,7 +94,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
     @Override
     public long getSize() {
-        return cachedMoveMap.size();
+        return cachedMoveTable.getSize();
     }
 
     @Override
@@ -113,10 +107,7 @@ public class ProbabilityMoveSelector<Solution_> extends AbstractMoveSelector<Sol
 
             @Override
             public Move<Solution_> next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Move<Solution_>> entry = cachedMoveMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedMoveTable.sample(workingRandom);
             }
 
             @Override
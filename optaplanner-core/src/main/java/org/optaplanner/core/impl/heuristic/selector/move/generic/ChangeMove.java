@@ -18,22 +18,26 @@ package org.optaplanner.core.impl.heuristic.selector.move.generic;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.calculator.VariableChange;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.heuristic.move.PeekableMove;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
+public class ChangeMove<Solution_> extends AbstractMove<Solution_> implements PeekableMove<Solution_> {
 
-    protected final Object entity;
     protected final GenuineVariableDescriptor<Solution_> variableDescriptor;
-    protected final Object toPlanningValue;
+    // Not final because a ReusableChangeMove overwrites them
+    protected Object entity;
+    protected Object toPlanningValue;
 
     public ChangeMove(Object entity, GenuineVariableDescriptor<Solution_> variableDescriptor,
             Object toPlanningValue) {
@@ -78,6 +82,15 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
         innerScoreDirector.afterVariableChanged(variableDescriptor, entity);
     }
 
+    @Override
+    public List<VariableChange> peekVariableChanges(ScoreDirector<Solution_> scoreDirector) {
+        if (variableDescriptor.isChained()) {
+            return null;
+        }
+        return Collections.singletonList(
+                new VariableChange(entity, variableDescriptor.getVariableName(), toPlanningValue));
+    }
+
     @Override
     public ChangeMove<Solution_> rebase(ScoreDirector<Solution_> destinationScoreDirector) {
         return new ChangeMove<>(destinationScoreDirector.lookUpWorkingObject(entity),
@@ -109,11 +122,12 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof ChangeMove)) {
             return false;
         }
         final ChangeMove<?> other = (ChangeMove<?>) o;
-        return Objects.equals(entity, other.entity) &&
+        return getEqualityClass() == other.getEqualityClass() &&
+                Objects.equals(entity, other.entity) &&
                 Objects.equals(variableDescriptor, other.variableDescriptor) &&
                 Objects.equals(toPlanningValue, other.toPlanningValue);
     }
@@ -123,6 +137,13 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
         return Objects.hash(entity, variableDescriptor, toPlanningValue);
     }
 
+    /**
+     * @return never null, only moves of the same equality class can be equal
+     */
+    protected Class<?> getEqualityClass() {
+        return getClass();
+    }
+
     @Override
     public String toString() {
         Object oldValue = variableDescriptor.getValue(entity);
@@ -36,17 +36,31 @@ public class ChangeMoveSelector<Solution_> extends GenericMoveSelector<Solution_
     protected final EntitySelector<Solution_> entitySelector;
     protected final ValueSelector<Solution_> valueSelector;
     protected final boolean randomSelection;
+    protected final boolean moveReuse;
 
     protected final boolean chained;
     protected SingletonInverseVariableSupply inverseVariableSupply = null;
 
     public ChangeMoveSelector(EntitySelector<Solution_> entitySelector, ValueSelector<Solution_> valueSelector,
             boolean randomSelection) {
+        this(entitySelector, valueSelector, randomSelection, false);
+    }
+
+    /**
+     * @param entitySelector never null
+     * @param valueSelector never null
+     * @param randomSelection true if the moves are selected randomly
+     * @param moveReuse true if a random, non chained selection overwrites the same {@link ReusableChangeMove}
+     *        for every selected move, only to be used if every retained move is copied
+     */
+    public ChangeMoveSelector(EntitySelector<Solution_> entitySelector, ValueSelector<Solution_> valueSelector,
+            boolean randomSelection, boolean moveReuse) {
         this.entitySelector = entitySelector;
         this.valueSelector = valueSelector;
         this.randomSelection = randomSelection;
         GenuineVariableDescriptor<Solution_> variableDescriptor = valueSelector.getVariableDescriptor();
         chained = variableDescriptor.isChained();
+        this.moveReuse = moveReuse && randomSelection && !chained;
         phaseLifecycleSupport.addEventListener(entitySelector);
         phaseLifecycleSupport.addEventListener(valueSelector);
     }
@@ -129,6 +143,15 @@ public class ChangeMoveSelector<Solution_> extends GenericMoveSelector<Solution_
                         return new ChainedChangeMove<>(entity, variableDescriptor, inverseVariableSupply, toValue);
                     }
                 };
+            } else if (moveReuse) {
+                final ReusableChangeMove<Solution_> reusableMove = new ReusableChangeMove<>(variableDescriptor);
+                return new AbstractRandomChangeIterator<Solution_, Move<Solution_>>(entitySelector, valueSelector) {
+                    @Override
+                    protected Move<Solution_> newChangeSelection(Object entity, Object toValue) {
+                        reusableMove.reset(entity, toValue);
+                        return reusableMove;
+                    }
+                };
             } else {
                 return new AbstractRandomChangeIterator<Solution_, Move<Solution_>>(entitySelector, valueSelector) {
                     @Override
@@ -64,7 +64,8 @@ public class ChangeMoveSelectorFactory<Solution_>
         ValueSelector<Solution_> valueSelector = valueSelectorFactory.buildValueSelector(configPolicy,
                 entitySelector.getEntityDescriptor(),
                 minimumCacheType, SelectionOrder.fromRandomSelectionBoolean(randomSelection));
-        return new ChangeMoveSelector<>(entitySelector, valueSelector, randomSelection);
+        return new ChangeMoveSelector<>(entitySelector, valueSelector, randomSelection,
+                configPolicy.isMoveReuseEnabled());
     }
 
     @Override
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.ReusableMove;
+
+/**
+ * A {@link ChangeMove} that a {@link ChangeMoveSelector} overwrites for every selected move.
+ * Its undo move is reused too.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see ReusableMove
+ */
+public class ReusableChangeMove<Solution_> extends ChangeMove<Solution_> implements ReusableMove<Solution_> {
+
+    private ReusableChangeMove<Solution_> undoMove = null;
+
+    public ReusableChangeMove(GenuineVariableDescriptor<Solution_> variableDescriptor) {
+        super(null, variableDescriptor, null);
+    }
+
+    public void reset(Object entity, Object toPlanningValue) {
+        this.entity = entity;
+        this.toPlanningValue = toPlanningValue;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public ChangeMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        if (undoMove == null) {
+            undoMove = new ReusableChangeMove<>(variableDescriptor);
+            // The undo of the undo move restores this move's toPlanningValue, so it is this move
+            undoMove.undoMove = this;
+        }
+        undoMove.reset(entity, variableDescriptor.getValue(entity));
+        return undoMove;
+    }
+
+    @Override
+    public ChangeMove<Solution_> copy() {
+        return new ChangeMove<>(entity, variableDescriptor, toPlanningValue);
+    }
+
+    /**
+     * @return {@link ChangeMove}, so this move equals its {@link #copy()}, for example in a tabu list
+     */
+    @Override
+    protected Class<?> getEqualityClass() {
+        return ChangeMove.class;
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.ReusableMove;
+
+/**
+ * A {@link SwapMove} that a {@link SwapMoveSelector} overwrites for every selected move.
+ * Its undo move is reused too.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see ReusableMove
+ */
+public class ReusableSwapMove<Solution_> extends SwapMove<Solution_> implements ReusableMove<Solution_> {
+
+    private ReusableSwapMove<Solution_> undoMove = null;
+
+    public ReusableSwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList) {
+        super(variableDescriptorList, null, null);
+    }
+
+    public void reset(Object leftEntity, Object rightEntity) {
+        this.leftEntity = leftEntity;
+        this.rightEntity = rightEntity;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public SwapMove<Solution_> createUndoMove(ScoreDirector<Solution_> scoreDirector) {
+        if (undoMove == null) {
+            undoMove = new ReusableSwapMove<>(variableDescriptorList);
+            // The undo of the undo move swaps the entities back in this move's order, so it is this move
+            undoMove.undoMove = this;
+        }
+        undoMove.reset(rightEntity, leftEntity);
+        return undoMove;
+    }
+
+    @Override
+    public SwapMove<Solution_> copy() {
+        return new SwapMove<>(variableDescriptorList, leftEntity, rightEntity);
+    }
+
+    /**
+     * @return {@link SwapMove}, so this move equals its {@link #copy()}, for example in a tabu list
+     */
+    @Override
+    protected Class<?> getEqualityClass() {
+        return SwapMove.class;
+    }
+
+}
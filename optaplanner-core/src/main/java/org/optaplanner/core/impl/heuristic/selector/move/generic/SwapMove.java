@@ -24,21 +24,24 @@ import java.util.Objects;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.ValueRange;
+import org.optaplanner.core.api.score.calculator.VariableChange;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.heuristic.move.PeekableMove;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class SwapMove<Solution_> extends AbstractMove<Solution_> {
+public class SwapMove<Solution_> extends AbstractMove<Solution_> implements PeekableMove<Solution_> {
 
     protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
 
-    protected final Object leftEntity;
-    protected final Object rightEntity;
+    // Not final because a ReusableSwapMove overwrites them
+    protected Object leftEntity;
+    protected Object rightEntity;
 
     public SwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, Object leftEntity, Object rightEntity) {
         this.variableDescriptorList = variableDescriptorList;
@@ -120,6 +123,24 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
         }
     }
 
+    @Override
+    public List<VariableChange> peekVariableChanges(ScoreDirector<Solution_> scoreDirector) {
+        List<VariableChange> variableChangeList = new ArrayList<>(variableDescriptorList.size() * 2);
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
+            if (variableDescriptor.isChained()) {
+                return null;
+            }
+            Object oldLeftValue = variableDescriptor.getValue(leftEntity);
+            Object oldRightValue = variableDescriptor.getValue(rightEntity);
+            if (!Objects.equals(oldLeftValue, oldRightValue)) {
+                String variableName = variableDescriptor.getVariableName();
+                variableChangeList.add(new VariableChange(leftEntity, variableName, oldRightValue));
+                variableChangeList.add(new VariableChange(rightEntity, variableName, oldLeftValue));
+            }
+        }
+        return variableChangeList;
+    }
+
     // ************************************************************************
     // Introspection methods
     // ************************************************************************
@@ -157,11 +178,12 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof SwapMove)) {
             return false;
         }
         final SwapMove<?> swapMove = (SwapMove<?>) o;
-        return Objects.equals(variableDescriptorList, swapMove.variableDescriptorList) &&
+        return getEqualityClass() == swapMove.getEqualityClass() &&
+                Objects.equals(variableDescriptorList, swapMove.variableDescriptorList) &&
                 Objects.equals(leftEntity, swapMove.leftEntity) &&
                 Objects.equals(rightEntity, swapMove.rightEntity);
     }
@@ -171,6 +193,13 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
         return Objects.hash(variableDescriptorList, leftEntity, rightEntity);
     }
 
+    /**
+     * @return never null, only moves of the same equality class can be equal
+     */
+    protected Class<?> getEqualityClass() {
+        return getClass();
+    }
+
     @Override
     public String toString() {
         StringBuilder s = new StringBuilder(variableDescriptorList.size() * 16);
@@ -38,12 +38,27 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
     protected final EntitySelector<Solution_> rightEntitySelector;
     protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
     protected final boolean randomSelection;
+    protected final boolean moveReuse;
 
     protected final boolean anyChained;
     protected List<SingletonInverseVariableSupply> inverseVariableSupplyList = null;
 
     public SwapMoveSelector(EntitySelector<Solution_> leftEntitySelector, EntitySelector<Solution_> rightEntitySelector,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, boolean randomSelection) {
+        this(leftEntitySelector, rightEntitySelector, variableDescriptorList, randomSelection, false);
+    }
+
+    /**
+     * @param leftEntitySelector never null
+     * @param rightEntitySelector never null
+     * @param variableDescriptorList never null, never empty
+     * @param randomSelection true if the moves are selected randomly
+     * @param moveReuse true if a random, non chained selection overwrites the same {@link ReusableSwapMove}
+     *        for every selected move, only to be used if every retained move is copied
+     */
+    public SwapMoveSelector(EntitySelector<Solution_> leftEntitySelector, EntitySelector<Solution_> rightEntitySelector,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, boolean randomSelection,
+            boolean moveReuse) {
         this.leftEntitySelector = leftEntitySelector;
         this.rightEntitySelector = rightEntitySelector;
         this.variableDescriptorList = variableDescriptorList;
@@ -75,6 +90,7 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
             }
         }
         this.anyChained = anyChained;
+        this.moveReuse = moveReuse && randomSelection && !anyChained;
         phaseLifecycleSupport.addEventListener(leftEntitySelector);
         if (leftEntitySelector != rightEntitySelector) {
             phaseLifecycleSupport.addEventListener(rightEntitySelector);
@@ -144,6 +160,16 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
                             : new SwapMove<>(variableDescriptorList, leftSubSelection, rightSubSelection);
                 }
             };
+        } else if (moveReuse) {
+            final ReusableSwapMove<Solution_> reusableMove = new ReusableSwapMove<>(variableDescriptorList);
+            return new AbstractRandomSwapIterator<Solution_, Move<Solution_>, Object>(leftEntitySelector,
+                    rightEntitySelector) {
+                @Override
+                protected Move<Solution_> newSwapSelection(Object leftSubSelection, Object rightSubSelection) {
+                    reusableMove.reset(leftSubSelection, rightSubSelection);
+                    return reusableMove;
+                }
+            };
         } else {
             return new AbstractRandomSwapIterator<Solution_, Move<Solution_>, Object>(leftEntitySelector,
                     rightEntitySelector) {
@@ -60,7 +60,7 @@ public class SwapMoveSelectorFactory<Solution_>
         List<GenuineVariableDescriptor<Solution_>> variableDescriptorList =
                 deduceVariableDescriptorList(leftEntitySelector.getEntityDescriptor(), config.getVariableNameIncludeList());
         return new SwapMoveSelector<>(leftEntitySelector, rightEntitySelector, variableDescriptorList,
-                randomSelection);
+                randomSelection, configPolicy.isMoveReuseEnabled());
     }
 
     @Override
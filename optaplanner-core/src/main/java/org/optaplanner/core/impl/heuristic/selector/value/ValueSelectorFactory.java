@@ -40,6 +40,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionPr
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSorter;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSorterWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.WeightFactorySelectionSorter;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrixCache;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandomFactory;
@@ -484,8 +485,14 @@ public class ValueSelectorFactory<Solution_>
         // TODO Check nearbyDistanceMeterClass.getGenericInterfaces() to confirm generic type S is an entityClass
         NearbyRandom nearbyRandom =
                 NearbyRandomFactory.create(config.getNearbySelectionConfig()).buildNearbyRandom(randomSelection);
+        NearbyDistanceMatrixCache nearbyDistanceMatrixCache =
+                Boolean.TRUE.equals(nearbySelectionConfig.getDistanceMatrixCached())
+                        ? NearbyDistanceMatrixCache.getInstance(nearbyDistanceMeter.getClass())
+                        : null;
         return new NearEntityNearbyValueSelector<>(valueSelector, originEntitySelector, nearbyDistanceMeter,
-                nearbyRandom, randomSelection);
+                nearbyRandom, randomSelection, nearbySelectionConfig.getDistanceMatrixSizeMaximum(),
+                Boolean.TRUE.equals(nearbySelectionConfig.getDistanceMatrixCalculatedInParallel()),
+                nearbyDistanceMatrixCache);
     }
 
     private ValueSelector<Solution_> applyMimicRecording(HeuristicConfigPolicy<Solution_> configPolicy,
@@ -17,19 +17,16 @@
 package org.optaplanner.core.impl.heuristic.selector.value.decorator;
 
 import java.util.Iterator;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.common.ProbabilityAliasTable;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.value.AbstractValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
-import org.optaplanner.core.impl.solver.random.RandomUtils;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<Solution_>
@@ -39,8 +36,7 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
     protected final SelectionCacheType cacheType;
     protected final SelectionProbabilityWeightFactory<Solution_, Object> probabilityWeightFactory;
 
-    protected NavigableMap<Double, Object> cachedEntityMap = null;
-    protected double probabilityWeightTotal = -1.0;
+    protected ProbabilityAliasTable<Object> cachedValueTable = null;
 
     public ProbabilityValueSelector(EntityIndependentValueSelector<Solution_> childValueSelector,
             SelectionCacheType cacheType,
@@ -72,21 +68,19 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
-        cachedEntityMap = new TreeMap<>();
+        ProbabilityAliasTable.Builder<Object> builder = ProbabilityAliasTable.builder();
         ScoreDirector<Solution_> scoreDirector = solverScope.getScoreDirector();
-        double probabilityWeightOffset = 0L;
         // TODO Fail-faster if a non FromSolutionPropertyValueSelector is used
         for (Object value : childValueSelector) {
             double probabilityWeight = probabilityWeightFactory.createProbabilityWeight(scoreDirector, value);
-            cachedEntityMap.put(probabilityWeightOffset, value);
-            probabilityWeightOffset += probabilityWeight;
+            builder.add(value, probabilityWeight);
         }
-        probabilityWeightTotal = probabilityWeightOffset;
+        cachedValueTable = builder.build();
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
-        probabilityWeightTotal = -1.0;
+        cachedValueTable = null;
     }
 
     @Override
@@ -111,7 +105,7 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
 
     @Override
     public long getSize() {
-        return cachedEntityMap.size();
+        return cachedValueTable.getSize();
     }
 
     @Override
@@ -129,10 +123,7 @@ public class ProbabilityValueSelector<Solution_> extends AbstractValueSelector<S
 
             @Override
             public Object next() {
-                double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-                Map.Entry<Double, Object> entry = cachedEntityMap.floorEntry(randomOffset);
-                // entry is never null because randomOffset < probabilityWeightTotal
-                return entry.getValue();
+                return cachedValueTable.sample(workingRandom);
             }
 
             @Override
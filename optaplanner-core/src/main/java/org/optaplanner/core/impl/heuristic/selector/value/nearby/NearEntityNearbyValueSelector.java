@@ -16,16 +16,21 @@
 
 package org.optaplanner.core.impl.heuristic.selector.value.nearby;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrix;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrixCache;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyRandom;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.entity.mimic.MimicReplayingEntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.value.AbstractValueSelector;
+import org.optaplanner.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
 import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 
@@ -37,12 +42,16 @@ public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValu
     protected final NearbyRandom nearbyRandom;
     protected final boolean randomSelection;
     protected final boolean discardNearbyIndexZero;
+    protected final Integer distanceMatrixSizeMaximum;
+    protected final boolean distanceMatrixCalculatedInParallel;
+    protected final NearbyDistanceMatrixCache nearbyDistanceMatrixCache;
 
     protected NearbyDistanceMatrix nearbyDistanceMatrix = null;
 
     public NearEntityNearbyValueSelector(ValueSelector<Solution_> childValueSelector,
             EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
-            NearbyRandom nearbyRandom, boolean randomSelection) {
+            NearbyRandom nearbyRandom, boolean randomSelection, Integer distanceMatrixSizeMaximum,
+            boolean distanceMatrixCalculatedInParallel, NearbyDistanceMatrixCache nearbyDistanceMatrixCache) {
         this.childValueSelector = childValueSelector;
         if (!(originEntitySelector instanceof MimicReplayingEntitySelector)) {
             // In order to select a nearby value, we must first have something to be near by.
@@ -57,6 +66,15 @@ public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValu
             throw new IllegalArgumentException("The valueSelector (" + this
                     + ") with randomSelection (" + randomSelection + ") has no nearbyRandom (" + nearbyRandom + ").");
         }
+        this.distanceMatrixSizeMaximum = distanceMatrixSizeMaximum;
+        this.distanceMatrixCalculatedInParallel = distanceMatrixCalculatedInParallel;
+        if (nearbyDistanceMatrixCache != null && !(childValueSelector instanceof EntityIndependentValueSelector)) {
+            throw new IllegalArgumentException("The valueSelector (" + this
+                    + ") with a nearbyDistanceMatrixCache needs to be based on an "
+                    + EntityIndependentValueSelector.class.getSimpleName() + " (" + childValueSelector + ")."
+                    + " Check your @" + ValueRangeProvider.class.getSimpleName() + " annotations.");
+        }
+        this.nearbyDistanceMatrixCache = nearbyDistanceMatrixCache;
         discardNearbyIndexZero = childValueSelector.getVariableDescriptor().getVariablePropertyType().isAssignableFrom(
                 originEntitySelector.getEntityDescriptor().getEntityClass());
         phaseLifecycleSupport.addEventListener(childValueSelector);
@@ -78,10 +96,39 @@ public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValu
                     + ") has an entitySize (" + originSize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
-        nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize,
-                childValueSelector::endingIterator, this::computeDestinationSize);
-        replayingOriginEntitySelector.endingIterator()
-                .forEachRemaining(origin -> nearbyDistanceMatrix.addAllDestinations(origin));
+        nearbyDistanceMatrix = buildNearbyDistanceMatrix((int) originSize);
+        if (nearbyDistanceMatrixCache == null
+                // A solver restarts after problem fact changes, which can change distances but not planning ids
+                || phaseScope.getSolverScope().getStartingSolverCount() > 1) {
+            nearbyDistanceMatrix.addAllDestinations(replayingOriginEntitySelector.endingIterator());
+        } else {
+            List<Object> originList = new ArrayList<>((int) originSize);
+            replayingOriginEntitySelector.endingIterator().forEachRemaining(originList::add);
+            // The destinations don't depend on the origin
+            List<Object> destinationList = new ArrayList<>();
+            childValueSelector.endingIterator(null).forEachRemaining(destinationList::add);
+            nearbyDistanceMatrixCache.addAllDestinations(nearbyDistanceMatrix,
+                    getVariableDescriptor().getEntityDescriptor().getSolutionDescriptor(), originList, destinationList);
+        }
+    }
+
+    private NearbyDistanceMatrix buildNearbyDistanceMatrix(int originSize) {
+        if (distanceMatrixSizeMaximum == null && !distanceMatrixCalculatedInParallel) {
+            return new NearbyDistanceMatrix(nearbyDistanceMeter, originSize,
+                    childValueSelector::endingIterator, this::computeDestinationSize);
+        }
+        int destinationSizeMaximum;
+        if (distanceMatrixSizeMaximum == null) {
+            destinationSizeMaximum = Integer.MAX_VALUE;
+        } else {
+            // The origin itself is usually the nearest destination, but it is discarded
+            destinationSizeMaximum = discardNearbyIndexZero && distanceMatrixSizeMaximum < Integer.MAX_VALUE
+                    ? distanceMatrixSizeMaximum + 1
+                    : distanceMatrixSizeMaximum;
+        }
+        return new NearbyDistanceMatrix(nearbyDistanceMeter, originSize,
+                childValueSelector::endingIterator, this::computeDestinationSize, destinationSizeMaximum,
+                distanceMatrixCalculatedInParallel);
     }
 
     private int computeDestinationSize(Object origin) {
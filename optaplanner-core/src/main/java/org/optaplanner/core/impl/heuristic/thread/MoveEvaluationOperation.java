@@ -16,18 +16,30 @@
 
 package org.optaplanner.core.impl.heuristic.thread;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.optaplanner.core.impl.heuristic.move.Move;
 
 public class MoveEvaluationOperation<Solution_> extends MoveThreadOperation<Solution_> {
 
     private final int stepIndex;
     private final int moveIndex;
-    private final Move<Solution_> move;
+    private final List<Move<Solution_>> moveList;
 
     public MoveEvaluationOperation(int stepIndex, int moveIndex, Move<Solution_> move) {
+        this(stepIndex, moveIndex, Collections.singletonList(move));
+    }
+
+    /**
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0, the moveIndex of the first move, the others have consecutive moveIndexes
+     * @param moveList never null, never empty
+     */
+    public MoveEvaluationOperation(int stepIndex, int moveIndex, List<Move<Solution_>> moveList) {
         this.stepIndex = stepIndex;
         this.moveIndex = moveIndex;
-        this.move = move;
+        this.moveList = moveList;
     }
 
     public int getStepIndex() {
@@ -38,8 +50,8 @@ public class MoveEvaluationOperation<Solution_> extends MoveThreadOperation<Solu
         return moveIndex;
     }
 
-    public Move<Solution_> getMove() {
-        return move;
+    public List<Move<Solution_>> getMoveList() {
+        return moveList;
     }
 
 }
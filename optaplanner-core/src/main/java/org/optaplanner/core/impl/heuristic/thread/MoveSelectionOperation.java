@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+/**
+ * Tells a move thread that selects its own moves to select and evaluate its next moves.
+ * The moveIndexes are assigned by the solver thread, so the results are foraged in a reproducible order.
+ */
+public class MoveSelectionOperation<Solution_> extends MoveThreadOperation<Solution_> {
+
+    private final int stepIndex;
+    private final int moveIndex;
+    private final int moveCount;
+
+    /**
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0, the moveIndex of the first move, the others have consecutive moveIndexes
+     * @param moveCount at least 1
+     */
+    public MoveSelectionOperation(int stepIndex, int moveIndex, int moveCount) {
+        this.stepIndex = stepIndex;
+        this.moveIndex = moveIndex;
+        this.moveCount = moveCount;
+    }
+
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    public int getMoveIndex() {
+        return moveIndex;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+}
@@ -16,14 +16,21 @@
 
 package org.optaplanner.core.impl.heuristic.thread;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.BrokenBarrierException;
-import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +38,10 @@ import org.slf4j.LoggerFactory;
 public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MoveThreadRunner.class);
+    /**
+     * Spreads the per step seeds of a move thread's own move selector, see {@link #startMoveSelectionStep(int)}.
+     */
+    private static final long STEP_SEED_INCREMENT = 0x9E3779B97F4A7C15L;
 
     private final String logIndentation;
     private final int moveThreadIndex;
@@ -38,7 +49,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
 
     private final BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
     private final OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
-    private final CyclicBarrier moveThreadBarrier;
+    private final Phaser moveThreadBarrier;
 
     private final boolean assertMoveScoreFromScratch;
     private final boolean assertExpectedUndoMoveScore;
@@ -48,11 +59,23 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
 
     private InnerScoreDirector<Solution_, Score_> scoreDirector = null;
     private AtomicLong calculationCount = new AtomicLong(-1);
+    // Only accessed by the move thread itself, published through barrierWaitTimeNanos on destroy
+    private long barrierWaitTimeNanosSum = 0L;
+    private AtomicLong barrierWaitTimeNanos = new AtomicLong(-1);
+
+    // Only used if this move thread selects its own moves (instead of the solver thread selecting them)
+    private MoveSelector<Solution_> moveSelector = null;
+    private long moveSelectorSeed = 0L;
+    private Random moveSelectorRandom = null;
+    private SolverScope<Solution_> moveSelectorSolverScope = null;
+    private LocalSearchPhaseScope<Solution_> moveSelectorPhaseScope = null;
+    private LocalSearchStepScope<Solution_> moveSelectorStepScope = null;
+    private Iterator<Move<Solution_>> moveIterator = null;
 
     public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
             BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
             OrderByMoveIndexBlockingQueue<Solution_> resultQueue,
-            CyclicBarrier moveThreadBarrier,
+            Phaser moveThreadBarrier,
             boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
             boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
             boolean assertShadowVariablesAreNotStaleAfterStep) {
@@ -69,6 +92,19 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
     }
 
+    /**
+     * Makes this move thread select its own moves when it takes a {@link MoveSelectionOperation},
+     * instead of only evaluating the moves of a {@link MoveEvaluationOperation}.
+     * Must be called before this runner is submitted.
+     *
+     * @param moveSelector never null, not shared with the solver thread or any other move thread
+     * @param moveSelectorSeed the seed of the moveSelector's working random, must be reproducible
+     */
+    public void setMoveSelector(MoveSelector<Solution_> moveSelector, long moveSelectorSeed) {
+        this.moveSelector = moveSelector;
+        this.moveSelectorSeed = moveSelectorSeed;
+    }
+
     @Override
     public void run() {
         try {
@@ -85,30 +121,37 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
 
                 if (operation instanceof SetupOperation) {
                     SetupOperation<Solution_, Score_> setupOperation = (SetupOperation<Solution_, Score_>) operation;
+                    // Don't consume another operation until every moveThread took this SetupOperation,
+                    // but do the setup while the other move threads are still taking theirs
+                    int barrierPhase = moveThreadBarrier.arrive();
                     scoreDirector = setupOperation.getScoreDirector()
                             .createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
                     stepIndex = 0;
                     lastStepScore = scoreDirector.calculateScore();
                     LOGGER.trace("{}            Move thread ({}) setup: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
-                    try {
-                        // Don't consume another operation until every moveThread took this SetupOperation
-                        moveThreadBarrier.await();
-                    } catch (InterruptedException | BrokenBarrierException e) {
-                        Thread.currentThread().interrupt();
+                    if (moveSelector != null) {
+                        startMoveSelection();
+                    }
+                    if (!awaitMoveThreadBarrier(barrierPhase)) {
                         break;
                     }
                 } else if (operation instanceof DestroyOperation) {
                     LOGGER.trace("{}            Move thread ({}) destroy: step index ({}).",
                             logIndentation, moveThreadIndex, stepIndex);
                     calculationCount.set(scoreDirector.getCalculationCount());
+                    barrierWaitTimeNanos.set(barrierWaitTimeNanosSum);
+                    if (moveSelector != null) {
+                        endMoveSelection();
+                    }
                     break;
                 } else if (operation instanceof ApplyStepOperation) {
-                    // TODO Performance gain with specialized 2-phase cyclic barrier:
-                    // As soon as the last move thread has taken its ApplyStepOperation,
-                    // other move threads can already depart from the moveThreadStepBarrier: no need to wait until the step is done.
                     ApplyStepOperation<Solution_, Score_> applyStepOperation =
                             (ApplyStepOperation<Solution_, Score_>) operation;
+                    // Don't consume a MoveEvaluationOperation until every moveThread took this ApplyStepOperation.
+                    // Arrive before doing the step, so the barrier advances as soon as the last move thread
+                    // has taken its ApplyStepOperation: there's no need to wait until every other step is done.
+                    int barrierPhase = moveThreadBarrier.arrive();
                     if (stepIndex + 1 != applyStepOperation.getStepIndex()) {
                         throw new IllegalStateException("Impossible situation: the moveThread's stepIndex (" + stepIndex
                                 + ") is not followed by the operation's stepIndex ("
@@ -120,13 +163,13 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     step.doMove(scoreDirector);
                     predictWorkingStepScore(step, score);
                     lastStepScore = score;
+                    if (moveSelector != null) {
+                        endMoveSelectionStep(step, score);
+                        startMoveSelectionStep(stepIndex);
+                    }
                     LOGGER.trace("{}            Move thread ({}) step: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
-                    try {
-                        // Don't consume an MoveEvaluationOperation until every moveThread took this ApplyStepOperation
-                        moveThreadBarrier.await();
-                    } catch (InterruptedException | BrokenBarrierException e) {
-                        Thread.currentThread().interrupt();
+                    if (!awaitMoveThreadBarrier(barrierPhase)) {
                         break;
                     }
                 } else if (operation instanceof MoveEvaluationOperation) {
@@ -138,20 +181,49 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                                 + moveEvaluationOperation.getStepIndex() + ") with moveIndex ("
                                 + moveIndex + ").");
                     }
-                    Move<Solution_> move = moveEvaluationOperation.getMove().rebase(scoreDirector);
-                    if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
-                        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex);
-                        resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
-                    } else {
-                        Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
-                        if (assertExpectedUndoMoveScore) {
-                            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+                    List<Move<Solution_>> moveList = moveEvaluationOperation.getMoveList();
+                    List<OrderByMoveIndexBlockingQueue.MoveResult<Solution_>> resultList =
+                            new ArrayList<>(moveList.size());
+                    for (int i = 0; i < moveList.size(); i++) {
+                        Move<Solution_> move = moveList.get(i).rebase(scoreDirector);
+                        resultList.add(evaluateMove(stepIndex, moveIndex + i, move, lastStepScore));
+                    }
+                    // Deliberately add to fail fast if there is not enough capacity (which is impossible)
+                    resultQueue.addMoveResultList(stepIndex, resultList);
+                } else if (operation instanceof MoveSelectionOperation) {
+                    MoveSelectionOperation<Solution_> moveSelectionOperation = (MoveSelectionOperation<Solution_>) operation;
+                    int moveIndex = moveSelectionOperation.getMoveIndex();
+                    if (stepIndex != moveSelectionOperation.getStepIndex()) {
+                        throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
+                                + stepIndex + ") differs from the operation's stepIndex ("
+                                + moveSelectionOperation.getStepIndex() + ") with moveIndex ("
+                                + moveIndex + ").");
+                    }
+                    if (moveSelector == null) {
+                        throw new IllegalStateException("Impossible situation: the moveThread (" + moveThreadIndex
+                                + ") received a " + MoveSelectionOperation.class.getSimpleName()
+                                + " but it has no moveSelector.");
+                    }
+                    int moveCount = moveSelectionOperation.getMoveCount();
+                    List<OrderByMoveIndexBlockingQueue.MoveResult<Solution_>> resultList = new ArrayList<>(moveCount);
+                    int endedMoveIndex = -1;
+                    for (int i = 0; i < moveCount; i++) {
+                        if (!moveIterator.hasNext()) {
+                            endedMoveIndex = moveIndex + i;
+                            break;
                         }
-                        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
-                        // Deliberately add to fail fast if there is not enough capacity (which is impossible)
-                        resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+                        // No need to rebase: the moveSelector selects from this move thread's own working solution
+                        Move<Solution_> move = moveIterator.next();
+                        resultList.add(evaluateMove(stepIndex, moveIndex + i, move, lastStepScore));
+                    }
+                    if (!resultList.isEmpty()) {
+                        resultQueue.addMoveResultList(stepIndex, resultList);
+                    }
+                    if (endedMoveIndex >= 0) {
+                        LOGGER.trace("{}            Move thread ({}) selection: step index ({}), move index ({}),"
+                                + " move selector ended.",
+                                logIndentation, moveThreadIndex, stepIndex, endedMoveIndex);
+                        resultQueue.addMoveSelectorEnded(moveThreadIndex, stepIndex, endedMoveIndex);
                     }
                 } else {
                     throw new IllegalStateException("Unknown operation (" + operation + ").");
@@ -172,6 +244,87 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         }
     }
 
+    private OrderByMoveIndexBlockingQueue.MoveResult<Solution_> evaluateMove(int stepIndex, int moveIndex,
+            Move<Solution_> move, Score_ lastStepScore) {
+        if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
+            LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
+                    logIndentation, moveThreadIndex, stepIndex, moveIndex);
+            return new OrderByMoveIndexBlockingQueue.MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move,
+                    false, null);
+        }
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+        Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+        if (assertExpectedUndoMoveScore) {
+            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+        }
+        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
+                logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
+        return new OrderByMoveIndexBlockingQueue.MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move,
+                true, score);
+    }
+
+    // ************************************************************************
+    // Move selection on the move thread
+    // ************************************************************************
+
+    private void startMoveSelection() {
+        moveSelectorRandom = new Random(moveSelectorSeed);
+        moveSelectorSolverScope = new SolverScope<>();
+        moveSelectorSolverScope.setScoreDirector(scoreDirector);
+        moveSelectorSolverScope.setWorkingRandom(moveSelectorRandom);
+        moveSelector.solvingStarted(moveSelectorSolverScope);
+        moveSelectorPhaseScope = new LocalSearchPhaseScope<>(moveSelectorSolverScope);
+        moveSelector.phaseStarted(moveSelectorPhaseScope);
+        startMoveSelectionStep(0);
+    }
+
+    private void startMoveSelectionStep(int stepIndex) {
+        // Reseed per step: the solver thread discards unevaluated selections at the end of every step,
+        // so the number of moves this thread selected during the previous step isn't reproducible
+        moveSelectorRandom.setSeed(moveSelectorSeed + (stepIndex + 1L) * STEP_SEED_INCREMENT);
+        moveSelectorStepScope = new LocalSearchStepScope<>(moveSelectorPhaseScope, stepIndex);
+        moveSelector.stepStarted(moveSelectorStepScope);
+        moveIterator = moveSelector.iterator();
+    }
+
+    private void endMoveSelectionStep(Move<Solution_> step, Score_ score) {
+        moveSelectorStepScope.setStep(step);
+        moveSelectorStepScope.setScore(score);
+        moveSelector.stepEnded(moveSelectorStepScope);
+        moveSelectorPhaseScope.setLastCompletedStepScope(moveSelectorStepScope);
+    }
+
+    private void endMoveSelection() {
+        moveSelector.phaseEnded(moveSelectorPhaseScope);
+        moveSelector.solvingEnded(moveSelectorSolverScope);
+        moveIterator = null;
+        moveSelectorStepScope = null;
+        moveSelectorPhaseScope = null;
+        moveSelectorSolverScope = null;
+        moveSelectorRandom = null;
+    }
+
+    /**
+     * Waits (spinning first, then parking) until every move thread has arrived at the given barrier phase.
+     * Only the time spent waiting is measured, not the work done between arriving and awaiting.
+     *
+     * @param barrierPhase the phase returned by {@link Phaser#arrive()}
+     * @return false if the move thread got interrupted while waiting
+     */
+    private boolean awaitMoveThreadBarrier(int barrierPhase) {
+        long startNanos = System.nanoTime();
+        try {
+            moveThreadBarrier.awaitAdvanceInterruptibly(barrierPhase);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            barrierWaitTimeNanosSum += System.nanoTime() - startNanos;
+        }
+    }
+
     protected void predictWorkingStepScore(Move<Solution_> step, Score_ score) {
         // There is no need to recalculate the score, but we still need to set it
         scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), score);
@@ -201,6 +354,17 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         return calculationCount;
     }
 
+    /**
+     * This method is thread-safe.
+     *
+     * @return at least 0, the total time in nanoseconds this move thread waited on the other move threads
+     * at the setup and step barriers
+     */
+    public long getBarrierWaitTimeNanos() {
+        long barrierWaitTimeNanos = this.barrierWaitTimeNanos.get();
+        return barrierWaitTimeNanos == -1L ? 0L : barrierWaitTimeNanos;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "-" + moveThreadIndex;
@@ -16,7 +16,9 @@
 
 package org.optaplanner.core.impl.heuristic.thread;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -26,7 +28,11 @@ import org.optaplanner.core.impl.heuristic.move.Move;
 
 public class OrderByMoveIndexBlockingQueue<Solution_> {
 
-    private final BlockingQueue<MoveResult<Solution_>> innerQueue;
+    /**
+     * Each element is a batch of results from a single move thread, usually just 1 result,
+     * so a batch of evaluated moves costs only 1 handoff.
+     */
+    private final BlockingQueue<List<MoveResult<Solution_>>> innerQueue;
     private final Map<Integer, MoveResult<Solution_>> backlog;
 
     private int filterStepIndex = Integer.MIN_VALUE;
@@ -49,7 +55,8 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
                         + ") must be less than the stepIndex (" + stepIndex + ")");
             }
             filterStepIndex = stepIndex;
-            MoveResult<Solution_> exceptionResult = innerQueue.stream().filter(MoveResult::hasThrownException)
+            MoveResult<Solution_> exceptionResult = innerQueue.stream().flatMap(List::stream)
+                    .filter(MoveResult::hasThrownException)
                     .findFirst().orElse(null);
             if (exceptionResult != null) {
                 throw new IllegalStateException("The move thread with moveThreadIndex ("
@@ -79,7 +86,7 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
                 // Discard element from previous step
                 return;
             }
-            innerQueue.add(result);
+            innerQueue.add(Collections.singletonList(result));
         }
     }
 
@@ -100,7 +107,47 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
                 // Discard element from previous step
                 return;
             }
-            innerQueue.add(result);
+            innerQueue.add(Collections.singletonList(result));
+        }
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     * Only used when the move thread selects its own moves:
+     * signals that its move selector has no more moves for this step.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @see BlockingQueue#add(Object)
+     */
+    public void addMoveSelectorEnded(int moveThreadIndex, int stepIndex, int moveIndex) {
+        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, null, false, null);
+        synchronized (this) {
+            if (result.getStepIndex() != filterStepIndex) {
+                // Discard element from previous step
+                return;
+            }
+            innerQueue.add(Collections.singletonList(result));
+        }
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     * Adds the results of a batch of moves with a single handoff.
+     *
+     * @param stepIndex at least 0, the stepIndex of every result
+     * @param resultList never null, never empty, built with
+     *        {@link MoveResult#MoveResult(int, int, int, Move, boolean, Score)}
+     * @see BlockingQueue#add(Object)
+     */
+    public void addMoveResultList(int stepIndex, List<MoveResult<Solution_>> resultList) {
+        synchronized (this) {
+            if (stepIndex != filterStepIndex) {
+                // Discard elements from previous step
+                return;
+            }
+            innerQueue.add(resultList);
         }
     }
 
@@ -116,7 +163,7 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
     public void addExceptionThrown(int moveThreadIndex, Throwable throwable) {
         MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, throwable);
         synchronized (this) {
-            innerQueue.add(result);
+            innerQueue.add(Collections.singletonList(result));
         }
     }
 
@@ -137,19 +184,25 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             }
         }
         while (true) {
-            MoveResult<Solution_> result = innerQueue.take();
-            // If 2 exceptions are added from different threads concurrently, either one could end up first.
-            // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
-            if (result.hasThrownException()) {
-                throw new IllegalStateException("The move thread with moveThreadIndex ("
-                        + result.getMoveThreadIndex() + ") has thrown an exception."
-                        + " Relayed here in the parent thread.",
-                        result.getThrowable());
+            List<MoveResult<Solution_>> resultList = innerQueue.take();
+            MoveResult<Solution_> takenResult = null;
+            for (MoveResult<Solution_> result : resultList) {
+                // If 2 exceptions are added from different threads concurrently, either one could end up first.
+                // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
+                if (result.hasThrownException()) {
+                    throw new IllegalStateException("The move thread with moveThreadIndex ("
+                            + result.getMoveThreadIndex() + ") has thrown an exception."
+                            + " Relayed here in the parent thread.",
+                            result.getThrowable());
+                }
+                if (result.getMoveIndex() == moveIndex) {
+                    takenResult = result;
+                } else {
+                    backlog.put(result.getMoveIndex(), result);
+                }
             }
-            if (result.getMoveIndex() == moveIndex) {
-                return result;
-            } else {
-                backlog.put(result.getMoveIndex(), result);
+            if (takenResult != null) {
+                return takenResult;
             }
         }
     }
@@ -201,6 +254,16 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             return moveIndex;
         }
 
+        /**
+         * @return true if there is no move, because the move thread's own move selector ran out of moves
+         */
+        public boolean isMoveSelectorEnded() {
+            return move == null && throwable == null;
+        }
+
+        /**
+         * @return null if {@link #isMoveSelectorEnded()}
+         */
         public Move<Solution_> getMove() {
             return move;
         }
@@ -102,7 +102,7 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
         Move<Solution_> undoStep = step.doMove(stepScope.getScoreDirector());
         stepScope.setUndoStep(undoStep);
         predictWorkingStepScore(stepScope, step);
-        bestSolutionRecaller.processWorkingSolutionDuringStep(stepScope);
+        bestSolutionRecaller.processWorkingSolutionDuringStep(stepScope, step, undoStep);
     }
 
     @Override
@@ -18,8 +18,10 @@ package org.optaplanner.core.impl.localsearch;
 
 import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ThreadFactory;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -60,6 +62,16 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
     public LocalSearchPhase<Solution_> buildPhase(int phaseIndex, HeuristicConfigPolicy<Solution_> solverConfigPolicy,
             BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination<Solution_> solverTermination) {
         HeuristicConfigPolicy<Solution_> phaseConfigPolicy = solverConfigPolicy.createPhaseConfigPolicy();
+        if (Boolean.TRUE.equals(phaseConfig.getMoveReuseEnabled())) {
+            if (phaseConfigPolicy.getMoveThreadCount() != null) {
+                throw new IllegalArgumentException("The localSearchPhaseConfig (" + phaseConfig
+                        + ") with moveReuseEnabled (" + phaseConfig.getMoveReuseEnabled()
+                        + ") is not supported with a moveThreadCount (" + phaseConfigPolicy.getMoveThreadCount()
+                        + "), because the move threads evaluate moves after the next move is selected.\n"
+                        + "Maybe remove the moveReuseEnabled or the moveThreadCount.");
+            }
+            phaseConfigPolicy.setMoveReuseEnabled(true);
+        }
         DefaultLocalSearchPhase<Solution_> phase =
                 new DefaultLocalSearchPhase<>(phaseIndex, solverConfigPolicy.getLogIndentation(), bestSolutionRecaller,
                         buildPhaseTermination(phaseConfigPolicy, solverTermination));
@@ -92,6 +104,12 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         LocalSearchDecider<Solution_> decider;
         if (moveThreadCount == null) {
+            if (Boolean.TRUE.equals(phaseConfig.getMoveSelectionOnMoveThreads())) {
+                throw new IllegalArgumentException("The localSearchPhaseConfig (" + phaseConfig
+                        + ") with moveSelectionOnMoveThreads (" + phaseConfig.getMoveSelectionOnMoveThreads()
+                        + ") requires a moveThreadCount (" + moveThreadCount + ").\n"
+                        + "Maybe configure a moveThreadCount or remove the moveSelectionOnMoveThreads.");
+            }
             decider = new LocalSearchDecider<>(configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager);
         } else {
             Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
@@ -101,11 +119,24 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
                 // If it's too high, more moves are selected that aren't foraged
                 moveThreadBufferSize = 10;
             }
+            Integer moveThreadBatchSize = configPolicy.getMoveThreadBatchSize();
+            if (moveThreadBatchSize == null) {
+                // Every move is handed out to a move thread separately
+                moveThreadBatchSize = 1;
+            } else if (moveThreadBatchSize < 1) {
+                throw new IllegalArgumentException("The moveThreadBatchSize (" + moveThreadBatchSize
+                        + ") must be at least 1.");
+            }
             ThreadFactory threadFactory = configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD);
-            int selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
+            // The moveThreadBufferSize is the number of batches per move thread
+            int selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize * moveThreadBatchSize;
             MultiThreadedLocalSearchDecider<Solution_> multiThreadedDecider = new MultiThreadedLocalSearchDecider<>(
                     configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager,
-                    threadFactory, moveThreadCount, selectedMoveBufferSize);
+                    threadFactory, moveThreadCount, selectedMoveBufferSize, moveThreadBatchSize);
+            if (Boolean.TRUE.equals(phaseConfig.getMoveSelectionOnMoveThreads())) {
+                multiThreadedDecider.setMoveThreadMoveSelectorList(
+                        buildMoveThreadMoveSelectorList(configPolicy, moveSelector, moveThreadCount));
+            }
             if (environmentMode.isNonIntrusiveFullAsserted()) {
                 multiThreadedDecider.setAssertStepScoreFromScratch(true);
             }
@@ -124,6 +155,24 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
         return decider;
     }
 
+    private List<MoveSelector<Solution_>> buildMoveThreadMoveSelectorList(HeuristicConfigPolicy<Solution_> configPolicy,
+            MoveSelector<Solution_> moveSelector, int moveThreadCount) {
+        if (!moveSelector.isNeverEnding()) {
+            throw new IllegalStateException("The localSearchPhaseConfig (" + phaseConfig
+                    + ") with moveSelectionOnMoveThreads (" + phaseConfig.getMoveSelectionOnMoveThreads()
+                    + ") has a moveSelector (" + moveSelector
+                    + ") that isn't neverEnding, so every move thread would select the same moves.\n"
+                    + "Maybe use a moveSelector with selectionOrder RANDOM.");
+        }
+        List<MoveSelector<Solution_>> moveThreadMoveSelectorList = new ArrayList<>(moveThreadCount);
+        for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            // Each move thread needs its own selector instances, including its own mimic recorders
+            moveThreadMoveSelectorList.add(buildMoveSelector(
+                    configPolicy.createChildThreadConfigPolicy(ChildThreadType.MOVE_THREAD)));
+        }
+        return moveThreadMoveSelectorList;
+    }
+
     protected Acceptor<Solution_> buildAcceptor(HeuristicConfigPolicy<Solution_> configPolicy) {
         LocalSearchAcceptorConfig acceptorConfig_;
         if (phaseConfig.getAcceptorConfig() != null) {
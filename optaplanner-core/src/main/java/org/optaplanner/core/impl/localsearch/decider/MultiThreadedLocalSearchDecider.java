@@ -21,11 +21,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
@@ -34,6 +35,7 @@ import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.heuristic.thread.ApplyStepOperation;
 import org.optaplanner.core.impl.heuristic.thread.DestroyOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveSelectionOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
 import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
@@ -47,6 +49,9 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.thread.ThreadUtils;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
@@ -55,24 +60,48 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
     protected final ThreadFactory threadFactory;
     protected final int moveThreadCount;
     protected final int selectedMoveBufferSize;
+    protected final int moveThreadBatchSize;
 
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
 
+    /**
+     * Null if the solver thread selects all moves. Otherwise, every move thread selects its own moves.
+     */
+    protected List<MoveSelector<Solution_>> moveThreadMoveSelectorList = null;
+
+    /**
+     * If false, a foraged move is only rebased to the solver thread if it becomes the step.
+     */
+    protected boolean foragedMoveRebased;
+
+    /**
+     * Null if every move thread selects its own moves, because then each move thread has its own operation queue.
+     */
     protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    /**
+     * The operation queue of each move thread, indexed by moveThreadIndex.
+     * Contains the shared {@link #operationQueue} for every move thread if the solver thread selects all moves.
+     */
+    protected List<BlockingQueue<MoveThreadOperation<Solution_>>> moveThreadOperationQueueList;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
-    protected CyclicBarrier moveThreadBarrier;
+    protected Phaser moveThreadBarrier;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
 
+    // Metrics
+    protected final Timer barrierWaitTimer;
+
     public MultiThreadedLocalSearchDecider(String logIndentation, Termination<Solution_> termination,
             MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
-            ThreadFactory threadFactory, int moveThreadCount, int selectedMoveBufferSize) {
+            ThreadFactory threadFactory, int moveThreadCount, int selectedMoveBufferSize, int moveThreadBatchSize) {
         super(logIndentation, termination, moveSelector, acceptor, forager);
         this.threadFactory = threadFactory;
         this.moveThreadCount = moveThreadCount;
         this.selectedMoveBufferSize = selectedMoveBufferSize;
+        this.moveThreadBatchSize = moveThreadBatchSize;
+        this.barrierWaitTimer = Metrics.timer("optaplanner.solver.move-thread.barrier-wait");
     }
 
     public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
@@ -87,26 +116,52 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
     }
 
+    /**
+     * @param moveThreadMoveSelectorList null to select all moves on the solver thread,
+     *        otherwise size must be {@link #moveThreadCount}, each instance built separately from the same config
+     */
+    public void setMoveThreadMoveSelectorList(List<MoveSelector<Solution_>> moveThreadMoveSelectorList) {
+        this.moveThreadMoveSelectorList = moveThreadMoveSelectorList;
+    }
+
     @Override
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
-        // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
-        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        // The acceptor of a tabu search compares the planning entities (or values) of a move with the tabu ones
+        foragedMoveRebased = acceptor.isMoveInspected();
+        if (moveThreadMoveSelectorList == null) {
+            // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
+            operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        }
+        moveThreadOperationQueueList = new ArrayList<>(moveThreadCount);
         // Capacity: number of moves in circulation + number of exception handling results
         resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
-        moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        moveThreadBarrier = new Phaser(moveThreadCount);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
         executor = createThreadPoolExecutor();
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
         for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            BlockingQueue<MoveThreadOperation<Solution_>> moveThreadOperationQueue;
+            if (moveThreadMoveSelectorList == null) {
+                moveThreadOperationQueue = operationQueue;
+            } else {
+                // Capacity: number of moves in circulation + 1 setup xor step operation + 1 destroy operation
+                moveThreadOperationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + 2);
+            }
+            moveThreadOperationQueueList.add(moveThreadOperationQueue);
             MoveThreadRunner<Solution_, ?> moveThreadRunner = new MoveThreadRunner<>(
                     logIndentation, moveThreadIndex, true,
-                    operationQueue, resultQueue, moveThreadBarrier,
+                    moveThreadOperationQueue, resultQueue, moveThreadBarrier,
                     assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
                     assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+            if (moveThreadMoveSelectorList != null) {
+                // Seeded from the solver thread's workingRandom, in moveThreadIndex order, for reproducibility
+                moveThreadRunner.setMoveSelector(moveThreadMoveSelectorList.get(moveThreadIndex),
+                        phaseScope.getWorkingRandom().nextLong());
+            }
             moveThreadRunnerList.add(moveThreadRunner);
             executor.submit(moveThreadRunner);
-            operationQueue.add(new SetupOperation<>(scoreDirector));
+            moveThreadOperationQueue.add(new SetupOperation<>(scoreDirector));
         }
     }
 
@@ -116,20 +171,24 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         // Tell the move thread runners to stop
         // Don't clear the operationsQueue to avoid moveThreadBarrier deadlock:
         // The MoveEvaluationOperations are already cleared and the new ApplyStepOperation isn't added yet.
-        DestroyOperation<Solution_> destroyOperation = new DestroyOperation<>();
-        for (int i = 0; i < moveThreadCount; i++) {
-            operationQueue.add(destroyOperation);
-        }
+        addOperationForEveryMoveThread(new DestroyOperation<>());
         // TODO This should probably be in a finally that spans at least the entire phase, maybe even the entire solve
         ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multithreaded Local Search");
         long childThreadsScoreCalculationCount = 0;
+        long barrierWaitTimeNanos = 0L;
         for (MoveThreadRunner<Solution_, ?> moveThreadRunner : moveThreadRunnerList) {
             childThreadsScoreCalculationCount += moveThreadRunner.getCalculationCount();
+            barrierWaitTimeNanos += moveThreadRunner.getBarrierWaitTimeNanos();
         }
         phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
+        barrierWaitTimer.record(barrierWaitTimeNanos, TimeUnit.NANOSECONDS);
+        logger.debug("{}    Move threads waited ({}) ms in total on the move thread barrier.",
+                logIndentation, TimeUnit.NANOSECONDS.toMillis(barrierWaitTimeNanos));
         operationQueue = null;
+        moveThreadOperationQueueList = null;
         resultQueue = null;
         moveThreadRunnerList = null;
+        moveThreadBarrier = null;
     }
 
     protected ExecutorService createThreadPoolExecutor() {
@@ -149,37 +208,101 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         resultQueue.startNextStep(stepIndex);
 
         int selectingMoveIndex = 0;
+        int dispatchedMoveIndex = 0;
+        int dispatchedBatchCount = 0;
         int foragingMoveIndex = 0;
-        Iterator<Move<Solution_>> moveIterator = moveSelector.iterator();
+        // If the move threads select their own moves, the solver thread only hands out the moveIndexes
+        Iterator<Move<Solution_>> moveIterator = moveThreadMoveSelectorList == null ? moveSelector.iterator() : null;
+        // The selected moves that haven't been handed out to a move thread yet
+        List<Move<Solution_>> selectedMoveList = moveIterator == null ? null : new ArrayList<>(moveThreadBatchSize);
         do {
-            boolean moveIteratorEmpty = !moveIterator.hasNext();
+            boolean moveIteratorEmpty = moveIterator != null && !moveIterator.hasNext();
             // First fill the buffer so move evaluation can run freely in parallel
             // For reproducibility, the selectedMoveBufferSize always need to be entirely selected,
             // even if some of those moves won't end up being evaluated or foraged
             if (selectingMoveIndex >= selectedMoveBufferSize || moveIteratorEmpty) {
+                if (foragingMoveIndex >= dispatchedMoveIndex && selectingMoveIndex > dispatchedMoveIndex) {
+                    // The move to forage hasn't been handed out yet, so don't wait until its batch is full
+                    dispatchMoves(stepIndex, dispatchedMoveIndex, selectingMoveIndex, selectedMoveList,
+                            dispatchedBatchCount);
+                    dispatchedMoveIndex = selectingMoveIndex;
+                    dispatchedBatchCount++;
+                }
                 if (forageResult(stepScope, stepIndex)) {
                     break;
                 }
                 foragingMoveIndex++;
             }
             if (!moveIteratorEmpty) {
-                Move<Solution_> selectingMove = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex, selectingMove));
+                if (selectedMoveList != null) {
+                    selectedMoveList.add(moveIterator.next());
+                }
                 selectingMoveIndex++;
+                if (selectingMoveIndex - dispatchedMoveIndex >= moveThreadBatchSize) {
+                    dispatchMoves(stepIndex, dispatchedMoveIndex, selectingMoveIndex, selectedMoveList,
+                            dispatchedBatchCount);
+                    dispatchedMoveIndex = selectingMoveIndex;
+                    dispatchedBatchCount++;
+                }
             }
         } while (foragingMoveIndex < selectingMoveIndex);
 
         // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
-        operationQueue.clear();
+        for (BlockingQueue<MoveThreadOperation<Solution_>> moveThreadOperationQueue : moveThreadOperationQueueList) {
+            moveThreadOperationQueue.clear();
+        }
         pickMove(stepScope);
         // Start doing the step on every move thread. Don't wait for the stepEnded() event.
         if (stepScope.getStep() != null) {
             // Increase stepIndex by 1, because it's a preliminary action
             ApplyStepOperation<Solution_, ?> stepOperation = new ApplyStepOperation<>(stepIndex + 1,
                     stepScope.getStep(), (Score) stepScope.getScore());
-            for (int i = 0; i < moveThreadCount; i++) {
-                operationQueue.add(stepOperation);
+            addOperationForEveryMoveThread(stepOperation);
+        }
+    }
+
+    @Override
+    protected void pickMove(LocalSearchStepScope<Solution_> stepScope) {
+        LocalSearchMoveScope<Solution_> pickedMoveScope = forager.pickMove(stepScope);
+        if (pickedMoveScope != null) {
+            Move<Solution_> step = pickedMoveScope.getMove();
+            if (!foragedMoveRebased) {
+                // Only the step is rebased from its move thread's working solution, not every foraged move
+                step = step.rebase(stepScope.getScoreDirector());
             }
+            stepScope.setStep(step);
+            if (logger.isDebugEnabled()) {
+                stepScope.setStepString(step.toString());
+            }
+            stepScope.setScore(pickedMoveScope.getScore());
+        }
+    }
+
+    /**
+     * Hands out the moves from fromMoveIndex (inclusive) to toMoveIndex (exclusive) as 1 batch.
+     *
+     * @param selectedMoveList null if the move threads select their own moves
+     * @param batchIndex the number of batches handed out earlier during this step
+     */
+    private void dispatchMoves(int stepIndex, int fromMoveIndex, int toMoveIndex,
+            List<Move<Solution_>> selectedMoveList, int batchIndex) {
+        if (selectedMoveList == null) {
+            // Always the same move thread for the same batch, for reproducibility
+            moveThreadOperationQueueList.get(batchIndex % moveThreadCount)
+                    .add(new MoveSelectionOperation<>(stepIndex, fromMoveIndex, toMoveIndex - fromMoveIndex));
+        } else if (selectedMoveList.size() == 1) {
+            operationQueue.add(new MoveEvaluationOperation<>(stepIndex, fromMoveIndex, selectedMoveList.get(0)));
+            selectedMoveList.clear();
+        } else {
+            operationQueue.add(new MoveEvaluationOperation<>(stepIndex, fromMoveIndex,
+                    new ArrayList<>(selectedMoveList)));
+            selectedMoveList.clear();
+        }
+    }
+
+    private void addOperationForEveryMoveThread(MoveThreadOperation<Solution_> operation) {
+        for (BlockingQueue<MoveThreadOperation<Solution_>> moveThreadOperationQueue : moveThreadOperationQueueList) {
+            moveThreadOperationQueue.add(operation);
         }
     }
 
@@ -195,12 +318,22 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
                     + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
         }
-        Move<Solution_> foragingMove = result.getMove().rebase(stepScope.getScoreDirector());
+        if (result.isMoveSelectorEnded()) {
+            // The move thread of that moveIndex ran out of moves, so stop foraging to stay reproducible
+            return true;
+        }
+        // The move still references the working solution of its move thread
+        Move<Solution_> foragingMove = foragedMoveRebased
+                ? result.getMove().rebase(stepScope.getScoreDirector())
+                : result.getMove();
+        // The toString() of a move that isn't rebased reads the working solution of its move thread
+        Move<Solution_> tracedMove = foragedMoveRebased || !logger.isTraceEnabled() ? foragingMove
+                : foragingMove.rebase(stepScope.getScoreDirector());
         int foragingMoveIndex = result.getMoveIndex();
         LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, foragingMoveIndex, foragingMove);
         if (!result.isMoveDoable()) {
             logger.trace("{}        Move index ({}) not doable, ignoring move ({}).",
-                    logIndentation, foragingMoveIndex, foragingMove);
+                    logIndentation, foragingMoveIndex, tracedMove);
         } else {
             moveScope.setScore(result.getScore());
             boolean accepted = acceptor.isAccepted(moveScope);
@@ -208,7 +341,7 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
                     logIndentation,
                     foragingMoveIndex, moveScope.getScore(), moveScope.getAccepted(),
-                    foragingMove);
+                    tracedMove);
             forager.addMove(moveScope);
             if (forager.isQuitEarly()) {
                 return true;
@@ -35,4 +35,12 @@ public interface Acceptor<Solution_> extends LocalSearchPhaseLifecycleListener<S
      */
     boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * @return true if {@link #isAccepted(LocalSearchMoveScope)} inspects the {@link Move} itself,
+     *         for example its planning entities, instead of only its score
+     */
+    default boolean isMoveInspected() {
+        return false;
+    }
+
 }
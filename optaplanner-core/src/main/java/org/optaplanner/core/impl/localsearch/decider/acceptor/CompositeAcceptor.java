@@ -77,6 +77,16 @@ public class CompositeAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
         return true;
     }
 
+    @Override
+    public boolean isMoveInspected() {
+        for (Acceptor<Solution_> acceptor : acceptorList) {
+            if (acceptor.isMoveInspected()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         for (Acceptor<Solution_> acceptor : acceptorList) {
@@ -173,6 +173,11 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         return accepted;
     }
 
+    @Override
+    public boolean isMoveInspected() {
+        return true;
+    }
+
     private int locateMaximumTabStepIndex(LocalSearchMoveScope<Solution_> moveScope) {
         Collection<? extends Object> checkingTabus = findTabu(moveScope);
         int maximumTabuStepIndex = -1;
@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.ReusableMove;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 
@@ -41,6 +42,7 @@ public class MoveTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution_>
 
     @Override
     protected Collection<? extends Object> findTabu(LocalSearchMoveScope<Solution_> moveScope) {
+        // Only checked against the tabu list, so a ReusableMove doesn't need a copy
         return Collections.singletonList(moveScope.getMove());
     }
 
@@ -52,7 +54,8 @@ public class MoveTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution_>
         } else {
             tabuMove = stepScope.getStep();
         }
-        return Collections.singletonList(tabuMove);
+        // Kept in the tabu list, so it must not be overwritten by the next selected move
+        return Collections.singletonList(ReusableMove.copyIfReusable(tabuMove));
     }
 
 }
@@ -104,6 +104,7 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
             case FIRST_BEST_SCORE_IMPROVING:
                 Score bestScore = moveScope.getStepScope().getPhaseScope().getBestScore();
                 if (((Score) moveScope.getScore()).compareTo(bestScore) > 0) {
+                    moveScope.retainMove();
                     earlyPickedMoveScope = moveScope;
                 }
                 break;
@@ -111,6 +112,7 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
                 Score lastStepScore = moveScope.getStepScope().getPhaseScope()
                         .getLastCompletedStepScope().getScore();
                 if (((Score) moveScope.getScore()).compareTo(lastStepScore) > 0) {
+                    moveScope.retainMove();
                     earlyPickedMoveScope = moveScope;
                 }
                 break;
@@ -50,6 +50,7 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
 
     protected void clearAndAddFinalist(LocalSearchMoveScope<Solution_> moveScope) {
         finalistList.clear();
+        moveScope.retainMove();
         finalistList.add(moveScope);
     }
 
@@ -58,6 +59,7 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
             // Avoid unbounded growth and OutOfMemoryException
             return;
         }
+        moveScope.retainMove();
         finalistList.add(moveScope);
     }
 
@@ -26,6 +26,8 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
+import org.optaplanner.core.api.solver.event.SolverEventListener;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.heuristic.move.Move;
@@ -38,6 +40,8 @@ import org.optaplanner.core.impl.partitionedsearch.scope.PartitionedSearchStepSc
 import org.optaplanner.core.impl.phase.AbstractPhase;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.phase.PhaseFactory;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecallerFactory;
@@ -62,6 +66,8 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
 
     protected List<PhaseConfig> phaseConfigList;
     protected HeuristicConfigPolicy<Solution_> configPolicy;
+    protected long partEventThrottlingDelayNanos = 0L;
+    protected int roundCountLimit = 1;
 
     public DefaultPartitionedSearchPhase(int phaseIndex, String logIndentation,
             BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination<Solution_> termination,
@@ -81,6 +87,14 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         this.configPolicy = configPolicy;
     }
 
+    public void setPartEventThrottlingDelayNanos(long partEventThrottlingDelayNanos) {
+        this.partEventThrottlingDelayNanos = partEventThrottlingDelayNanos;
+    }
+
+    public void setRoundCountLimit(int roundCountLimit) {
+        this.roundCountLimit = roundCountLimit;
+    }
+
     @Override
     public String getPhaseTypeString() {
         return "Partitioned Search";
@@ -93,68 +107,119 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
     @Override
     public void solve(SolverScope<Solution_> solverScope) {
         PartitionedSearchPhaseScope<Solution_> phaseScope = new PartitionedSearchPhaseScope<>(solverScope);
+        int roundIndex = 0;
         List<Solution_> partList = solutionPartitioner.splitWorkingSolution(
-                solverScope.getScoreDirector(), runnablePartThreadLimit);
-        int partCount = partList.size();
-        phaseScope.setPartCount(partCount);
+                solverScope.getScoreDirector(), runnablePartThreadLimit, roundIndex);
+        phaseScope.setPartCount(partList.size());
         phaseStarted(phaseScope);
-        ExecutorService executor = createThreadPoolExecutor(partCount);
+        ThreadPoolExecutor executor = createThreadPoolExecutor(partList.size());
         ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination =
                 new ChildThreadPlumbingTermination<>();
-        PartitionQueue<Solution_> partitionQueue = new PartitionQueue<>(partCount);
         Semaphore runnablePartThreadSemaphore = runnablePartThreadLimit == null ? null
                 : new Semaphore(runnablePartThreadLimit, true);
+        // The part solvers (and their score directors) are reused by every round
+        List<PartitionSolver<Solution_>> partitionSolverList = new ArrayList<>(partList.size());
         try {
-            for (ListIterator<Solution_> it = partList.listIterator(); it.hasNext();) {
-                int partIndex = it.nextIndex();
-                Solution_ part = it.next();
-                PartitionSolver<Solution_> partitionSolver = buildPartitionSolver(
-                        childThreadPlumbingTermination, runnablePartThreadSemaphore, solverScope);
-                partitionSolver.addEventListener(event -> {
-                    InnerScoreDirector<Solution_, ?> childScoreDirector =
-                            partitionSolver.solverScope.getScoreDirector();
-                    PartitionChangeMove<Solution_> move = PartitionChangeMove.createMove(childScoreDirector, partIndex);
-                    InnerScoreDirector<Solution_, ?> parentScoreDirector = solverScope.getScoreDirector();
-                    move = move.rebase(parentScoreDirector);
-                    partitionQueue.addMove(partIndex, move);
-                });
-                executor.submit(() -> {
-                    try {
-                        partitionSolver.solve(part);
-                        long partCalculationCount = partitionSolver.getScoreCalculationCount();
-                        partitionQueue.addFinish(partIndex, partCalculationCount);
-                    } catch (Throwable throwable) {
-                        // Any Exception or even Error that happens here (on a partition thread) must be stored
-                        // in the partitionQueue in order to be propagated to the solver thread.
-                        logger.trace("{}            Part thread ({}) exception that will be propagated to the solver thread.",
-                                logIndentation, partIndex, throwable);
-                        partitionQueue.addExceptionThrown(partIndex, throwable);
-                    }
-                });
-            }
-            for (PartitionChangeMove<Solution_> step : partitionQueue) {
-                PartitionedSearchStepScope<Solution_> stepScope = new PartitionedSearchStepScope<>(phaseScope);
-                stepStarted(stepScope);
-                stepScope.setStep(step);
-                if (logger.isDebugEnabled()) {
-                    stepScope.setStepString(step.toString());
+            while (true) {
+                int partCount = partList.size();
+                while (partitionSolverList.size() < partCount) {
+                    partitionSolverList.add(buildPartitionSolver(
+                            childThreadPlumbingTermination, runnablePartThreadSemaphore, solverScope));
+                }
+                solveRound(phaseScope, executor, partList, partitionSolverList);
+                roundIndex++;
+                phaseScope.setRoundCount(roundIndex);
+                if (roundCountLimit > 1) {
+                    logger.debug("{}    PS round ({}) ended: time spent ({}), best score ({}), partCount ({}).",
+                            logIndentation,
+                            roundIndex - 1,
+                            phaseScope.calculateSolverTimeMillisSpentUpToNow(),
+                            phaseScope.getBestScore(),
+                            partCount);
+                }
+                if (roundIndex >= roundCountLimit || termination.isPhaseTerminated(phaseScope)) {
+                    break;
+                }
+                // Repartition the merged best solutions of the parts, with shifted boundaries
+                partList = solutionPartitioner.splitWorkingSolution(
+                        solverScope.getScoreDirector(), runnablePartThreadLimit, roundIndex);
+                phaseScope.setPartCount(partList.size());
+                if (executor.getMaximumPoolSize() < partList.size()) {
+                    executor.setMaximumPoolSize(partList.size());
+                    executor.setCorePoolSize(partList.size());
                 }
-                doStep(stepScope);
-                stepEnded(stepScope);
-                phaseScope.setLastCompletedStepScope(stepScope);
             }
-            phaseScope.addChildThreadsScoreCalculationCount(partitionQueue.getPartsCalculationCount());
         } finally {
             // In case one of the partition threads threw an Exception, it is propagated here
             // but the other partition threads are not aware of the failure and may continue solving for a long time,
             // so we need to ask them to terminate. In case no exception was thrown, this does nothing.
             childThreadPlumbingTermination.terminateChildren();
             ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Partitioned Search");
+            for (PartitionSolver<Solution_> partitionSolver : partitionSolverList) {
+                partitionSolver.close();
+            }
         }
         phaseEnded(phaseScope);
     }
 
-    private ExecutorService createThreadPoolExecutor(int partCount) {
+    /**
+     * Solves every part on its own part thread
+     * and applies their new best solutions on the working solution until every part has ended.
+     */
+    private void solveRound(PartitionedSearchPhaseScope<Solution_> phaseScope, ExecutorService executor,
+            List<Solution_> partList, List<PartitionSolver<Solution_>> partitionSolverList) {
+        InnerScoreDirector<Solution_, ?> parentScoreDirector = phaseScope.getScoreDirector();
+        PartitionQueue<Solution_> partitionQueue = new PartitionQueue<>(partList.size());
+        List<PartitionChangeMovePublisher> movePublisherList = new ArrayList<>(partList.size());
+        for (ListIterator<Solution_> it = partList.listIterator(); it.hasNext();) {
+            int partIndex = it.nextIndex();
+            Solution_ part = it.next();
+            PartitionSolver<Solution_> partitionSolver = partitionSolverList.get(partIndex);
+            PartitionChangeMovePublisher movePublisher = new PartitionChangeMovePublisher(partIndex,
+                    partitionSolver, parentScoreDirector, partitionQueue);
+            partitionSolver.addEventListener(movePublisher);
+            partitionSolver.addPhaseLifecycleListener(movePublisher);
+            movePublisherList.add(movePublisher);
+            executor.submit(() -> {
+                try {
+                    // The score calculation count of a reused part solver accumulates over the rounds
+                    long previousCalculationCount = partitionSolver.getScoreCalculationCount();
+                    partitionSolver.solve(part);
+                    long partCalculationCount = partitionSolver.getScoreCalculationCount()
+                            - previousCalculationCount;
+                    partitionQueue.addFinish(partIndex, partCalculationCount);
+                } catch (Throwable throwable) {
+                    // Any Exception or even Error that happens here (on a partition thread) must be stored
+                    // in the partitionQueue in order to be propagated to the solver thread.
+                    logger.trace("{}            Part thread ({}) exception"
+                            + " that will be propagated to the solver thread.",
+                            logIndentation, partIndex, throwable);
+                    partitionQueue.addExceptionThrown(partIndex, throwable);
+                }
+            });
+        }
+        for (PartitionChangeMove<Solution_> step : partitionQueue) {
+            PartitionedSearchStepScope<Solution_> stepScope = new PartitionedSearchStepScope<>(phaseScope);
+            stepStarted(stepScope);
+            stepScope.setStep(step);
+            if (logger.isDebugEnabled()) {
+                stepScope.setStepString(step.toString());
+            }
+            doStep(stepScope);
+            stepEnded(stepScope);
+            phaseScope.setLastCompletedStepScope(stepScope);
+        }
+        phaseScope.addChildThreadsScoreCalculationCount(partitionQueue.getPartsCalculationCount());
+        // Every part has finished, so its publisher is no longer called by its part thread
+        for (ListIterator<PartitionChangeMovePublisher> it = movePublisherList.listIterator(); it.hasNext();) {
+            PartitionSolver<Solution_> partitionSolver = partitionSolverList.get(it.nextIndex());
+            PartitionChangeMovePublisher movePublisher = it.next();
+            partitionSolver.removeEventListener(movePublisher);
+            partitionSolver.removePhaseLifecycleListener(movePublisher);
+        }
+    }
+
+    private ThreadPoolExecutor createThreadPoolExecutor(int partCount) {
         ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(partCount, threadFactory);
         if (threadPoolExecutor.getMaximumPoolSize() < partCount) {
             throw new IllegalStateException(
@@ -167,6 +232,69 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         return threadPoolExecutor;
     }
 
+    /**
+     * Sends the new best solutions of 1 partition to the solver thread, as moves in the {@link PartitionQueue}.
+     * A new best solution that arrives within the partEventThrottlingDelay of the previous one
+     * is only sent later, at the end of a step or when the partition ends.
+     * Only used by the part thread of that partition.
+     */
+    private class PartitionChangeMovePublisher extends PhaseLifecycleListenerAdapter<Solution_>
+            implements SolverEventListener<Solution_> {
+
+        private final int partIndex;
+        private final PartitionSolver<Solution_> partitionSolver;
+        private final InnerScoreDirector<Solution_, ?> parentScoreDirector;
+        private final PartitionQueue<Solution_> partitionQueue;
+
+        private long lastPublishNanos;
+        private boolean unpublished = false;
+
+        public PartitionChangeMovePublisher(int partIndex, PartitionSolver<Solution_> partitionSolver,
+                InnerScoreDirector<Solution_, ?> parentScoreDirector, PartitionQueue<Solution_> partitionQueue) {
+            this.partIndex = partIndex;
+            this.partitionSolver = partitionSolver;
+            this.parentScoreDirector = parentScoreDirector;
+            this.partitionQueue = partitionQueue;
+            lastPublishNanos = System.nanoTime() - partEventThrottlingDelayNanos;
+        }
+
+        @Override
+        public void bestSolutionChanged(BestSolutionChangedEvent<Solution_> event) {
+            if (partEventThrottlingDelayNanos > 0L
+                    && System.nanoTime() - lastPublishNanos < partEventThrottlingDelayNanos) {
+                unpublished = true;
+                return;
+            }
+            publish(event.getNewBestSolution());
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            if (unpublished && System.nanoTime() - lastPublishNanos >= partEventThrottlingDelayNanos) {
+                publish(partitionSolver.solverScope.getBestSolution());
+            }
+        }
+
+        @Override
+        public void solvingEnded(SolverScope<Solution_> partSolverScope) {
+            // Before the part's score director is closed
+            if (unpublished) {
+                publish(partSolverScope.getBestSolution());
+            }
+        }
+
+        private void publish(Solution_ bestSolution) {
+            InnerScoreDirector<Solution_, ?> childScoreDirector = partitionSolver.solverScope.getScoreDirector();
+            PartitionChangeMove<Solution_> move = PartitionChangeMove.createMove(childScoreDirector, partIndex,
+                    bestSolution);
+            move = move.rebase(parentScoreDirector);
+            partitionQueue.addMove(partIndex, move);
+            lastPublishNanos = System.nanoTime();
+            unpublished = false;
+        }
+
+    }
+
     public PartitionSolver<Solution_> buildPartitionSolver(
             ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination,
             Semaphore runnablePartThreadSemaphore,
@@ -227,7 +355,8 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         super.phaseEnded(phaseScope);
         phaseScope.endingNow();
         logger.info("{}Partitioned Search phase ({}) ended: time spent ({}), best score ({}),"
-                + " score calculation speed ({}/sec), step total ({}), partCount ({}), runnablePartThreadLimit ({}).",
+                + " score calculation speed ({}/sec), step total ({}), partCount ({}), roundCount ({}),"
+                + " runnablePartThreadLimit ({}).",
                 logIndentation,
                 phaseIndex,
                 phaseScope.calculateSolverTimeMillisSpentUpToNow(),
@@ -235,6 +364,7 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
                 phaseScope.getPhaseScoreCalculationSpeed(),
                 phaseScope.getNextStepIndex(),
                 phaseScope.getPartCount(),
+                phaseScope.getRoundCount(),
                 runnablePartThreadLimit);
     }
 
@@ -19,10 +19,12 @@ package org.optaplanner.core.impl.partitionedsearch;
 import static org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig.ACTIVE_THREAD_COUNT_AUTO;
 import static org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig.ACTIVE_THREAD_COUNT_UNLIMITED;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ThreadFactory;
 
+import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
@@ -30,6 +32,8 @@ import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.partitionedsearch.partitioner.DefaultSolutionPartitioner;
 import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
 import org.optaplanner.core.impl.phase.AbstractPhaseFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
@@ -55,14 +59,18 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
         ThreadFactory threadFactory = solverConfigPolicy.buildThreadFactory(ChildThreadType.PART_THREAD);
         Termination<Solution_> phaseTermination = buildPhaseTermination(phaseConfigPolicy, solverTermination);
         Integer resolvedActiveThreadCount = resolveActiveThreadCount(phaseConfig.getRunnablePartThreadLimit());
+        SolutionPartitioner<Solution_> solutionPartitioner = buildSolutionPartitioner();
+        int roundCountLimit = resolveRoundCountLimit(solutionPartitioner);
         DefaultPartitionedSearchPhase<Solution_> phase =
                 new DefaultPartitionedSearchPhase<>(phaseIndex, solverConfigPolicy.getLogIndentation(), bestSolutionRecaller,
-                        phaseTermination, buildSolutionPartitioner(), threadFactory, resolvedActiveThreadCount);
+                        phaseTermination, solutionPartitioner, threadFactory, resolvedActiveThreadCount);
         List<PhaseConfig> phaseConfigList_ = phaseConfig.getPhaseConfigList();
         if (ConfigUtils.isEmptyCollection(phaseConfigList_)) {
             phaseConfigList_ = Arrays.asList(new ConstructionHeuristicPhaseConfig(), new LocalSearchPhaseConfig());
         }
         phase.setPhaseConfigList(phaseConfigList_);
+        phase.setPartEventThrottlingDelayNanos(resolvePartEventThrottlingDelay().toNanos());
+        phase.setRoundCountLimit(roundCountLimit);
         phase.setConfigPolicy(phaseConfigPolicy.createChildThreadConfigPolicy(ChildThreadType.PART_THREAD));
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -76,21 +84,67 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
     }
 
     private SolutionPartitioner<Solution_> buildSolutionPartitioner() {
+        SolutionPartitioner<?> solutionPartitioner;
         if (phaseConfig.getSolutionPartitionerClass() != null) {
-            SolutionPartitioner<?> solutionPartitioner =
-                    ConfigUtils.newInstance(phaseConfig, "solutionPartitionerClass", phaseConfig.getSolutionPartitionerClass());
-            ConfigUtils.applyCustomProperties(solutionPartitioner, "solutionPartitionerClass",
-                    phaseConfig.getSolutionPartitionerCustomProperties(), "solutionPartitionerCustomProperties");
-            return (SolutionPartitioner<Solution_>) solutionPartitioner;
-        } else {
-            if (phaseConfig.getSolutionPartitionerCustomProperties() != null) {
+            if (phaseConfig.getNearbyDistanceMeterClass() != null) {
                 throw new IllegalStateException(
-                        "If there is no solutionPartitionerClass (" + phaseConfig.getSolutionPartitionerClass()
-                                + "), then there can be no solutionPartitionerCustomProperties ("
-                                + phaseConfig.getSolutionPartitionerCustomProperties() + ") either.");
+                        "If there is a solutionPartitionerClass (" + phaseConfig.getSolutionPartitionerClass()
+                                + "), then there can be no nearbyDistanceMeterClass ("
+                                + phaseConfig.getNearbyDistanceMeterClass() + ") either.");
             }
-            // TODO Implement generic partitioner
-            throw new UnsupportedOperationException();
+            solutionPartitioner =
+                    ConfigUtils.newInstance(phaseConfig, "solutionPartitionerClass", phaseConfig.getSolutionPartitionerClass());
+        } else {
+            NearbyDistanceMeter<?, ?> nearbyDistanceMeter = phaseConfig.getNearbyDistanceMeterClass() == null ? null
+                    : ConfigUtils.newInstance(phaseConfig, "nearbyDistanceMeterClass",
+                            phaseConfig.getNearbyDistanceMeterClass());
+            solutionPartitioner = new DefaultSolutionPartitioner<>(nearbyDistanceMeter);
+        }
+        ConfigUtils.applyCustomProperties(solutionPartitioner, "solutionPartitionerClass",
+                phaseConfig.getSolutionPartitionerCustomProperties(), "solutionPartitionerCustomProperties");
+        return (SolutionPartitioner<Solution_>) solutionPartitioner;
+    }
+
+    private Duration resolvePartEventThrottlingDelay() {
+        Duration partEventThrottlingDelay = phaseConfig.getPartEventThrottlingDelay();
+        if (partEventThrottlingDelay == null) {
+            return Duration.ZERO;
+        }
+        if (partEventThrottlingDelay.isNegative()) {
+            throw new IllegalArgumentException("The partEventThrottlingDelay (" + partEventThrottlingDelay
+                    + ") cannot be negative.");
+        }
+        return partEventThrottlingDelay;
+    }
+
+    private int resolveRoundCountLimit(SolutionPartitioner<Solution_> solutionPartitioner) {
+        Integer roundCountLimit = phaseConfig.getRoundCountLimit();
+        if (roundCountLimit == null) {
+            return 1;
+        }
+        if (roundCountLimit < 1) {
+            throw new IllegalArgumentException("The roundCountLimit (" + roundCountLimit
+                    + ") cannot be lower than 1.");
+        }
+        if (roundCountLimit > 1 && !isRoundIndexSupported(solutionPartitioner)) {
+            throw new IllegalArgumentException("The roundCountLimit (" + roundCountLimit
+                    + ") repartitions every round, but the solutionPartitionerClass ("
+                    + solutionPartitioner.getClass()
+                    + ") doesn't override the splitWorkingSolution() method with a roundIndex parameter,"
+                    + " so every round would get the same partitions.\n"
+                    + "Maybe override that method to shift the partition boundaries per round"
+                    + " or remove the roundCountLimit.");
+        }
+        return roundCountLimit;
+    }
+
+    private static boolean isRoundIndexSupported(SolutionPartitioner<?> solutionPartitioner) {
+        try {
+            return solutionPartitioner.getClass().getMethod("splitWorkingSolution",
+                    ScoreDirector.class, Integer.class, int.class).getDeclaringClass() != SolutionPartitioner.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Impossible state because the " + SolutionPartitioner.class.getSimpleName()
+                    + " interface declares that method.", e);
         }
     }
 
@@ -104,10 +104,18 @@ public class PartitionSolver<Solution_> extends AbstractSolver<Solution_> {
     @Override
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         super.solvingEnded(solverScope);
-        solverScope.getScoreDirector().close();
         // TODO log?
     }
 
+    /**
+     * Closes the score director.
+     * It is kept open between {@link #solve(Object)} calls,
+     * so every partitioned search round reuses the same score director.
+     */
+    public void close() {
+        solverScope.getScoreDirector().close();
+    }
+
     public long getScoreCalculationCount() {
         return solverScope.getScoreCalculationCount();
     }
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.optaplanner.core.api.domain.solution.PlanningEntityCollectionProperty;
+import org.optaplanner.core.api.domain.solution.PlanningEntityProperty;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.common.ReflectionHelper;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Used if no custom {@link SolutionPartitioner} is configured.
+ * <p>
+ * Planning entities that share the same planning value (of their first genuine planning variable)
+ * are kept together in the same partition, as long as that doesn't exceed the partition capacity.
+ * If a {@link NearbyDistanceMeter} is configured, nearby planning entities are clustered in the same partition.
+ * Otherwise, those groups are spread over the partitions to balance their sizes.
+ * <p>
+ * Each partition is a planning clone of the working solution
+ * that only contains the planning entities of that partition.
+ * Problem facts are shared by all partitions, so value ranges aren't partitioned.
+ * Chained planning variables and {@link PlanningEntityProperty} members are not supported.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class DefaultSolutionPartitioner<Solution_> implements SolutionPartitioner<Solution_> {
+
+    public static final int DEFAULT_MINIMUM_PART_SIZE = 25;
+
+    private final NearbyDistanceMeter<Object, Object> nearbyDistanceMeter;
+
+    // Custom properties, configured in the solutionPartitionerCustomProperties
+    private Integer partCount = null;
+    private int minimumPartSize = DEFAULT_MINIMUM_PART_SIZE;
+
+    /**
+     * @param nearbyDistanceMeter sometimes null, measures the distance between 2 planning entities
+     */
+    public DefaultSolutionPartitioner(NearbyDistanceMeter<?, ?> nearbyDistanceMeter) {
+        this.nearbyDistanceMeter = (NearbyDistanceMeter<Object, Object>) nearbyDistanceMeter;
+    }
+
+    /**
+     * @param partCount null if it should be based on the runnablePartThreadLimit
+     *        (or the number of available processors if that is unlimited)
+     */
+    public void setPartCount(Integer partCount) {
+        this.partCount = partCount;
+    }
+
+    public void setMinimumPartSize(int minimumPartSize) {
+        this.minimumPartSize = minimumPartSize;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector,
+            Integer runnablePartThreadLimit) {
+        return splitWorkingSolution(scoreDirector, runnablePartThreadLimit, 0);
+    }
+
+    /**
+     * Every roundIndex above 0 shuffles the planning entities with that roundIndex as the random seed
+     * before grouping them, which shifts the partition boundaries reproducibly.
+     */
+    @Override
+    public List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector,
+            Integer runnablePartThreadLimit, int roundIndex) {
+        InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        SolutionDescriptor<Solution_> solutionDescriptor = innerScoreDirector.getSolutionDescriptor();
+        Solution_ workingSolution = innerScoreDirector.getWorkingSolution();
+        assertPartitionable(solutionDescriptor);
+        List<Object> entityList = solutionDescriptor.getEntityList(workingSolution);
+        int resolvedPartCount = resolvePartCount(entityList.size(), runnablePartThreadLimit);
+        if (resolvedPartCount == 1) {
+            List<Solution_> partList = new ArrayList<>(1);
+            partList.add(innerScoreDirector.cloneSolution(workingSolution));
+            return partList;
+        }
+        // Round up, so the partitions can hold all entities
+        int partCapacity = (entityList.size() + resolvedPartCount - 1) / resolvedPartCount;
+        List<Object> groupedEntityList = entityList;
+        if (roundIndex > 0) {
+            groupedEntityList = new ArrayList<>(entityList);
+            Collections.shuffle(groupedEntityList, new Random(roundIndex));
+        }
+        List<List<Object>> groupList = groupBySharedPlanningValue(solutionDescriptor, groupedEntityList,
+                partCapacity);
+        int[] groupPartIndexes = nearbyDistanceMeter == null
+                ? assignGroupsByPartSize(groupList, resolvedPartCount)
+                : assignGroupsByNearbyDistance(groupList, resolvedPartCount, partCapacity);
+        // Some partitions might not have received any group, so the part indexes are compacted
+        int[] compactPartIndexes = new int[resolvedPartCount];
+        for (int partIndex : groupPartIndexes) {
+            compactPartIndexes[partIndex] = 1;
+        }
+        int usedPartCount = 0;
+        for (int partIndex = 0; partIndex < resolvedPartCount; partIndex++) {
+            if (compactPartIndexes[partIndex] == 1) {
+                compactPartIndexes[partIndex] = usedPartCount;
+                usedPartCount++;
+            }
+        }
+        Map<Object, Integer> entityToPartIndexMap = new IdentityHashMap<>(entityList.size());
+        for (int groupIndex = 0; groupIndex < groupList.size(); groupIndex++) {
+            Integer partIndex = compactPartIndexes[groupPartIndexes[groupIndex]];
+            for (Object entity : groupList.get(groupIndex)) {
+                entityToPartIndexMap.put(entity, partIndex);
+            }
+        }
+        return cloneParts(innerScoreDirector, entityToPartIndexMap, usedPartCount);
+    }
+
+    private void assertPartitionable(SolutionDescriptor<Solution_> solutionDescriptor) {
+        if (!solutionDescriptor.getEntityMemberAccessorMap().isEmpty()) {
+            throw new IllegalStateException("The solutionClass (" + solutionDescriptor.getSolutionClass()
+                    + ") has " + PlanningEntityProperty.class.getSimpleName() + " annotated members ("
+                    + solutionDescriptor.getEntityMemberAccessorMap().keySet()
+                    + ") which the default solutionPartitioner cannot partition.\n"
+                    + "Maybe turn each of those members into a "
+                    + PlanningEntityCollectionProperty.class.getSimpleName()
+                    + ", so the default solutionPartitioner can still be tuned with the nearbyDistanceMeterClass"
+                    + " and the solutionPartitionerCustomProperties partCount and minimumPartSize.\n"
+                    + "Maybe configure a custom solutionPartitionerClass instead.");
+        }
+        for (EntityDescriptor<Solution_> entityDescriptor : solutionDescriptor.getGenuineEntityDescriptors()) {
+            if (entityDescriptor.hasAnyChainedGenuineVariables()) {
+                throw new IllegalStateException("The entityClass (" + entityDescriptor.getEntityClass()
+                        + ") has a chained planning variable, which the default solutionPartitioner cannot partition,"
+                        + " regardless of its nearbyDistanceMeterClass"
+                        + " and its solutionPartitionerCustomProperties partCount and minimumPartSize.\n"
+                        + "Maybe configure a custom solutionPartitionerClass that keeps every chain in one partition.");
+            }
+        }
+        for (MemberAccessor memberAccessor : solutionDescriptor.getEntityCollectionMemberAccessorMap().values()) {
+            if (memberAccessor.getType().isArray() && !memberAccessor.supportSetter()) {
+                throw new IllegalStateException("The solutionClass (" + solutionDescriptor.getSolutionClass()
+                        + ")'s entityCollectionProperty (" + memberAccessor.getName()
+                        + ") is an array without a setter, which the default solutionPartitioner cannot partition.\n"
+                        + "Maybe add a setter for that property.");
+            }
+        }
+    }
+
+    protected int resolvePartCount(int entityCount, Integer runnablePartThreadLimit) {
+        int resolvedPartCount;
+        if (partCount != null) {
+            if (partCount < 1) {
+                throw new IllegalArgumentException("The partCount (" + partCount + ") cannot be lower than 1.");
+            }
+            resolvedPartCount = partCount;
+        } else if (runnablePartThreadLimit != null) {
+            resolvedPartCount = runnablePartThreadLimit;
+        } else {
+            resolvedPartCount = Runtime.getRuntime().availableProcessors();
+        }
+        if (minimumPartSize < 1) {
+            throw new IllegalArgumentException("The minimumPartSize (" + minimumPartSize
+                    + ") cannot be lower than 1.");
+        }
+        return Math.max(1, Math.min(resolvedPartCount, entityCount / minimumPartSize));
+    }
+
+    /**
+     * Entities that share the same planning value are likely to affect each other's score,
+     * so they stay together as long as they fit in 1 partition.
+     * Uninitialized entities start their own group.
+     */
+    private List<List<Object>> groupBySharedPlanningValue(SolutionDescriptor<Solution_> solutionDescriptor,
+            List<Object> entityList, int partCapacity) {
+        List<List<Object>> groupList = new ArrayList<>();
+        Map<Object, List<Object>> valueToGroupMap = new HashMap<>();
+        for (Object entity : entityList) {
+            EntityDescriptor<Solution_> entityDescriptor =
+                    solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptorList =
+                    entityDescriptor.getGenuineVariableDescriptorList();
+            Object value = variableDescriptorList.isEmpty() ? null : variableDescriptorList.get(0).getValue(entity);
+            List<Object> group = value == null ? null : valueToGroupMap.get(value);
+            if (group == null || group.size() >= partCapacity) {
+                group = new ArrayList<>();
+                groupList.add(group);
+                if (value != null) {
+                    valueToGroupMap.put(value, group);
+                }
+            }
+            group.add(entity);
+        }
+        return groupList;
+    }
+
+    /**
+     * Assigns the largest groups first, each time to the smallest partition.
+     */
+    private int[] assignGroupsByPartSize(List<List<Object>> groupList, int partCount) {
+        int[] groupPartIndexes = new int[groupList.size()];
+        int[] partSizes = new int[partCount];
+        for (int groupIndex : sortGroupIndexesByDecreasingSize(groupList)) {
+            int partIndex = findSmallestPartIndex(partSizes);
+            groupPartIndexes[groupIndex] = partIndex;
+            partSizes[partIndex] += groupList.get(groupIndex).size();
+        }
+        return groupPartIndexes;
+    }
+
+    /**
+     * Picks 1 seed group per partition, each one as far away as possible from the previous seeds,
+     * and then assigns every other group to the nearest seed that still has capacity left.
+     * Each group is represented by its first entity.
+     * This calls the {@link NearbyDistanceMeter} {@code 2 * groupCount * partCount} times at most.
+     */
+    private int[] assignGroupsByNearbyDistance(List<List<Object>> groupList, int partCount, int partCapacity) {
+        int groupCount = groupList.size();
+        int[] groupPartIndexes = new int[groupCount];
+        int[] partSizes = new int[partCount];
+        Object[] seedEntities = new Object[partCount];
+        boolean[] seeded = new boolean[groupCount];
+        double[] minimumSeedDistances = new double[groupCount];
+        int seedGroupIndex = 0;
+        for (int partIndex = 0; partIndex < partCount && seedGroupIndex >= 0; partIndex++) {
+            Object seedEntity = groupList.get(seedGroupIndex).get(0);
+            seedEntities[partIndex] = seedEntity;
+            seeded[seedGroupIndex] = true;
+            groupPartIndexes[seedGroupIndex] = partIndex;
+            partSizes[partIndex] = groupList.get(seedGroupIndex).size();
+            int farthestGroupIndex = -1;
+            for (int groupIndex = 0; groupIndex < groupCount; groupIndex++) {
+                if (seeded[groupIndex]) {
+                    continue;
+                }
+                double distance = nearbyDistanceMeter.getNearbyDistance(groupList.get(groupIndex).get(0), seedEntity);
+                if (partIndex == 0 || distance < minimumSeedDistances[groupIndex]) {
+                    minimumSeedDistances[groupIndex] = distance;
+                }
+                if (farthestGroupIndex < 0
+                        || minimumSeedDistances[groupIndex] > minimumSeedDistances[farthestGroupIndex]) {
+                    farthestGroupIndex = groupIndex;
+                }
+            }
+            seedGroupIndex = farthestGroupIndex;
+        }
+        for (int groupIndex : sortGroupIndexesByDecreasingSize(groupList)) {
+            if (seeded[groupIndex]) {
+                continue;
+            }
+            List<Object> group = groupList.get(groupIndex);
+            Object entity = group.get(0);
+            int nearestPartIndex = -1;
+            double nearestDistance = Double.POSITIVE_INFINITY;
+            for (int partIndex = 0; partIndex < partCount; partIndex++) {
+                if (seedEntities[partIndex] == null || partSizes[partIndex] + group.size() > partCapacity) {
+                    continue;
+                }
+                double distance = nearbyDistanceMeter.getNearbyDistance(entity, seedEntities[partIndex]);
+                if (nearestPartIndex < 0 || distance < nearestDistance) {
+                    nearestPartIndex = partIndex;
+                    nearestDistance = distance;
+                }
+            }
+            if (nearestPartIndex < 0) {
+                // The groups don't fit perfectly, so keep the partitions balanced instead
+                nearestPartIndex = findSmallestPartIndex(partSizes);
+            }
+            groupPartIndexes[groupIndex] = nearestPartIndex;
+            partSizes[nearestPartIndex] += group.size();
+        }
+        return groupPartIndexes;
+    }
+
+    private List<Integer> sortGroupIndexesByDecreasingSize(List<List<Object>> groupList) {
+        List<Integer> groupIndexList = new ArrayList<>(groupList.size());
+        for (int groupIndex = 0; groupIndex < groupList.size(); groupIndex++) {
+            groupIndexList.add(groupIndex);
+        }
+        // Stable sort, so groups of the same size keep their original order
+        groupIndexList.sort(
+                Comparator.comparingInt((Integer groupIndex) -> groupList.get(groupIndex).size()).reversed());
+        return groupIndexList;
+    }
+
+    private int findSmallestPartIndex(int[] partSizes) {
+        int smallestPartIndex = 0;
+        for (int partIndex = 1; partIndex < partSizes.length; partIndex++) {
+            if (partSizes[partIndex] < partSizes[smallestPartIndex]) {
+                smallestPartIndex = partIndex;
+            }
+        }
+        return smallestPartIndex;
+    }
+
+    /**
+     * To avoid planning cloning every entity for every partition,
+     * the entity collections of the working solution temporarily only contain the entities of 1 partition
+     * while that partition is planning cloned.
+     * The planning clone always has its own entity collections, so restoring them afterwards doesn't affect it.
+     */
+    private List<Solution_> cloneParts(InnerScoreDirector<Solution_, ?> scoreDirector,
+            Map<Object, Integer> entityToPartIndexMap, int partCount) {
+        Solution_ workingSolution = scoreDirector.getWorkingSolution();
+        List<MemberAccessor> memberAccessorList =
+                new ArrayList<>(scoreDirector.getSolutionDescriptor().getEntityCollectionMemberAccessorMap().values());
+        int memberCount = memberAccessorList.size();
+        Object[] originalPropertyValues = new Object[memberCount];
+        List<List<Object>> originalEntityListList = new ArrayList<>(memberCount);
+        List<List<List<Object>>> partEntityListsList = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            Object propertyValue = memberAccessorList.get(i).executeGetter(workingSolution);
+            originalPropertyValues[i] = propertyValue;
+            List<Object> originalEntityList = propertyValue.getClass().isArray()
+                    ? ReflectionHelper.transformArrayToList(propertyValue)
+                    : new ArrayList<>((Collection<Object>) propertyValue);
+            originalEntityListList.add(originalEntityList);
+            List<List<Object>> partEntityLists = new ArrayList<>(partCount);
+            for (int partIndex = 0; partIndex < partCount; partIndex++) {
+                partEntityLists.add(new ArrayList<>());
+            }
+            for (Object entity : originalEntityList) {
+                partEntityLists.get(entityToPartIndexMap.get(entity)).add(entity);
+            }
+            partEntityListsList.add(partEntityLists);
+        }
+        List<Solution_> partList = new ArrayList<>(partCount);
+        boolean[] modified = new boolean[memberCount];
+        try {
+            for (int partIndex = 0; partIndex < partCount; partIndex++) {
+                for (int i = 0; i < memberCount; i++) {
+                    setEntities(memberAccessorList.get(i), workingSolution, originalPropertyValues[i],
+                            partEntityListsList.get(i).get(partIndex));
+                    modified[i] = true;
+                }
+                partList.add(scoreDirector.cloneSolution(workingSolution));
+            }
+        } finally {
+            for (int i = 0; i < memberCount; i++) {
+                if (!modified[i]) {
+                    continue;
+                }
+                MemberAccessor memberAccessor = memberAccessorList.get(i);
+                if (originalPropertyValues[i].getClass().isArray()) {
+                    memberAccessor.executeSetter(workingSolution, originalPropertyValues[i]);
+                } else {
+                    setEntities(memberAccessor, workingSolution, originalPropertyValues[i],
+                            originalEntityListList.get(i));
+                }
+            }
+        }
+        return partList;
+    }
+
+    private void setEntities(MemberAccessor memberAccessor, Solution_ solution, Object originalPropertyValue,
+            List<Object> entityList) {
+        if (originalPropertyValue.getClass().isArray()) {
+            Object array = Array.newInstance(originalPropertyValue.getClass().getComponentType(), entityList.size());
+            for (int i = 0; i < entityList.size(); i++) {
+                Array.set(array, i, entityList.get(i));
+            }
+            memberAccessor.executeSetter(solution, array);
+        } else {
+            Collection<Object> collection = (Collection<Object>) originalPropertyValue;
+            try {
+                collection.clear();
+            } catch (UnsupportedOperationException e) {
+                throw new IllegalStateException("The entityCollectionProperty (" + memberAccessor.getName()
+                        + ")'s collection (" + collection.getClass()
+                        + ") is unmodifiable, which the default solutionPartitioner cannot partition.\n"
+                        + "Maybe use a modifiable collection, such as an " + ArrayList.class.getSimpleName() + ".", e);
+            }
+            collection.addAll(entityList);
+        }
+    }
+
+}
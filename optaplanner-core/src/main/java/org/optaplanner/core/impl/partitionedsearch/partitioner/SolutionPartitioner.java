@@ -49,4 +49,25 @@ public interface SolutionPartitioner<Solution_> {
      */
     List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector, Integer runnablePartThreadLimit);
 
+    /**
+     * Like {@link #splitWorkingSolution(ScoreDirector, Integer)},
+     * but called at the start of every round if the partitioned search repartitions.
+     * For {@code roundIndex > 0}, the {@link ScoreDirector#getWorkingSolution()} contains
+     * the best solutions of all partitions of the previous round.
+     * <p>
+     * To optimize the planning entities near the partition boundaries,
+     * a higher roundIndex should shift those boundaries.
+     * By default, the roundIndex is ignored.
+     *
+     * @param scoreDirector never null, the {@link ScoreDirector}
+     *        which has the {@link ScoreDirector#getWorkingSolution()} that needs to be split up
+     * @param runnablePartThreadLimit null if unlimited, never negative
+     * @param roundIndex {@code >= 0}, {@code 0} for the first round
+     * @return never null, {@link List#size()} of at least 1.
+     */
+    default List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector,
+            Integer runnablePartThreadLimit, int roundIndex) {
+        return splitWorkingSolution(scoreDirector, runnablePartThreadLimit);
+    }
+
 }
@@ -31,8 +31,15 @@ import org.optaplanner.core.impl.partitionedsearch.scope.PartitionChangeMove;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+
 /**
  * This class is thread-safe.
+ * <p>
+ * Moves are coalesced: per partIndex, only the latest move that hasn't been consumed yet is kept.
+ * So the queue never holds more than 1 move event and 1 finished or exception thrown event per partIndex.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
@@ -40,8 +47,9 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PartitionQueue.class);
 
-    private BlockingQueue<PartitionChangedEvent<Solution_>> queue;
-    private Map<Integer, PartitionChangedEvent<Solution_>> moveEventMap; // Key is partIndex
+    private final BlockingQueue<PartitionChangedEvent<Solution_>> queue;
+    private final Map<Integer, PartitionChangedEvent<Solution_>> moveEventMap; // Key is partIndex
+    private final AtomicLong droppedMoveCount;
 
     // Only used by producers
     private final Map<Integer, AtomicLong> nextEventIndexMap;
@@ -49,12 +57,15 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
     // Only used by consumer
     private int openPartCount;
     private long partsCalculationCount;
-    private final Map<Integer, Long> processedEventIndexMap; // Key is partIndex
+
+    // Metrics
+    private final DistributionSummary queueDepthSummary;
+    private final Counter droppedMoveCounter;
 
     public PartitionQueue(int partCount) {
-        // TODO partCount * 100 is pulled from thin air
-        queue = new ArrayBlockingQueue<>(partCount * 100);
+        queue = new ArrayBlockingQueue<>(partCount * 2);
         moveEventMap = new ConcurrentHashMap<>(partCount);
+        droppedMoveCount = new AtomicLong(0L);
         Map<Integer, AtomicLong> nextEventIndexMap = new HashMap<>(partCount);
         for (int i = 0; i < partCount; i++) {
             nextEventIndexMap.put(i, new AtomicLong(0));
@@ -62,16 +73,14 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
         this.nextEventIndexMap = Collections.unmodifiableMap(nextEventIndexMap);
         openPartCount = partCount;
         partsCalculationCount = 0L;
-        // HashMap because only the consumer thread uses it
-        processedEventIndexMap = new HashMap<>(partCount);
-        for (int i = 0; i < partCount; i++) {
-            processedEventIndexMap.put(i, -1L);
-        }
+        queueDepthSummary = Metrics.summary("optaplanner.solver.partitioned-search.queue-depth");
+        droppedMoveCounter = Metrics.counter("optaplanner.solver.partitioned-search.dropped-moves");
     }
 
     /**
      * This method is thread-safe.
-     * The previous move(s) for this partIndex (if it hasn't been consumed yet), will be skipped during iteration.
+     * The previous move for this partIndex (if it hasn't been consumed yet), is dropped:
+     * it will be skipped during iteration, without taking up space in the queue.
      *
      * @param partIndex {@code 0 <= partIndex < partCount}
      * @param move never null
@@ -81,8 +90,15 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
         long eventIndex = nextEventIndexMap.get(partIndex).getAndIncrement();
         PartitionChangedEvent<Solution_> event = new PartitionChangedEvent<>(
                 partIndex, eventIndex, move);
-        moveEventMap.put(event.getPartIndex(), event);
-        queue.add(event);
+        PartitionChangedEvent<Solution_> unconsumedEvent = moveEventMap.put(partIndex, event);
+        if (unconsumedEvent == null) {
+            queue.add(event);
+        } else {
+            // The event of the unconsumed move is still in the queue and the consumer will take this move instead
+            droppedMoveCount.incrementAndGet();
+            droppedMoveCounter.increment();
+            LOGGER.trace("    Dropped unconsumed move of partIndex ({}).", partIndex);
+        }
     }
 
     /**
@@ -134,17 +150,15 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
                     Thread.currentThread().interrupt();
                     throw new IllegalStateException("Solver thread was interrupted in Partitioned Search.", e);
                 }
+                queueDepthSummary.record(queue.size());
                 switch (triggerEvent.getType()) {
                     case MOVE:
-                        int partIndex = triggerEvent.getPartIndex();
-                        long processedEventIndex = processedEventIndexMap.get(partIndex);
-                        if (triggerEvent.getEventIndex() <= processedEventIndex) {
-                            // Skip this one because it or a better version was already processed
-                            LOGGER.trace("    Skipped event of partIndex ({}).", partIndex);
-                            continue;
+                        PartitionChangedEvent<Solution_> latestMoveEvent =
+                                moveEventMap.remove(triggerEvent.getPartIndex());
+                        if (latestMoveEvent == null) {
+                            throw new IllegalStateException("Impossible state: the move event of partIndex ("
+                                    + triggerEvent.getPartIndex() + ") was already consumed.");
                         }
-                        PartitionChangedEvent<Solution_> latestMoveEvent = moveEventMap.get(partIndex);
-                        processedEventIndexMap.put(partIndex, latestMoveEvent.getEventIndex());
                         return latestMoveEvent.getMove();
                     case FINISHED:
                         openPartCount--;
@@ -172,4 +186,14 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
         return partsCalculationCount;
     }
 
+    /**
+     * This method is thread-safe.
+     *
+     * @return {@code >= 0}, the number of moves that were replaced by a later move of the same partIndex
+     *         before they were consumed
+     */
+    public long getDroppedMoveCount() {
+        return droppedMoveCount.get();
+    }
+
 }
@@ -42,10 +42,20 @@ public final class PartitionChangeMove<Solution_> extends AbstractMove<Solution_
 
     public static <Solution_> PartitionChangeMove<Solution_> createMove(InnerScoreDirector<Solution_, ?> scoreDirector,
             int partIndex) {
+        return createMove(scoreDirector, partIndex, scoreDirector.getWorkingSolution());
+    }
+
+    /**
+     * @param scoreDirector never null
+     * @param partIndex {@code >= 0}
+     * @param solution never null, the working solution or a planning clone of it, such as the best solution
+     * @return never null
+     */
+    public static <Solution_> PartitionChangeMove<Solution_> createMove(InnerScoreDirector<Solution_, ?> scoreDirector,
+            int partIndex, Solution_ solution) {
         SolutionDescriptor<Solution_> solutionDescriptor = scoreDirector.getSolutionDescriptor();
-        Solution_ workingSolution = scoreDirector.getWorkingSolution();
 
-        int entityCount = solutionDescriptor.getEntityCount(workingSolution);
+        int entityCount = solutionDescriptor.getEntityCount(solution);
         Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> changeMap = new LinkedHashMap<>(
                 solutionDescriptor.getEntityDescriptors().size() * 3);
         for (EntityDescriptor<Solution_> entityDescriptor : solutionDescriptor.getEntityDescriptors()) {
@@ -54,7 +64,7 @@ public final class PartitionChangeMove<Solution_> extends AbstractMove<Solution_
                 changeMap.put(variableDescriptor, new ArrayList<>(entityCount));
             }
         }
-        for (Iterator<Object> it = solutionDescriptor.extractAllEntitiesIterator(workingSolution); it.hasNext();) {
+        for (Iterator<Object> it = solutionDescriptor.extractAllEntitiesIterator(solution); it.hasNext();) {
             Object entity = it.next();
             EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(
                     entity.getClass());
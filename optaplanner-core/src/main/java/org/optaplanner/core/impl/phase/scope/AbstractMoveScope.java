@@ -21,6 +21,7 @@ import java.util.Random;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.ReusableMove;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 /**
@@ -29,7 +30,7 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 public abstract class AbstractMoveScope<Solution_> {
 
     protected final int moveIndex;
-    protected final Move<Solution_> move;
+    protected Move<Solution_> move;
 
     protected Score<?> score = null;
 
@@ -56,6 +57,14 @@ public abstract class AbstractMoveScope<Solution_> {
         this.score = score;
     }
 
+    /**
+     * To be called by anything that keeps this move scope after the next move is selected,
+     * because that selection overwrites a {@link ReusableMove}.
+     */
+    public void retainMove() {
+        move = ReusableMove.copyIfReusable(move);
+    }
+
     // ************************************************************************
     // Calculated methods
     // ************************************************************************
@@ -86,7 +86,7 @@ public abstract class AbstractStepScope<Solution_> {
 
     public Solution_ createOrGetClonedSolution() {
         if (clonedSolution == null) {
-            clonedSolution = getScoreDirector().cloneWorkingSolution();
+            clonedSolution = getScoreDirector().cloneWorkingSolutionAsBestSolution();
         }
         return clonedSolution;
     }
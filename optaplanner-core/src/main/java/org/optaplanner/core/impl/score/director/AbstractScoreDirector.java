@@ -34,6 +34,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,6 +52,7 @@ import org.optaplanner.core.impl.domain.constraintweight.descriptor.ConstraintCo
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.lookup.ClassAndPlanningIdComparator;
 import org.optaplanner.core.impl.domain.lookup.LookUpManager;
+import org.optaplanner.core.impl.domain.solution.cloner.IncrementalSolutionCloner;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
@@ -84,6 +86,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected final LookUpManager lookUpManager;
     protected boolean constraintMatchEnabledPreference;
     protected final VariableListenerSupport<Solution_> variableListenerSupport;
+    protected final IncrementalSolutionCloner<Solution_> incrementalSolutionCloner;
 
     protected Solution_ workingSolution;
     protected long workingEntityListRevision = 0L;
@@ -103,6 +106,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.constraintMatchEnabledPreference = constraintMatchEnabledPreference;
         variableListenerSupport = new VariableListenerSupport<>(this);
         variableListenerSupport.linkVariableListeners();
+        incrementalSolutionCloner = scoreDirectorFactory.isIncrementalSolutionCloningEnabled()
+                ? new IncrementalSolutionCloner<>(scoreDirectorFactory.getSolutionDescriptor())
+                : null;
     }
 
     @Override
@@ -143,6 +149,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return workingEntityListRevision;
     }
 
+    @Override
     public boolean isAllChangesWillBeUndoneBeforeStepEnds() {
         return allChangesWillBeUndoneBeforeStepEnds;
     }
@@ -182,6 +189,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         }
         assertNonNullPlanningIds(allFacts);
         variableListenerSupport.resetWorkingSolution();
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.markAllEntitiesChanged();
+        }
         setWorkingEntityListDirty();
     }
 
@@ -216,10 +226,16 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public Score_ doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch) {
+        Score_ peekedScore = peekMoveScore(move);
+        if (peekedScore != null && !assertMoveScoreFromScratch) {
+            return peekedScore;
+        }
+        String peekedMoveString = peekedScore == null ? null : move.toString();
         Move<Solution_> undoMove = move.doMove(this);
         Score_ score = calculateScore();
         if (assertMoveScoreFromScratch) {
             assertWorkingScoreFromScratch(score, move);
+            assertPeekedMoveScore(peekedScore, score, move, peekedMoveString);
         }
         undoMove.doMove(this);
         return score;
@@ -227,15 +243,44 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor) {
+        Score_ peekedScore = peekMoveScore(move);
+        if (peekedScore != null && !assertMoveScoreFromScratch) {
+            moveProcessor.accept(peekedScore);
+            return;
+        }
+        String peekedMoveString = peekedScore == null ? null : move.toString();
         Move<Solution_> undoMove = move.doMove(this);
         Score_ score = calculateScore();
         if (assertMoveScoreFromScratch) {
             assertWorkingScoreFromScratch(score, move);
+            assertPeekedMoveScore(peekedScore, score, move, peekedMoveString);
         }
         moveProcessor.accept(score);
         undoMove.doMove(this);
     }
 
+    /**
+     * Calculates the score of a move without doing it on the working solution.
+     * Unlike {@link #calculateScore()}, it doesn't set the score on the working solution.
+     *
+     * @param move never null, not yet done
+     * @return null if the score of that move can only be calculated by doing it
+     */
+    protected Score_ peekMoveScore(Move<Solution_> move) {
+        return null;
+    }
+
+    private void assertPeekedMoveScore(Score_ peekedScore, Score_ moveScore, Move<Solution_> move,
+            String peekedMoveString) {
+        if (peekedScore != null && !peekedScore.equals(moveScore)) {
+            throw new IllegalStateException("Score corruption (" + peekedScore.subtract(moveScore).toShortString()
+                    + "): the peekedScore (" + peekedScore + ") is not the moveScore (" + moveScore
+                    + ") of the move (" + peekedMoveString + ") of moveClass (" + move.getClass() + ").\n"
+                    + "Maybe the score calculator's peekScore() method doesn't take every change of that move"
+                    + " into account, such as a shadow variable that changes too.");
+        }
+    }
+
     @Override
     public boolean isWorkingEntityListDirty(long expectedWorkingEntityListRevision) {
         return workingEntityListRevision != expectedWorkingEntityListRevision;
@@ -250,11 +295,24 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return cloneSolution(workingSolution);
     }
 
+    @Override
+    public Solution_ cloneWorkingSolutionAsBestSolution() {
+        // During move evaluation, the incrementalSolutionCloner isn't notified of changes
+        if (incrementalSolutionCloner == null || allChangesWillBeUndoneBeforeStepEnds) {
+            return cloneWorkingSolution();
+        }
+        return cloneSolution(workingSolution, incrementalSolutionCloner::cloneSolutionIncrementally);
+    }
+
     @Override
     public Solution_ cloneSolution(Solution_ originalSolution) {
+        return cloneSolution(originalSolution, getSolutionDescriptor().getSolutionCloner()::cloneSolution);
+    }
+
+    private Solution_ cloneSolution(Solution_ originalSolution, UnaryOperator<Solution_> solutionCloner) {
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         Score_ originalScore = (Score_) solutionDescriptor.getScore(originalSolution);
-        Solution_ cloneSolution = solutionDescriptor.getSolutionCloner().cloneSolution(originalSolution);
+        Solution_ cloneSolution = solutionCloner.apply(originalSolution);
         Score_ cloneScore = (Score_) solutionDescriptor.getScore(cloneSolution);
         if (scoreDirectorFactory.isAssertClonedSolution()) {
             if (!Objects.equals(originalScore, cloneScore)) {
@@ -335,6 +393,10 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
                     (AbstractScoreDirector<Solution_, Score_, Factory_>) scoreDirectorFactory
                             .buildScoreDirector(true, constraintMatchEnabledPreference);
             childThreadScoreDirector.setWorkingSolution(cloneWorkingSolution());
+            if (lookUpEnabled) {
+                // Rebasing moves between this and the child thread uses the dense index instead of the PlanningIds
+                childThreadScoreDirector.lookUpManager.linkParentLookUpManager(lookUpManager);
+            }
             return childThreadScoreDirector;
         } else {
             throw new IllegalStateException("The childThreadType (" + childThreadType + ") is not implemented.");
@@ -349,6 +411,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             lookUpManager.clearWorkingObjects();
         }
         variableListenerSupport.clearWorkingSolution();
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.markAllEntitiesChanged();
+        }
     }
 
     // ************************************************************************
@@ -390,6 +455,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     }
 
     public void beforeEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        markEntityChanged(entity);
         variableListenerSupport.beforeEntityAdded(entityDescriptor, entity);
     }
 
@@ -409,6 +475,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (variableDescriptor.isGenuineAndUninitialized(entity)) {
             workingInitScore++;
         }
+        markEntityChanged(entity);
         variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
     }
 
@@ -429,6 +496,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         workingInitScore += entityDescriptor.countUninitializedVariables(entity);
+        markEntityChanged(entity);
         variableListenerSupport.beforeEntityRemoved(entityDescriptor, entity);
     }
 
@@ -442,6 +510,13 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         }
     }
 
+    private void markEntityChanged(Object entity) {
+        // Changes that will be undone before the step ends, don't affect the next best solution
+        if (incrementalSolutionCloner != null && !allChangesWillBeUndoneBeforeStepEnds) {
+            incrementalSolutionCloner.markEntityChanged(entity);
+        }
+    }
+
     // ************************************************************************
     // Problem fact add/change/remove methods
     // ************************************************************************
@@ -453,6 +528,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemFactAdded(Object problemFact) {
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.markAllEntitiesChanged();
+        }
         if (lookUpEnabled) {
             lookUpManager.addWorkingObject(problemFact);
         }
@@ -466,6 +544,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.markAllEntitiesChanged();
+        }
         if (isConstraintConfiguration(problemFactOrEntity)) {
             setWorkingSolution(workingSolution); // Nuke everything and recalculate, constraint weights have changed.
         } else {
@@ -484,6 +565,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemFactRemoved(Object problemFact) {
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.markAllEntitiesChanged();
+        }
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(problemFact);
         }
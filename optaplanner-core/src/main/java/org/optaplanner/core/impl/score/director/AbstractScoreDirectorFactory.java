@@ -43,6 +43,7 @@ public abstract class AbstractScoreDirectorFactory<Solution_, Score_ extends Sco
     protected InnerScoreDirectorFactory<Solution_, Score_> assertionScoreDirectorFactory = null;
 
     protected boolean assertClonedSolution = false;
+    protected boolean incrementalSolutionCloningEnabled = false;
 
     public AbstractScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor) {
         this.solutionDescriptor = solutionDescriptor;
@@ -83,6 +84,14 @@ public abstract class AbstractScoreDirectorFactory<Solution_, Score_ extends Sco
         this.assertClonedSolution = assertClonedSolution;
     }
 
+    public boolean isIncrementalSolutionCloningEnabled() {
+        return incrementalSolutionCloningEnabled;
+    }
+
+    public void setIncrementalSolutionCloningEnabled(boolean incrementalSolutionCloningEnabled) {
+        this.incrementalSolutionCloningEnabled = incrementalSolutionCloningEnabled;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -155,6 +155,15 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Solution_ cloneWorkingSolution();
 
+    /**
+     * Returns a planning clone of the solution, like {@link #cloneWorkingSolution()}, to become the new best solution.
+     * If incremental solution cloning is enabled, it reuses the planning entity clones of the previous call
+     * for planning entities that haven't changed since then, so the returned clone must never be changed.
+     *
+     * @return never null, planning clone
+     */
+    Solution_ cloneWorkingSolutionAsBestSolution();
+
     /**
      * Returns a planning clone of the solution,
      * which is not a shallow clone nor a deep clone nor a partition clone.
@@ -204,6 +213,12 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     InnerScoreDirector<Solution_, Score_> createChildThreadScoreDirector(ChildThreadType childThreadType);
 
+    /**
+     * @return true if all changes will be undone before the step ends, for example during move evaluation
+     * @see #setAllChangesWillBeUndoneBeforeStepEnds(boolean)
+     */
+    boolean isAllChangesWillBeUndoneBeforeStepEnds();
+
     /**
      * Do not waste performance by propagating changes to step (or higher) mechanisms.
      *
@@ -42,6 +42,7 @@ import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.director.drools.DroolsScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.drools.testgen.TestGenDroolsScoreDirectorFactory;
@@ -89,6 +90,17 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             scoreDirectorFactory.setAssertClonedSolution(true);
         }
+        if (defaultIfNull(config.getIncrementalSolutionCloningEnabled(), false)) {
+            if (!(solutionDescriptor.getSolutionCloner() instanceof FieldAccessingSolutionCloner)) {
+                throw new IllegalArgumentException("The incrementalSolutionCloningEnabled ("
+                        + config.getIncrementalSolutionCloningEnabled() + ") requires the default "
+                        + FieldAccessingSolutionCloner.class.getSimpleName() + ", but the solutionClass ("
+                        + solutionDescriptor.getSolutionClass() + ") uses another solutionCloner ("
+                        + solutionDescriptor.getSolutionCloner().getClass() + ").\n"
+                        + "Maybe remove the custom solutionCloner or use the domainAccessType REFLECTION.");
+            }
+            scoreDirectorFactory.setIncrementalSolutionCloningEnabled(true);
+        }
         return scoreDirectorFactory;
     }
 
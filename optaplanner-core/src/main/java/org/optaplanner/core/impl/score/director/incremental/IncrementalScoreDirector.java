@@ -20,18 +20,25 @@ import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.calculator.ConstraintMatchAwareIncrementalScoreCalculator;
 import org.optaplanner.core.api.score.calculator.IncrementalScoreCalculator;
+import org.optaplanner.core.api.score.calculator.PeekingIncrementalScoreCalculator;
+import org.optaplanner.core.api.score.calculator.ProblemFactChangeAwareIncrementalScoreCalculator;
+import org.optaplanner.core.api.score.calculator.VariableChange;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.PeekableMove;
 import org.optaplanner.core.impl.score.constraint.DefaultIndictment;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
 
@@ -48,12 +55,27 @@ public class IncrementalScoreDirector<Solution_, Score_ extends Score<Score_>>
         extends AbstractScoreDirector<Solution_, Score_, IncrementalScoreDirectorFactory<Solution_, Score_>> {
 
     private final IncrementalScoreCalculator<Solution_, Score_> incrementalScoreCalculator;
+    // Null if every problem fact change resets the incrementalScoreCalculator
+    private final ProblemFactChangeAwareIncrementalScoreCalculator<Solution_, Score_> problemFactChangeAwareCalculator;
+    // Null if every move is done and undone to calculate its score
+    private final PeekingIncrementalScoreCalculator<Solution_, Score_> peekingCalculator;
 
     public IncrementalScoreDirector(IncrementalScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference,
             IncrementalScoreCalculator<Solution_, Score_> incrementalScoreCalculator) {
         super(scoreDirectorFactory, lookUpEnabled, constraintMatchEnabledPreference);
         this.incrementalScoreCalculator = incrementalScoreCalculator;
+        if (incrementalScoreCalculator instanceof ProblemFactChangeAwareIncrementalScoreCalculator) {
+            problemFactChangeAwareCalculator =
+                    (ProblemFactChangeAwareIncrementalScoreCalculator<Solution_, Score_>) incrementalScoreCalculator;
+        } else {
+            problemFactChangeAwareCalculator = null;
+        }
+        if (incrementalScoreCalculator instanceof PeekingIncrementalScoreCalculator) {
+            peekingCalculator = (PeekingIncrementalScoreCalculator<Solution_, Score_>) incrementalScoreCalculator;
+        } else {
+            peekingCalculator = null;
+        }
     }
 
     public IncrementalScoreCalculator<Solution_, Score_> getIncrementalScoreCalculator() {
@@ -67,6 +89,10 @@ public class IncrementalScoreDirector<Solution_, Score_ extends Score<Score_>>
     @Override
     public void setWorkingSolution(Solution_ workingSolution) {
         super.setWorkingSolution(workingSolution);
+        resetIncrementalScoreCalculator();
+    }
+
+    private void resetIncrementalScoreCalculator() {
         if (incrementalScoreCalculator instanceof ConstraintMatchAwareIncrementalScoreCalculator) {
             ((ConstraintMatchAwareIncrementalScoreCalculator<Solution_, ?>) incrementalScoreCalculator)
                     .resetWorkingSolution(workingSolution, constraintMatchEnabledPreference);
@@ -95,6 +121,61 @@ public class IncrementalScoreDirector<Solution_, Score_ extends Score<Score_>>
         return score;
     }
 
+    @Override
+    protected Score_ peekMoveScore(Move<Solution_> move) {
+        if (peekingCalculator == null || !(move instanceof PeekableMove)) {
+            return null;
+        }
+        List<VariableChange> variableChangeList = ((PeekableMove<Solution_>) move).peekVariableChanges(this);
+        if (variableChangeList == null) {
+            return null;
+        }
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        Score_ score = peekingCalculator.peekScore(variableChangeList);
+        if (score == null) {
+            throw new IllegalStateException("The incrementalScoreCalculator (" + incrementalScoreCalculator.getClass()
+                    + ") must return a non-null score (" + score + ") in the method peekScore().");
+        } else if (!score.isSolutionInitialized()) {
+            throw new IllegalStateException("The peeked score (" + score + ")'s initScore (" + score.getInitScore()
+                    + ") should be 0.\n"
+                    + "Maybe the score calculator (" + incrementalScoreCalculator.getClass() + ") is calculating "
+                    + "the initScore too, although it's the score director's responsibility.");
+        }
+        int initScore = workingInitScore + peekInitScoreDelta(variableChangeList);
+        if (initScore != 0) {
+            score = score.withInitScore(initScore);
+        }
+        calculationCount++;
+        return score;
+    }
+
+    private int peekInitScoreDelta(List<VariableChange> variableChangeList) {
+        int initScoreDelta = 0;
+        for (VariableChange variableChange : variableChangeList) {
+            Object toValue = variableChange.getToValue();
+            if (workingInitScore == 0 && toValue != null) {
+                // Every genuine variable is initialized and stays initialized
+                continue;
+            }
+            Object entity = variableChange.getEntity();
+            GenuineVariableDescriptor<Solution_> variableDescriptor = getSolutionDescriptor()
+                    .findEntityDescriptorOrFail(entity.getClass())
+                    .getGenuineVariableDescriptor(variableChange.getVariableName());
+            if (variableDescriptor == null) {
+                throw new IllegalArgumentException("The variableChange (" + variableChange
+                        + ") has a variableName (" + variableChange.getVariableName()
+                        + ") that isn't a genuine planning variable of the entityClass (" + entity.getClass() + ").");
+            }
+            if (variableDescriptor.isGenuineAndUninitialized(entity)) {
+                initScoreDelta++;
+            }
+            if (toValue == null && !variableDescriptor.isNullable()) {
+                initScoreDelta--;
+            }
+        }
+        return initScoreDelta;
+    }
+
     @Override
     public boolean isConstraintMatchEnabled() {
         return constraintMatchEnabledPreference
@@ -190,34 +271,55 @@ public class IncrementalScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     @Override
     public void beforeProblemFactAdded(Object problemFact) {
+        if (problemFactChangeAwareCalculator != null) {
+            problemFactChangeAwareCalculator.beforeProblemFactAdded(problemFact);
+        }
         super.beforeProblemFactAdded(problemFact);
     }
 
     @Override
     public void afterProblemFactAdded(Object problemFact) {
-        incrementalScoreCalculator.resetWorkingSolution(workingSolution); // TODO do not nuke it
+        if (problemFactChangeAwareCalculator != null) {
+            problemFactChangeAwareCalculator.afterProblemFactAdded(problemFact);
+        } else {
+            resetIncrementalScoreCalculator();
+        }
         super.afterProblemFactAdded(problemFact);
     }
 
     @Override
     public void beforeProblemPropertyChanged(Object problemFactOrEntity) {
+        if (problemFactChangeAwareCalculator != null) {
+            problemFactChangeAwareCalculator.beforeProblemPropertyChanged(problemFactOrEntity);
+        }
         super.beforeProblemPropertyChanged(problemFactOrEntity);
     }
 
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
-        incrementalScoreCalculator.resetWorkingSolution(workingSolution); // TODO do not nuke it
+        if (problemFactChangeAwareCalculator != null) {
+            problemFactChangeAwareCalculator.afterProblemPropertyChanged(problemFactOrEntity);
+        } else {
+            resetIncrementalScoreCalculator();
+        }
         super.afterProblemPropertyChanged(problemFactOrEntity);
     }
 
     @Override
     public void beforeProblemFactRemoved(Object problemFact) {
+        if (problemFactChangeAwareCalculator != null) {
+            problemFactChangeAwareCalculator.beforeProblemFactRemoved(problemFact);
+        }
         super.beforeProblemFactRemoved(problemFact);
     }
 
     @Override
     public void afterProblemFactRemoved(Object problemFact) {
-        incrementalScoreCalculator.resetWorkingSolution(workingSolution); // TODO do not nuke it
+        if (problemFactChangeAwareCalculator != null) {
+            problemFactChangeAwareCalculator.afterProblemFactRemoved(problemFact);
+        } else {
+            resetIncrementalScoreCalculator();
+        }
         super.afterProblemFactRemoved(problemFact);
     }
 
@@ -16,13 +16,12 @@
 
 package org.optaplanner.core.impl.score.stream.bavet;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.stream.Collectors;
 
 import org.optaplanner.core.api.score.Score;
@@ -37,15 +36,27 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniNode;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniTuple;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_>> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BavetConstraintSession.class);
+
     private final ScoreInliner<Score_> scoreInliner;
     private final Map<Class<?>, BavetFromUniNode<Object>> declaredClassToNodeMap;
     private final List<BavetNode> nodeIndexedNodeMap;
     private final List<BavetScoringNode> scoringNodeList;
     private final Map<Class<?>, List<BavetFromUniNode<Object>>> effectiveClassToNodeListMap;
-    private final List<Queue<BavetAbstractTuple>> nodeIndexToDirtyTupleQueueMap;
+    /**
+     * Reused across {@link #calculateScore(int)} calls, so it doesn't allocate once its capacity has grown.
+     */
+    private final List<List<BavetAbstractTuple>> nodeIndexToDirtyTupleListMap;
+    /**
+     * Only these nodes have a non-empty dirty tuple list,
+     * so {@link #calculateScore(int)} skips the nodes untouched by the last changes.
+     */
+    private final BitSet dirtyNodeIndexSet;
     private final Map<Object, List<BavetFromUniTuple<Object>>> fromTupleListMap;
 
     public BavetConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
@@ -56,37 +67,30 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         constraintToWeightMap.forEach((constraint, constraintWeight) -> constraint.createNodes(buildPolicy,
                 declaredClassToNodeMap, constraintWeight));
         nodeIndexedNodeMap = buildPolicy.getCreatedNodes();
+        LOGGER.debug("Built the node network for {} constraints with {} nodes ({} nodes shared).",
+                constraintToWeightMap.size(), nodeIndexedNodeMap.size(), buildPolicy.getSharedNodeCount());
         scoringNodeList = nodeIndexedNodeMap.stream()
                 .filter(node -> node instanceof BavetScoringNode)
                 .map(node -> (BavetScoringNode) node)
                 .collect(Collectors.toList());
         effectiveClassToNodeListMap = new HashMap<>(declaredClassToNodeMap.size());
         int nodeCount = nodeIndexedNodeMap.size();
-        nodeIndexToDirtyTupleQueueMap = new ArrayList<>(nodeCount);
+        nodeIndexToDirtyTupleListMap = new ArrayList<>(nodeCount);
         for (int i = 0; i < nodeCount; i++) {
-            nodeIndexToDirtyTupleQueueMap.add(new ArrayDeque<>(1000));
+            nodeIndexToDirtyTupleListMap.add(new ArrayList<>());
         }
+        dirtyNodeIndexSet = new BitSet(nodeCount);
         fromTupleListMap = new IdentityHashMap<>(1000);
     }
 
     private static void refreshTuple(BavetAbstractTuple tuple) {
         tuple.getNode().refresh(tuple);
-        switch (tuple.getState()) {
-            case CREATING:
-            case UPDATING:
-                tuple.setState(BavetTupleState.OK);
-                return;
-            case DYING:
-            case ABORTING:
-                tuple.setState(BavetTupleState.DEAD);
-                return;
-            case DEAD:
-                throw new IllegalStateException("Impossible state: The tuple (" + tuple + ") in node (" +
-                        tuple.getNode() + ") is already in the dead state (" + tuple.getState() + ").");
-            default:
-                throw new IllegalStateException("Impossible state: Tuple (" + tuple + ") in node (" +
-                        tuple.getNode() + ") is in an unexpected state (" + tuple.getState() + ").");
+        BavetTupleState state = tuple.getState();
+        if (!state.isDirty()) {
+            throw new IllegalStateException("Impossible state: Tuple (" + tuple + ") in node (" +
+                    tuple.getNode() + ") is in an unexpected state (" + state + ").");
         }
+        tuple.setState(state.getRefreshedState());
     }
 
     public List<BavetFromUniNode<Object>> findFromNodeList(Class<?> factClass) {
@@ -153,16 +157,23 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
             return;
         }
         tuple.setState(newState);
-        nodeIndexToDirtyTupleQueueMap.get(tuple.getNodeIndex()).add(tuple);
+        int nodeIndex = tuple.getNodeIndex();
+        nodeIndexToDirtyTupleListMap.get(nodeIndex).add(tuple);
+        dirtyNodeIndexSet.set(nodeIndex);
     }
 
     public Score_ calculateScore(int initScore) {
-        for (Queue<BavetAbstractTuple> queue : nodeIndexToDirtyTupleQueueMap) {
-            BavetAbstractTuple tuple = queue.poll();
-            while (tuple != null) {
-                refreshTuple(tuple);
-                tuple = queue.poll();
+        // A node only makes tuples dirty in nodes with a higher node index,
+        // so a single pass over the dirty nodes in node index order propagates all changes.
+        for (int nodeIndex = dirtyNodeIndexSet.nextSetBit(0); nodeIndex >= 0;
+                nodeIndex = dirtyNodeIndexSet.nextSetBit(nodeIndex + 1)) {
+            List<BavetAbstractTuple> dirtyTupleList = nodeIndexToDirtyTupleListMap.get(nodeIndex);
+            // Not a foreach loop, to be robust against a refresh that dirties a tuple of the same node
+            for (int i = 0; i < dirtyTupleList.size(); i++) {
+                refreshTuple(dirtyTupleList.get(i));
             }
+            dirtyTupleList.clear();
+            dirtyNodeIndexSet.clear(nodeIndex);
         }
         return scoreInliner.extractScore(initScore);
     }
@@ -42,6 +42,7 @@ import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFacto
 import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetMapUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bi.InnerBiConstraintStream;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
 import org.optaplanner.core.impl.score.stream.tri.AbstractTriJoiner;
@@ -98,10 +99,12 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
         AbstractTriJoiner<A, B, C> castedJoiner = (AbstractTriJoiner<A, B, C>) joiner;
         BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
         BavetJoinBridgeBiConstraintStream<Solution_, A, B> leftBridge = new BavetJoinBridgeBiConstraintStream<>(
-                constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(), indexFactory);
+                constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(),
+                indexFactory.buildJoinerKey(true, castedJoiner::getLeftMapping), indexFactory);
         addChildStream(leftBridge);
         BavetJoinBridgeUniConstraintStream<Solution_, C> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
-                constraintFactory, other, false, castedJoiner.getRightCombinedMapping(), indexFactory);
+                constraintFactory, other, false, castedJoiner.getRightCombinedMapping(),
+                indexFactory.buildJoinerKey(false, castedJoiner::getRightMapping), indexFactory);
         other.addChildStream(rightBridge);
         BavetJoinTriConstraintStream<Solution_, A, B, C> joinStream = new BavetJoinTriConstraintStream<>(constraintFactory,
                 leftBridge, rightBridge);
@@ -248,12 +251,35 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
 
     @Override
     public <ResultA_> UniConstraintStream<ResultA_> map(BiFunction<A, B, ResultA_> mapping) {
-        throw new UnsupportedOperationException();
+        BavetMapBridgeBiConstraintStream<Solution_, A, B, ResultA_> bridge = new BavetMapBridgeBiConstraintStream<>(
+                constraintFactory, this, mapping);
+        addChildStream(bridge);
+        BavetMapUniConstraintStream<Solution_, ResultA_> mapStream = new BavetMapUniConstraintStream<>(constraintFactory,
+                bridge);
+        bridge.setMapStream(mapStream);
+        return mapStream;
     }
 
     @Override
     public <ResultB_> BiConstraintStream<A, ResultB_> flattenLast(Function<B, Iterable<ResultB_>> mapping) {
-        throw new UnsupportedOperationException();
+        BavetFlattenLastBridgeBiConstraintStream<Solution_, A, B, ResultB_> bridge =
+                new BavetFlattenLastBridgeBiConstraintStream<>(constraintFactory, this, mapping);
+        addChildStream(bridge);
+        BavetFlattenLastBiConstraintStream<Solution_, A, ResultB_> flattenLastStream =
+                new BavetFlattenLastBiConstraintStream<>(constraintFactory, bridge);
+        bridge.setFlattenLastStream(flattenLastStream);
+        return flattenLastStream;
+    }
+
+    @Override
+    public BiConstraintStream<A, B> distinct() {
+        if (guaranteesDistinct()) {
+            return this;
+        }
+        BavetDistinctBiConstraintStream<Solution_, A, B> stream = new BavetDistinctBiConstraintStream<>(constraintFactory,
+                this);
+        addChildStream(stream);
+        return stream;
     }
 
     // ************************************************************************
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetDistinctBiNode<A, B> extends BavetAbstractBiNode<A, B> {
+
+    private final BavetAbstractBiNode<A, B> parentNode;
+    /**
+     * Every tuple with equal facts is a member of the same list.
+     * Only the first member of each list propagates child tuples, the others are duplicates.
+     */
+    private final Map<Object, List<BavetDistinctBiTuple<A, B>>> memberListMap = new HashMap<>();
+
+    private final List<BavetAbstractBiNode<A, B>> childNodeList = new ArrayList<>();
+
+    public BavetDistinctBiNode(BavetConstraintSession session, int nodeIndex, BavetAbstractBiNode<A, B> parentNode) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractBiNode<A, B> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractBiNode<A, B>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(parentNode);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetDistinctBiNode) {
+            BavetDistinctBiNode<?, ?> other = (BavetDistinctBiNode<?, ?>) o;
+            return parentNode == other.parentNode;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetDistinctBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
+        return new BavetDistinctBiTuple<>(this, parentTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetDistinctBiTuple<A, B> tuple = (BavetDistinctBiTuple<A, B>) uncastTuple;
+        Object oldDistinctKey = tuple.getDistinctKey();
+        if (oldDistinctKey != null) {
+            List<BavetDistinctBiTuple<A, B>> oldMemberList = memberListMap.get(oldDistinctKey);
+            if (oldMemberList == null) {
+                throw new IllegalStateException("Impossible state: the tuple (" + tuple
+                        + ") has a distinctKey (" + oldDistinctKey + ") that is not known by the node (" + this + ").");
+            }
+            if (oldMemberList.get(0) == tuple) {
+                killChildTuples(tuple);
+                oldMemberList.remove(0);
+                if (!oldMemberList.isEmpty()) {
+                    // Hand over the child tuples to the next duplicate
+                    refreshChildTuples(oldMemberList.get(0));
+                }
+            } else {
+                oldMemberList.remove(tuple);
+            }
+            if (oldMemberList.isEmpty()) {
+                memberListMap.remove(oldDistinctKey);
+            }
+            tuple.setDistinctKey(null);
+        }
+        if (tuple.isActive()) {
+            Object distinctKey = Arrays.asList(tuple.getFactA(), tuple.getFactB());
+            List<BavetDistinctBiTuple<A, B>> memberList = memberListMap.computeIfAbsent(distinctKey,
+                    k -> new ArrayList<>(1));
+            memberList.add(tuple);
+            tuple.setDistinctKey(distinctKey);
+            // An updated duplicate might have changed the shared facts, so refresh the owner's child tuples too
+            if (memberList.size() == 1 || tuple.getState() == BavetTupleState.UPDATING) {
+                refreshChildTuples(memberList.get(0));
+            }
+        }
+    }
+
+    private void killChildTuples(BavetDistinctBiTuple<A, B> tuple) {
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+    }
+
+    private void refreshChildTuples(BavetDistinctBiTuple<A, B> ownerTuple) {
+        killChildTuples(ownerTuple);
+        List<BavetAbstractTuple> childTupleList = ownerTuple.getChildTupleList();
+        for (BavetAbstractBiNode<A, B> childNode : childNodeList) {
+            BavetAbstractBiTuple<A, B> childTuple = childNode.createTuple(ownerTuple);
+            childTupleList.add(childTuple);
+            session.transitionTuple(childTuple, BavetTupleState.CREATING);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Distinct() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -60,6 +60,13 @@ public final class BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultCont
                 parentNode);
     }
 
+    @Override
+    public void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractBiNode<GroupKey_, Result_> node) {
+        // Public because a shared group bridge node reuses its group node instead of calling createNodeChain()
+        super.createChildNodeChains(buildPolicy, constraintWeight, node);
+    }
+
     @Override
     protected BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractBiNode<GroupKey_, Result_> parentNode) {
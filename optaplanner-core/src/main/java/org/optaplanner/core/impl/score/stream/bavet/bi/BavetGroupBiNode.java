@@ -50,7 +50,7 @@ public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extend
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    // Not overridden: a group node is shared by sharing the group bridge node that feeds it
 
     // ************************************************************************
     // Runtime
@@ -74,11 +74,14 @@ public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, Res
             throw new IllegalStateException("Impossible state: the stream (" + this
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
         }
-        BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode = groupStream.createNodeChain(buildPolicy,
-                constraintWeight, null);
         BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> groupBridgeNode =
                 (BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB>) node;
-        groupBridgeNode.setGroupNode(groupNode);
-
+        BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode = groupBridgeNode.getGroupNode();
+        if (groupNode == null) {
+            groupNode = groupStream.createNodeChain(buildPolicy, constraintWeight, null);
+            groupBridgeNode.setGroupNode(groupNode);
+        } else { // Share the group node of the shared group bridge node
+            groupStream.createChildNodeChains(buildPolicy, constraintWeight, groupNode);
+        }
     }
 }
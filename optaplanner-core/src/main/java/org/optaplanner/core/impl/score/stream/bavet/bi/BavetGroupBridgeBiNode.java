@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiFunction;
 
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
@@ -27,6 +28,7 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends BavetAbstractBiNode<A, B> {
 
+    private final BavetAbstractBiNode<A, B> parentNode;
     private final BiFunction<A, B, NewA> groupKeyMapping;
     private final BiConstraintCollector<A, B, ResultContainer_, NewB> collector;
     private BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode;
@@ -36,16 +38,49 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
     public BavetGroupBridgeBiNode(BavetConstraintSession session, int nodeIndex, BavetAbstractBiNode<A, B> parentNode,
             BiFunction<A, B, NewA> groupKeyMapping, BiConstraintCollector<A, B, ResultContainer_, NewB> collector) {
         super(session, nodeIndex);
+        this.parentNode = parentNode;
         this.groupKeyMapping = groupKeyMapping;
         this.collector = collector;
         tupleMap = new HashMap<>();
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), System.identityHashCode(groupKeyMapping),
+                System.identityHashCode(collector));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetGroupBridgeBiNode) {
+            BavetGroupBridgeBiNode<?, ?, ?, ?, ?> other = (BavetGroupBridgeBiNode<?, ?, ?, ?, ?>) o;
+            return parentNode == other.parentNode
+                    && groupKeyMapping == other.groupKeyMapping
+                    && collector == other.collector;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
     @Override
     public BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
         return new BavetGroupBridgeBiTuple<>(this, parentTuple);
     }
 
+    public BavetGroupBiNode<NewA, ResultContainer_, NewB> getGroupNode() {
+        return groupNode;
+    }
+
     public void setGroupNode(BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode) {
         this.groupNode = groupNode;
     }
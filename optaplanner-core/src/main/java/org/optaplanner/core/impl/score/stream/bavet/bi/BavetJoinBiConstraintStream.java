@@ -66,11 +66,13 @@ public final class BavetJoinBiConstraintStream<Solution_, A, B> extends BavetAbs
         BavetJoinBridgeUniNode<B> rightNode = (BavetJoinBridgeUniNode<B>) rightNode_;
         BavetJoinBiNode<A, B> node = new BavetJoinBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(),
                 leftNode, rightNode);
-        leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft); // TODO don't register if shared
-        rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
-        node = (BavetJoinBiNode<A, B>) processNode(buildPolicy, null, node); // TODO Sharing never happens
-        createChildNodeChains(buildPolicy, constraintWeight, node);
-        return node;
+        BavetJoinBiNode<A, B> sharedNode = (BavetJoinBiNode<A, B>) processNode(buildPolicy, null, node);
+        if (sharedNode == node) { // A shared join node is already refreshed by its join bridge nodes
+            leftNode.addChildTupleRefresher(node::refreshChildTuplesLeft);
+            rightNode.addChildTupleRefresher(node::refreshChildTuplesRight);
+        }
+        createChildNodeChains(buildPolicy, constraintWeight, sharedNode);
+        return sharedNode;
     }
 
     @Override
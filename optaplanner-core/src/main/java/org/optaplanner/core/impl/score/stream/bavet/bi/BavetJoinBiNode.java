@@ -18,7 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
@@ -56,7 +56,23 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode), System.identityHashCode(rightParentNode));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBiNode) {
+            BavetJoinBiNode<?, ?> other = (BavetJoinBiNode<?, ?>) o;
+            return leftParentNode == other.leftParentNode
+                    && rightParentNode == other.rightParentNode;
+        } else {
+            return false;
+        }
+    }
 
     // ************************************************************************
     // Runtime
@@ -92,7 +108,10 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
 
     public void refreshChildTuplesLeft(BavetJoinBridgeUniTuple<A> leftParentTuple) {
         List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList();
-        for (BavetAbstractTuple tuple_ : leftTupleSet) {
+        leftTupleSet.removeIf(tuple_ -> {
+            if (tuple_.getNode() != this) { // Owned by another join node that shares the same join bridge node
+                return false;
+            }
             BavetJoinBiTuple<A, B> tuple = (BavetJoinBiTuple<A, B>) tuple_;
             boolean removed = tuple.getBTuple().getChildTupleList().remove(tuple);
             if (!removed) {
@@ -101,24 +120,26 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
                         + ")'s join bridge.");
             }
             session.transitionTuple(tuple, BavetTupleState.DYING);
-        }
-        leftTupleSet.clear();
+            return true;
+        });
         if (leftParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<B>> rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
-            for (BavetJoinBridgeUniTuple<B> rightParentTuple : rightParentTupleList) {
+            getRightIndex().visit(leftParentTuple.getIndexProperties(), rightParentTuple -> {
                 if (!rightParentTuple.isDirty()) {
                     BavetJoinBiTuple<A, B> childTuple = createTuple(leftParentTuple, rightParentTuple);
                     leftTupleSet.add(childTuple);
                     rightParentTuple.getChildTupleList().add(childTuple);
                     session.transitionTuple(childTuple, BavetTupleState.CREATING);
                 }
-            }
+            });
         }
     }
 
     public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<B> rightParentTuple) {
         List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList();
-        for (BavetAbstractTuple uncastTuple : rightTupleSet) {
+        rightTupleSet.removeIf(uncastTuple -> {
+            if (uncastTuple.getNode() != this) { // Owned by another join node that shares the same join bridge node
+                return false;
+            }
             BavetJoinBiTuple<A, B> tuple = (BavetJoinBiTuple<A, B>) uncastTuple;
             boolean removed = tuple.getATuple().getChildTupleList().remove(tuple);
             if (!removed) {
@@ -127,18 +148,17 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
                         + ")'s join bridge.");
             }
             session.transitionTuple(tuple, BavetTupleState.DYING);
-        }
-        rightTupleSet.clear();
+            return true;
+        });
         if (rightParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<A>> leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
-            for (BavetJoinBridgeUniTuple<A> leftParentTuple : leftParentTupleList) {
+            getLeftIndex().visit(rightParentTuple.getIndexProperties(), leftParentTuple -> {
                 if (!leftParentTuple.isDirty()) {
                     BavetJoinBiTuple<A, B> childTuple = createTuple(leftParentTuple, rightParentTuple);
                     leftParentTuple.getChildTupleList().add(childTuple);
                     rightTupleSet.add(childTuple);
                     session.transitionTuple(childTuple, BavetTupleState.CREATING);
                 }
-            }
+            });
         }
     }
 
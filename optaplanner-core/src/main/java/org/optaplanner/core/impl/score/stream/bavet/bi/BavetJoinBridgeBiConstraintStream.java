@@ -36,16 +36,19 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
     private BavetJoinConstraintStream<Solution_> joinStream;
     private final boolean isLeftBridge;
     private final BiFunction<A, B, Object[]> mapping;
+    private final List<Object> joinerKey;
     private final BavetIndexFactory indexFactory;
 
     public BavetJoinBridgeBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractBiConstraintStream<Solution_, A, B> parent,
             boolean isLeftBridge,
-            BiFunction<A, B, Object[]> mapping, BavetIndexFactory indexFactory) {
+            BiFunction<A, B, Object[]> mapping, List<Object> joinerKey,
+            BavetIndexFactory indexFactory) {
         super(constraintFactory);
         this.parent = parent;
         this.isLeftBridge = isLeftBridge;
         this.mapping = mapping;
+        this.joinerKey = joinerKey;
         this.indexFactory = indexFactory;
     }
 
@@ -71,7 +74,7 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
     protected BavetJoinBridgeBiNode<A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
         return new BavetJoinBridgeBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode, mapping,
-                indexFactory.buildIndex(isLeftBridge));
+                joinerKey, indexFactory.buildIndex(isLeftBridge));
     }
 
     @Override
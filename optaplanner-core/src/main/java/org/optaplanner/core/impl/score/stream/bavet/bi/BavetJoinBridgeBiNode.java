@@ -16,6 +16,9 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -24,6 +27,7 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
 import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinTriNode;
 
 public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
@@ -31,19 +35,52 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
 
     private final BavetAbstractBiNode<A, B> parentNode;
     private final BiFunction<A, B, Object[]> mapping;
-    /** Calls {@link BavetJoinTriNode#refreshChildTuplesLeft(BavetJoinBridgeBiTuple)}, right or tri/quad/... variants. */
-    private Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher;
+    /** See {@link BavetIndexFactory#buildJoinerKey}. */
+    private final List<Object> joinerKey;
+    /**
+     * Calls {@link BavetJoinTriNode#refreshChildTuplesLeft(BavetJoinBridgeBiTuple)} or its right variant,
+     * once for each join node that this join bridge node is shared by.
+     */
+    private final List<Consumer<BavetJoinBridgeBiTuple<A, B>>> childTupleRefresherList = new ArrayList<>(1);
 
     private final BavetIndex<BavetJoinBridgeBiTuple<A, B>> index;
 
     public BavetJoinBridgeBiNode(BavetConstraintSession session, int nodeIndex, BavetAbstractBiNode<A, B> parentNode,
-            BiFunction<A, B, Object[]> mapping, BavetIndex<BavetJoinBridgeBiTuple<A, B>> index) {
+            BiFunction<A, B, Object[]> mapping, List<Object> joinerKey,
+            BavetIndex<BavetJoinBridgeBiTuple<A, B>> index) {
         super(session, nodeIndex);
         this.parentNode = parentNode;
         this.mapping = mapping;
+        this.joinerKey = joinerKey;
         this.index = index;
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), joinerKey);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBridgeBiNode) {
+            BavetJoinBridgeBiNode<?, ?> other = (BavetJoinBridgeBiNode<?, ?>) o;
+            return parentNode == other.parentNode
+                    && joinerKey.equals(other.joinerKey);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
     @Override
     public BavetJoinBridgeBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
         return new BavetJoinBridgeBiTuple<>(this, parentTuple);
@@ -62,7 +99,9 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
             Object[] indexProperties = mapping.apply(a, b);
             index.put(indexProperties, tuple);
         }
-        childTupleRefresher.accept(tuple);
+        for (Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher : childTupleRefresherList) {
+            childTupleRefresher.accept(tuple);
+        }
     }
 
     @Override
@@ -78,8 +117,8 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
         return index;
     }
 
-    public void setChildTupleRefresher(Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher) {
-        this.childTupleRefresher = childTupleRefresher;
+    public void addChildTupleRefresher(Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher) {
+        childTupleRefresherList.add(childTupleRefresher);
     }
 
 }
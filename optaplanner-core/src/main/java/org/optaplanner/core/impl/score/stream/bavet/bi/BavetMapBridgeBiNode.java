@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetMapUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetMapUniTuple;
+
+public final class BavetMapBridgeBiNode<A, B, NewA> extends BavetAbstractBiNode<A, B> {
+
+    private final BavetAbstractBiNode<A, B> parentNode;
+    private final BiFunction<A, B, NewA> mapping;
+    private BavetMapUniNode<NewA> mapNode;
+
+    public BavetMapBridgeBiNode(BavetConstraintSession session, int nodeIndex, BavetAbstractBiNode<A, B> parentNode,
+            BiFunction<A, B, NewA> mapping) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.mapping = mapping;
+    }
+
+    @Override
+    public List<BavetAbstractBiNode<A, B>> getChildNodeList() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public BavetMapBridgeBiTuple<A, B, NewA> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
+        return new BavetMapBridgeBiTuple<>(this, parentTuple);
+    }
+
+    public void setMapNode(BavetMapUniNode<NewA> mapNode) {
+        this.mapNode = mapNode;
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        if (mapNode == null) {
+            throw new IllegalStateException("Impossible state: MapBridgeNode (" + this +
+                    ") has no child MapNode (" + mapNode + ").");
+        }
+        BavetMapBridgeBiTuple<A, B, NewA> tuple = (BavetMapBridgeBiTuple<A, B, NewA>) uncastTuple;
+        BavetMapUniTuple<NewA> oldChildTuple = tuple.getChildTuple();
+        if (oldChildTuple != null) {
+            session.transitionTuple(oldChildTuple, BavetTupleState.DYING);
+            tuple.setChildTuple(null);
+        }
+        if (tuple.isActive()) {
+            A a = tuple.getFactA();
+            B b = tuple.getFactB();
+            NewA mappedA = mapping.apply(a, b);
+            BavetMapUniTuple<NewA> childTuple = mapNode.createTuple(mappedA);
+            tuple.setChildTuple(childTuple);
+            session.transitionTuple(childTuple, BavetTupleState.CREATING);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MapBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
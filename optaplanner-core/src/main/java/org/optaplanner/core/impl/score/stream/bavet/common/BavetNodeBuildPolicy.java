@@ -36,6 +36,7 @@ public class BavetNodeBuildPolicy<Solution_> {
     private final Map<BavetAbstractNode, BavetAbstractNode> sharableNodeMap = new HashMap<>();
 
     private int nextNodeIndex = 0;
+    private int sharedNodeCount = 0;
 
     public BavetNodeBuildPolicy(BavetConstraintSession<Solution_, ?> session) {
         this.session = session;
@@ -46,6 +47,7 @@ public class BavetNodeBuildPolicy<Solution_> {
         if (sharedNode != node) {
             // We are throwing away the new instance; throw away the new index, too.
             nextNodeIndex = node.getNodeIndex();
+            sharedNodeCount++;
         }
         return sharedNode;
     }
@@ -62,6 +64,13 @@ public class BavetNodeBuildPolicy<Solution_> {
         return nextNodeIndex++;
     }
 
+    /**
+     * @return the number of times an equal node was reused instead of creating a new one
+     */
+    public int getSharedNodeCount() {
+        return sharedNodeCount;
+    }
+
     public Map<BavetJoinConstraintStream<Solution_>, BavetJoinBridgeNode> getJoinConstraintStreamToJoinBridgeNodeMap() {
         return joinConstraintStreamToJoinBridgeNodeMap;
     }
@@ -50,4 +50,11 @@ public enum BavetTupleState {
         return active;
     }
 
+    /**
+     * @return {@link #OK} for an active dirty state, {@link #DEAD} for an inactive dirty state
+     */
+    public BavetTupleState getRefreshedState() {
+        return active ? OK : DEAD;
+    }
+
 }
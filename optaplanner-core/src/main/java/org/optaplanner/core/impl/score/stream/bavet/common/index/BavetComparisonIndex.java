@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Index for exactly 1 comparison joiner, which is always the last index property.
+ * Also used by {@link BavetSingleEqualsAndComparisonIndex}, {@link BavetDoubleEqualsAndComparisonIndex}
+ * and {@link BavetEqualsAndComparisonIndex} for every distinct equals key.
+ */
+public class BavetComparisonIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private final JoinerType comparisonJoinerType;
+    private final NavigableMap<Object, Set<Tuple_>> comparisonMap = new TreeMap<>();
+
+    public BavetComparisonIndex(JoinerType comparisonJoinerType) {
+        switch (comparisonJoinerType) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                break;
+            default:
+                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+        this.comparisonJoinerType = comparisonJoinerType;
+    }
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        Object[] oldIndexProperties = tuple.getIndexProperties();
+        Object oldComparisonIndexProperty = oldIndexProperties[oldIndexProperties.length - 1];
+        Set<Tuple_> tupleSet = comparisonMap.get(oldComparisonIndexProperty);
+        boolean removed = tupleSet.remove(tuple);
+        if (!removed) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
+        }
+        if (tupleSet.isEmpty()) {
+            comparisonMap.remove(oldComparisonIndexProperty);
+        }
+        tuple.setIndexProperties(null);
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple) {
+        Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
+        Set<Tuple_> tupleSet = comparisonMap.computeIfAbsent(comparisonIndexProperty, k -> new LinkedHashSet<>());
+        boolean added = tupleSet.add(tuple);
+        if (!added) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
+        }
+        tuple.setIndexProperties(indexProperties);
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
+        // Iterate the backing TreeMap in place instead of collecting the matching tuples in a new Set
+        NavigableMap<Object, Set<Tuple_>> selectedComparisonMap;
+        switch (comparisonJoinerType) {
+            case LESS_THAN:
+                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, false);
+                break;
+            case LESS_THAN_OR_EQUAL:
+                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, true);
+                break;
+            case GREATER_THAN:
+                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, false);
+                break;
+            case GREATER_THAN_OR_EQUAL:
+                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, true);
+                break;
+            default:
+                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+        for (Map.Entry<Object, Set<Tuple_>> entry : selectedComparisonMap.entrySet()) {
+            entry.getValue().forEach(tupleVisitor);
+        }
+    }
+
+    public boolean isEmpty() {
+        return comparisonMap.isEmpty();
+    }
+
+}
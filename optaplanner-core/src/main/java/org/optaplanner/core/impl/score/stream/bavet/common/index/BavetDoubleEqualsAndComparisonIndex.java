@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Index for exactly 2 equal joiners followed by 1 comparison joiner.
+ * Nests 2 maps, so it doesn't need to create a composite key to put, remove or visit.
+ */
+public class BavetDoubleEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private final JoinerType comparisonJoinerType;
+    private final Map<Object, Map<Object, BavetComparisonIndex<Tuple_>>> equalsMap = new HashMap<>();
+
+    public BavetDoubleEqualsAndComparisonIndex(JoinerType comparisonJoinerType) {
+        this.comparisonJoinerType = comparisonJoinerType;
+    }
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        Object[] oldIndexProperties = tuple.getIndexProperties();
+        Object oldEqualsIndexKeyA = oldIndexProperties[0];
+        Object oldEqualsIndexKeyB = oldIndexProperties[1];
+        Map<Object, BavetComparisonIndex<Tuple_>> subMap = equalsMap.get(oldEqualsIndexKeyA);
+        BavetComparisonIndex<Tuple_> comparisonIndex = subMap.get(oldEqualsIndexKeyB);
+        comparisonIndex.remove(tuple);
+        if (comparisonIndex.isEmpty()) {
+            subMap.remove(oldEqualsIndexKeyB);
+            if (subMap.isEmpty()) {
+                equalsMap.remove(oldEqualsIndexKeyA);
+            }
+        }
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple) {
+        BavetComparisonIndex<Tuple_> comparisonIndex = equalsMap
+                .computeIfAbsent(indexProperties[0], k -> new HashMap<>())
+                .computeIfAbsent(indexProperties[1], k -> new BavetComparisonIndex<>(comparisonJoinerType));
+        comparisonIndex.put(indexProperties, tuple);
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        Map<Object, BavetComparisonIndex<Tuple_>> subMap = equalsMap.get(indexProperties[0]);
+        if (subMap == null) {
+            return;
+        }
+        BavetComparisonIndex<Tuple_> comparisonIndex = subMap.get(indexProperties[1]);
+        if (comparisonIndex == null) {
+            return;
+        }
+        comparisonIndex.visit(indexProperties, tupleVisitor);
+    }
+
+}
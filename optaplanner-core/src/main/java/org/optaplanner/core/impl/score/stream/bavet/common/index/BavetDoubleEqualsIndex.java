@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+
+/**
+ * Equals index for exactly 2 equal joiners.
+ * Nests 2 maps, so it doesn't need to create a composite key to put, remove or visit.
+ */
+public class BavetDoubleEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private final Map<Object, Map<Object, Set<Tuple_>>> map = new HashMap<>();
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        Object[] oldIndexProperties = tuple.getIndexProperties();
+        Object oldIndexKeyA = oldIndexProperties[0];
+        Object oldIndexKeyB = oldIndexProperties[1];
+        Map<Object, Set<Tuple_>> subMap = map.get(oldIndexKeyA);
+        Set<Tuple_> tupleSet = subMap.get(oldIndexKeyB);
+        boolean removed = tupleSet.remove(tuple);
+        if (!removed) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
+        }
+        if (tupleSet.isEmpty()) {
+            subMap.remove(oldIndexKeyB);
+            if (subMap.isEmpty()) {
+                map.remove(oldIndexKeyA);
+            }
+        }
+        tuple.setIndexProperties(null);
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple) {
+        Set<Tuple_> tupleSet = map.computeIfAbsent(indexProperties[0], k -> new HashMap<>())
+                .computeIfAbsent(indexProperties[1], k -> new LinkedHashSet<>());
+        boolean added = tupleSet.add(tuple);
+        if (!added) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
+        }
+        tuple.setIndexProperties(indexProperties);
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        Map<Object, Set<Tuple_>> subMap = map.get(indexProperties[0]);
+        if (subMap == null) {
+            return;
+        }
+        Set<Tuple_> tupleSet = subMap.get(indexProperties[1]);
+        if (tupleSet == null) {
+            return;
+        }
+        tupleSet.forEach(tupleVisitor);
+    }
+
+}
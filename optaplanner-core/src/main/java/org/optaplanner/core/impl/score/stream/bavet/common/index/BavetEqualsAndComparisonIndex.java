@@ -17,94 +17,63 @@
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.NavigableMap;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
 
+/**
+ * Generic index for 3 or more equal joiners followed by 1 comparison joiner.
+ * See {@link BavetSingleEqualsAndComparisonIndex} and {@link BavetDoubleEqualsAndComparisonIndex}
+ * for the more common cases, which don't need to wrap the equals index properties in a {@link BavetIndexKey}.
+ */
 public class BavetEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
 
     private final JoinerType comparisonJoinerType;
-    private final Map<BavetIndexKey, NavigableMap<Object, Set<Tuple_>>> equalsMap = new HashMap<>();
+    private final int equalsIndexPropertyCount;
+    private final Map<BavetIndexKey, BavetComparisonIndex<Tuple_>> equalsMap = new HashMap<>();
 
-    public BavetEqualsAndComparisonIndex(JoinerType comparisonJoinerType) {
+    public BavetEqualsAndComparisonIndex(JoinerType comparisonJoinerType, int equalsIndexPropertyCount) {
+        if (equalsIndexPropertyCount < 3) {
+            throw new IllegalArgumentException("The equalsIndexPropertyCount (" + equalsIndexPropertyCount
+                    + ") must be at least 3, use " + BavetSingleEqualsAndComparisonIndex.class.getSimpleName()
+                    + " or " + BavetDoubleEqualsAndComparisonIndex.class.getSimpleName() + " instead.");
+        }
         this.comparisonJoinerType = comparisonJoinerType;
+        this.equalsIndexPropertyCount = equalsIndexPropertyCount;
+    }
+
+    private BavetIndexKey extractEqualsIndexKey(Object[] indexProperties) {
+        return new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, equalsIndexPropertyCount));
     }
 
     @Override
     public void remove(Tuple_ tuple) {
-        Object[] oldIndexProperties = tuple.getIndexProperties();
-        BavetIndexKey oldEqualsIndexKey = new BavetIndexKey(
-                Arrays.copyOfRange(oldIndexProperties, 0, oldIndexProperties.length - 1));
-        Object oldComparisonIndexProperty = oldIndexProperties[oldIndexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.get(oldEqualsIndexKey);
-        Set<Tuple_> tupleSet = comparisonMap.get(oldComparisonIndexProperty);
-        boolean removed = tupleSet.remove(tuple);
-        if (!removed) {
-            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
-                    + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
+        BavetIndexKey oldEqualsIndexKey = extractEqualsIndexKey(tuple.getIndexProperties());
+        BavetComparisonIndex<Tuple_> comparisonIndex = equalsMap.get(oldEqualsIndexKey);
+        comparisonIndex.remove(tuple);
+        if (comparisonIndex.isEmpty()) {
+            equalsMap.remove(oldEqualsIndexKey);
         }
-        if (tupleSet.isEmpty()) {
-            comparisonMap.remove(oldComparisonIndexProperty);
-            if (comparisonMap.isEmpty()) {
-                equalsMap.remove(oldEqualsIndexKey);
-            }
-        }
-        tuple.setIndexProperties(null);
     }
 
     @Override
     public void put(Object[] indexProperties, Tuple_ tuple) {
-        BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 1));
-        Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.computeIfAbsent(equalsIndexKey, k -> new TreeMap<>());
-        Set<Tuple_> tupleSet = comparisonMap.computeIfAbsent(comparisonIndexProperty, k -> new LinkedHashSet<>());
-        boolean added = tupleSet.add(tuple);
-        if (!added) {
-            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
-                    + ") with indexProperties (" + Arrays.toString(indexProperties)
-                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
-        }
-        tuple.setIndexProperties(indexProperties);
+        BavetIndexKey equalsIndexKey = extractEqualsIndexKey(indexProperties);
+        BavetComparisonIndex<Tuple_> comparisonIndex = equalsMap.computeIfAbsent(equalsIndexKey,
+                k -> new BavetComparisonIndex<>(comparisonJoinerType));
+        comparisonIndex.put(indexProperties, tuple);
     }
 
     @Override
-    public Set<Tuple_> get(Object[] indexProperties) {
-        BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 1));
-        Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.get(equalsIndexKey);
-        if (comparisonMap == null) {
-            return Collections.emptySet();
-        }
-        NavigableMap<Object, Set<Tuple_>> selectedComparisonMap;
-        switch (comparisonJoinerType) {
-            case LESS_THAN:
-                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, false);
-                break;
-            case LESS_THAN_OR_EQUAL:
-                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, true);
-                break;
-            case GREATER_THAN:
-                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, false);
-                break;
-            case GREATER_THAN_OR_EQUAL:
-                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, true);
-                break;
-            default:
-                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
-                        + ") is not one of the 4 comparison types.");
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        BavetComparisonIndex<Tuple_> comparisonIndex = equalsMap.get(extractEqualsIndexKey(indexProperties));
+        if (comparisonIndex == null) {
+            return;
         }
-        return selectedComparisonMap.values().stream()
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
+        comparisonIndex.visit(indexProperties, tupleVisitor);
     }
 
 }
@@ -17,14 +17,19 @@
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 
+/**
+ * Generic equals index for 3 or more equal joiners.
+ * See {@link BavetSingleEqualsIndex} and {@link BavetDoubleEqualsIndex} for the more common cases,
+ * which don't need to wrap the indexProperties in a {@link BavetIndexKey}.
+ */
 public class BavetEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
 
     private final Map<BavetIndexKey, Set<Tuple_>> map = new HashMap<>();
@@ -57,12 +62,12 @@ public class BavetEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends Bavet
     }
 
     @Override
-    public Set<Tuple_> get(Object[] indexProperties) {
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
         Set<Tuple_> tupleSet = map.get(new BavetIndexKey(indexProperties));
         if (tupleSet == null) {
-            return Collections.emptySet();
+            return;
         }
-        return tupleSet;
+        tupleSet.forEach(tupleVisitor);
     }
 
 }
@@ -16,7 +16,7 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
-import java.util.Set;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 
@@ -26,6 +26,13 @@ public abstract class BavetIndex<Tuple_ extends BavetJoinBridgeTuple> {
 
     public abstract void put(Object[] indexProperties, Tuple_ tuple);
 
-    public abstract Set<Tuple_> get(Object[] indexProperties);
+    /**
+     * Calls the tupleVisitor for every tuple that matches the indexProperties,
+     * without materializing those tuples in a new collection.
+     *
+     * @param indexProperties never null
+     * @param tupleVisitor never null
+     */
+    public abstract void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor);
 
 }
@@ -16,6 +16,10 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 import org.optaplanner.core.impl.score.stream.common.AbstractJoiner;
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
@@ -39,16 +43,51 @@ public class BavetIndexFactory {
         }
     }
 
+    /**
+     * Join bridge nodes with an equal joiner key (and the same parent node) index the same way,
+     * so they can share a single node.
+     * Mappings are compared by identity, so only the same lambda or method reference instance matches.
+     * @param isLeftBridge true if the key is for the left side of the join
+     * @param mappingFunction never null, returns the mapping of the joiner at that index for that side of the join
+     * @return never null
+     */
+    public List<Object> buildJoinerKey(boolean isLeftBridge, IntFunction<?> mappingFunction) {
+        List<Object> joinerKey = new ArrayList<>(1 + (joinerTypes.length * 2));
+        joinerKey.add(isLeftBridge);
+        for (int i = 0; i < joinerTypes.length; i++) {
+            joinerKey.add(joinerTypes[i]);
+            joinerKey.add(mappingFunction.apply(i));
+        }
+        return joinerKey;
+    }
+
     public <Tuple_ extends BavetJoinBridgeTuple> BavetIndex<Tuple_> buildIndex(boolean isLeftBridge) {
         if (joinerTypes.length == 0) {
             return new BavetNoneIndex<>();
         }
         JoinerType lastJoinerType = joinerTypes[joinerTypes.length - 1];
         if (lastJoinerType == JoinerType.EQUAL) {
-            return new BavetEqualsIndex<>();
+            switch (joinerTypes.length) {
+                case 1:
+                    return new BavetSingleEqualsIndex<>();
+                case 2:
+                    return new BavetDoubleEqualsIndex<>();
+                default:
+                    return new BavetEqualsIndex<>();
+            }
         } else {
             // Use flip() to model A < B as B > A
-            return new BavetEqualsAndComparisonIndex<>(isLeftBridge ? lastJoinerType : lastJoinerType.flip());
+            JoinerType comparisonJoinerType = isLeftBridge ? lastJoinerType : lastJoinerType.flip();
+            switch (joinerTypes.length) {
+                case 1:
+                    return new BavetComparisonIndex<>(comparisonJoinerType);
+                case 2:
+                    return new BavetSingleEqualsAndComparisonIndex<>(comparisonJoinerType);
+                case 3:
+                    return new BavetDoubleEqualsAndComparisonIndex<>(comparisonJoinerType);
+                default:
+                    return new BavetEqualsAndComparisonIndex<>(comparisonJoinerType, joinerTypes.length - 1);
+            }
         }
     }
 
@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.score.stream.bavet.common.index;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 
@@ -48,8 +49,8 @@ public class BavetNoneIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIn
     }
 
     @Override
-    public Set<Tuple_> get(Object[] indexProperties) {
-        return tupleSet;
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        tupleSet.forEach(tupleVisitor);
     }
 
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Index for exactly 1 equal joiner followed by 1 comparison joiner.
+ * Uses the equals index property as the key directly, so it doesn't need to create a composite key.
+ */
+public class BavetSingleEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private final JoinerType comparisonJoinerType;
+    private final Map<Object, BavetComparisonIndex<Tuple_>> equalsMap = new HashMap<>();
+
+    public BavetSingleEqualsAndComparisonIndex(JoinerType comparisonJoinerType) {
+        this.comparisonJoinerType = comparisonJoinerType;
+    }
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        Object oldEqualsIndexKey = tuple.getIndexProperties()[0];
+        BavetComparisonIndex<Tuple_> comparisonIndex = equalsMap.get(oldEqualsIndexKey);
+        comparisonIndex.remove(tuple);
+        if (comparisonIndex.isEmpty()) {
+            equalsMap.remove(oldEqualsIndexKey);
+        }
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple) {
+        BavetComparisonIndex<Tuple_> comparisonIndex = equalsMap.computeIfAbsent(indexProperties[0],
+                k -> new BavetComparisonIndex<>(comparisonJoinerType));
+        comparisonIndex.put(indexProperties, tuple);
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        BavetComparisonIndex<Tuple_> comparisonIndex = equalsMap.get(indexProperties[0]);
+        if (comparisonIndex == null) {
+            return;
+        }
+        comparisonIndex.visit(indexProperties, tupleVisitor);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetFlattenLastBridgeQuadNode<A, B, C, D, NewLast> extends BavetAbstractQuadNode<A, B, C, D> {
+
+    private final BavetAbstractQuadNode<A, B, C, D> parentNode;
+    private final Function<D, Iterable<NewLast>> mappingFunction;
+    private BavetFlattenLastQuadNode<A, B, C, NewLast> flattenLastNode;
+
+    public BavetFlattenLastBridgeQuadNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractQuadNode<A, B, C, D> parentNode, Function<D, Iterable<NewLast>> mappingFunction) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.mappingFunction = mappingFunction;
+    }
+
+    @Override
+    public List<BavetAbstractQuadNode<A, B, C, D>> getChildNodeList() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public BavetFlattenLastBridgeQuadTuple<A, B, C, D, NewLast> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetFlattenLastBridgeQuadTuple<>(this, parentTuple);
+    }
+
+    public void setFlattenLastNode(BavetFlattenLastQuadNode<A, B, C, NewLast> flattenLastNode) {
+        this.flattenLastNode = flattenLastNode;
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        if (flattenLastNode == null) {
+            throw new IllegalStateException("Impossible state: FlattenLastBridgeNode (" + this +
+                    ") has no child FlattenLastNode (" + flattenLastNode + ").");
+        }
+        BavetFlattenLastBridgeQuadTuple<A, B, C, D, NewLast> tuple = (BavetFlattenLastBridgeQuadTuple<A, B, C, D, NewLast>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            Iterable<NewLast> iterable = mappingFunction.apply(tuple.getFactD());
+            for (NewLast item : iterable) {
+                BavetFlattenLastQuadTuple<A, B, C, NewLast> childTuple = flattenLastNode.createTuple(tuple, item);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FlattenLastBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinBridgeTriTuple;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+
+public final class BavetJoinQuadTuple<A, B, C, D> extends BavetAbstractQuadTuple<A, B, C, D>
+        implements BavetJoinTuple {
+
+    private final BavetJoinQuadNode<A, B, C, D> node;
+    private final BavetJoinBridgeTriTuple<A, B, C> abcTuple;
+    private final BavetJoinBridgeUniTuple<D> dTuple;
+    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+
+    public BavetJoinQuadTuple(BavetJoinQuadNode<A, B, C, D> node,
+            BavetJoinBridgeTriTuple<A, B, C> abcTuple, BavetJoinBridgeUniTuple<D> dTuple) {
+        this.node = node;
+        this.abcTuple = abcTuple;
+        this.dTuple = dTuple;
+    }
+
+    @Override
+    public String toString() {
+        return "Join(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetJoinQuadNode<A, B, C, D> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return abcTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return abcTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return abcTuple.getFactC();
+    }
+
+    @Override
+    public D getFactD() {
+        return dTuple.getFactA();
+    }
+
+    public BavetJoinBridgeTriTuple<A, B, C> getAbcTuple() {
+        return abcTuple;
+    }
+
+    public BavetJoinBridgeUniTuple<D> getDTuple() {
+        return dTuple;
+    }
+
+}
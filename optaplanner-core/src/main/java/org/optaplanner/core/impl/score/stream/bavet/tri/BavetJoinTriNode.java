@@ -18,7 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBridgeBiNode;
@@ -58,7 +58,23 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode), System.identityHashCode(rightParentNode));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinTriNode) {
+            BavetJoinTriNode<?, ?, ?> other = (BavetJoinTriNode<?, ?, ?>) o;
+            return leftParentNode == other.leftParentNode
+                    && rightParentNode == other.rightParentNode;
+        } else {
+            return false;
+        }
+    }
 
     // ************************************************************************
     // Runtime
@@ -94,7 +110,10 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
 
     public void refreshChildTuplesLeft(BavetJoinBridgeBiTuple<A, B> leftParentTuple) {
         List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList();
-        for (BavetAbstractTuple tuple_ : leftTupleSet) {
+        leftTupleSet.removeIf(tuple_ -> {
+            if (tuple_.getNode() != this) { // Owned by another join node that shares the same join bridge node
+                return false;
+            }
             BavetJoinTriTuple<A, B, C> tuple = (BavetJoinTriTuple<A, B, C>) tuple_;
             boolean removed = tuple.getCTuple().getChildTupleList().remove(tuple);
             if (!removed) {
@@ -103,24 +122,26 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
                         + ")'s join bridge.");
             }
             session.transitionTuple(tuple, BavetTupleState.DYING);
-        }
-        leftTupleSet.clear();
+            return true;
+        });
         if (leftParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<C>> rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
-            for (BavetJoinBridgeUniTuple<C> rightParentTuple : rightParentTupleList) {
+            getRightIndex().visit(leftParentTuple.getIndexProperties(), rightParentTuple -> {
                 if (!rightParentTuple.isDirty()) {
                     BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
                     leftTupleSet.add(childTuple);
                     rightParentTuple.getChildTupleList().add(childTuple);
                     session.transitionTuple(childTuple, BavetTupleState.CREATING);
                 }
-            }
+            });
         }
     }
 
     public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<C> rightParentTuple) {
         List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList();
-        for (BavetAbstractTuple uncastTuple : rightTupleSet) {
+        rightTupleSet.removeIf(uncastTuple -> {
+            if (uncastTuple.getNode() != this) { // Owned by another join node that shares the same join bridge node
+                return false;
+            }
             BavetJoinTriTuple<A, B, C> tuple = (BavetJoinTriTuple<A, B, C>) uncastTuple;
             boolean removed = tuple.getAbTuple().getChildTupleList().remove(tuple);
             if (!removed) {
@@ -129,18 +150,17 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
                         + ")'s join bridge.");
             }
             session.transitionTuple(tuple, BavetTupleState.DYING);
-        }
-        rightTupleSet.clear();
+            return true;
+        });
         if (rightParentTuple.isActive()) {
-            Set<BavetJoinBridgeBiTuple<A, B>> leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
-            for (BavetJoinBridgeBiTuple<A, B> leftParentTuple : leftParentTupleList) {
+            getLeftIndex().visit(rightParentTuple.getIndexProperties(), leftParentTuple -> {
                 if (!leftParentTuple.isDirty()) {
                     BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
                     leftParentTuple.getChildTupleList().add(childTuple);
                     rightTupleSet.add(childTuple);
                     session.transitionTuple(childTuple, BavetTupleState.CREATING);
                 }
-            }
+            });
         }
     }
 
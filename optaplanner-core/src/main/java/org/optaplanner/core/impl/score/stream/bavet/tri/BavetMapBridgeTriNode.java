@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetMapUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetMapUniTuple;
+
+public final class BavetMapBridgeTriNode<A, B, C, NewA> extends BavetAbstractTriNode<A, B, C> {
+
+    private final BavetAbstractTriNode<A, B, C> parentNode;
+    private final TriFunction<A, B, C, NewA> mapping;
+    private BavetMapUniNode<NewA> mapNode;
+
+    public BavetMapBridgeTriNode(BavetConstraintSession session, int nodeIndex, BavetAbstractTriNode<A, B, C> parentNode,
+            TriFunction<A, B, C, NewA> mapping) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.mapping = mapping;
+    }
+
+    @Override
+    public List<BavetAbstractTriNode<A, B, C>> getChildNodeList() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public BavetMapBridgeTriTuple<A, B, C, NewA> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        return new BavetMapBridgeTriTuple<>(this, parentTuple);
+    }
+
+    public void setMapNode(BavetMapUniNode<NewA> mapNode) {
+        this.mapNode = mapNode;
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        if (mapNode == null) {
+            throw new IllegalStateException("Impossible state: MapBridgeNode (" + this +
+                    ") has no child MapNode (" + mapNode + ").");
+        }
+        BavetMapBridgeTriTuple<A, B, C, NewA> tuple = (BavetMapBridgeTriTuple<A, B, C, NewA>) uncastTuple;
+        BavetMapUniTuple<NewA> oldChildTuple = tuple.getChildTuple();
+        if (oldChildTuple != null) {
+            session.transitionTuple(oldChildTuple, BavetTupleState.DYING);
+            tuple.setChildTuple(null);
+        }
+        if (tuple.isActive()) {
+            A a = tuple.getFactA();
+            B b = tuple.getFactB();
+            C c = tuple.getFactC();
+            NewA mappedA = mapping.apply(a, b, c);
+            BavetMapUniTuple<NewA> childTuple = mapNode.createTuple(mappedA);
+            tuple.setChildTuple(childTuple);
+            session.transitionTuple(childTuple, BavetTupleState.CREATING);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MapBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
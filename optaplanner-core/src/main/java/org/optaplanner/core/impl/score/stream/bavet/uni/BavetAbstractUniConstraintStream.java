@@ -113,10 +113,12 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
         }
         BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
         BavetJoinBridgeUniConstraintStream<Solution_, A> leftBridge = new BavetJoinBridgeUniConstraintStream<>(
-                constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(), indexFactory);
+                constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(),
+                indexFactory.buildJoinerKey(true, castedJoiner::getLeftMapping), indexFactory);
         childStreamList.add(leftBridge);
         BavetJoinBridgeUniConstraintStream<Solution_, B> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
-                constraintFactory, other, false, castedJoiner.getRightCombinedMapping(), indexFactory);
+                constraintFactory, other, false, castedJoiner.getRightCombinedMapping(),
+                indexFactory.buildJoinerKey(false, castedJoiner::getRightMapping), indexFactory);
         other.childStreamList.add(rightBridge);
         BavetJoinBiConstraintStream<Solution_, A, B> joinStream = new BavetJoinBiConstraintStream<>(constraintFactory,
                 leftBridge, rightBridge);
@@ -262,12 +264,35 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
 
     @Override
     public <ResultA_> UniConstraintStream<ResultA_> map(Function<A, ResultA_> mapping) {
-        throw new UnsupportedOperationException();
+        BavetMapBridgeUniConstraintStream<Solution_, A, ResultA_> bridge = new BavetMapBridgeUniConstraintStream<>(
+                constraintFactory, this, mapping);
+        addChildStream(bridge);
+        BavetMapUniConstraintStream<Solution_, ResultA_> mapStream = new BavetMapUniConstraintStream<>(constraintFactory,
+                bridge);
+        bridge.setMapStream(mapStream);
+        return mapStream;
     }
 
     @Override
     public <ResultA_> UniConstraintStream<ResultA_> flattenLast(Function<A, Iterable<ResultA_>> mapping) {
-        throw new UnsupportedOperationException();
+        BavetFlattenLastBridgeUniConstraintStream<Solution_, A, ResultA_> bridge =
+                new BavetFlattenLastBridgeUniConstraintStream<>(constraintFactory, this, mapping);
+        addChildStream(bridge);
+        BavetFlattenLastUniConstraintStream<Solution_, ResultA_> flattenLastStream =
+                new BavetFlattenLastUniConstraintStream<>(constraintFactory, bridge);
+        bridge.setFlattenLastStream(flattenLastStream);
+        return flattenLastStream;
+    }
+
+    @Override
+    public UniConstraintStream<A> distinct() {
+        if (guaranteesDistinct()) {
+            return this;
+        }
+        BavetDistinctUniConstraintStream<Solution_, A> stream = new BavetDistinctUniConstraintStream<>(constraintFactory,
+                this);
+        addChildStream(stream);
+        return stream;
     }
 
     // ************************************************************************
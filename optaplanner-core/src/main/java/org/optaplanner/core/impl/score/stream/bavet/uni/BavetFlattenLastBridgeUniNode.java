@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetFlattenLastBridgeUniNode<A, NewLast> extends BavetAbstractUniNode<A> {
+
+    private final BavetAbstractUniNode<A> parentNode;
+    private final Function<A, Iterable<NewLast>> mappingFunction;
+    private BavetFlattenLastUniNode<NewLast> flattenLastNode;
+
+    public BavetFlattenLastBridgeUniNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractUniNode<A> parentNode, Function<A, Iterable<NewLast>> mappingFunction) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.mappingFunction = mappingFunction;
+    }
+
+    @Override
+    public List<BavetAbstractUniNode<A>> getChildNodeList() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public BavetFlattenLastBridgeUniTuple<A, NewLast> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+        return new BavetFlattenLastBridgeUniTuple<>(this, parentTuple);
+    }
+
+    public void setFlattenLastNode(BavetFlattenLastUniNode<NewLast> flattenLastNode) {
+        this.flattenLastNode = flattenLastNode;
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        if (flattenLastNode == null) {
+            throw new IllegalStateException("Impossible state: FlattenLastBridgeNode (" + this +
+                    ") has no child FlattenLastNode (" + flattenLastNode + ").");
+        }
+        BavetFlattenLastBridgeUniTuple<A, NewLast> tuple = (BavetFlattenLastBridgeUniTuple<A, NewLast>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            Iterable<NewLast> iterable = mappingFunction.apply(tuple.getFactA());
+            for (NewLast item : iterable) {
+                BavetFlattenLastUniTuple<NewLast> childTuple = flattenLastNode.createTuple(item);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FlattenLastBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -75,11 +75,15 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
             throw new IllegalStateException("Impossible state: the stream (" + this
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
         }
-        BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode = groupStream.createNodeChain(buildPolicy,
-                constraintWeight, null);
         BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> groupBridgeNode =
                 (BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB>) node;
-        groupBridgeNode.setGroupNode(groupNode);
+        BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode = groupBridgeNode.getGroupNode();
+        if (groupNode == null) {
+            groupNode = groupStream.createNodeChain(buildPolicy, constraintWeight, null);
+            groupBridgeNode.setGroupNode(groupNode);
+        } else { // Share the group node of the shared group bridge node
+            groupStream.createChildNodeChains(buildPolicy, constraintWeight, groupNode);
+        }
     }
 
     @Override
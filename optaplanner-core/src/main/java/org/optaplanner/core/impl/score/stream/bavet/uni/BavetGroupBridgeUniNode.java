@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
@@ -51,11 +52,43 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
         return Collections.emptyList();
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), System.identityHashCode(groupKeyMapping),
+                System.identityHashCode(collector));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetGroupBridgeUniNode) {
+            BavetGroupBridgeUniNode<?, ?, ?, ?> other = (BavetGroupBridgeUniNode<?, ?, ?, ?>) o;
+            return parentNode == other.parentNode
+                    && groupKeyMapping == other.groupKeyMapping
+                    && collector == other.collector;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
     @Override
     public BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> createTuple(BavetAbstractUniTuple<A> parentTuple) {
         return new BavetGroupBridgeUniTuple<>(this, parentTuple);
     }
 
+    public BavetGroupBiNode<NewA, ResultContainer_, NewB> getGroupNode() {
+        return groupNode;
+    }
+
     public void setGroupNode(BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode) {
         this.groupNode = groupNode;
     }
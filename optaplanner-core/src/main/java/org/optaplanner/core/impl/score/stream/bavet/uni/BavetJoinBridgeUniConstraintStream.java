@@ -35,16 +35,19 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
     private BavetJoinConstraintStream<Solution_> joinStream;
     private final boolean isLeftBridge;
     private final Function<A, Object[]> mapping;
+    private final List<Object> joinerKey;
     private final BavetIndexFactory indexFactory;
 
     public BavetJoinBridgeUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractUniConstraintStream<Solution_, A> parent,
             boolean isLeftBridge,
-            Function<A, Object[]> mapping, BavetIndexFactory indexFactory) {
+            Function<A, Object[]> mapping, List<Object> joinerKey,
+            BavetIndexFactory indexFactory) {
         super(constraintFactory);
         this.parent = parent;
         this.isLeftBridge = isLeftBridge;
         this.mapping = mapping;
+        this.joinerKey = joinerKey;
         this.indexFactory = indexFactory;
     }
 
@@ -70,7 +73,7 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
     protected BavetJoinBridgeUniNode<A> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
         return new BavetJoinBridgeUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode, mapping,
-                indexFactory.buildIndex(isLeftBridge));
+                joinerKey, indexFactory.buildIndex(isLeftBridge));
     }
 
     @Override
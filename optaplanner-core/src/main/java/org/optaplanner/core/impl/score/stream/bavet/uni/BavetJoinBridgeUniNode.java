@@ -16,8 +16,10 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -27,22 +29,30 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
 
 public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
         implements BavetJoinBridgeNode {
 
     private final BavetAbstractUniNode<A> parentNode;
     private final Function<A, Object[]> mapping;
-    /** Calls {@link BavetJoinBiNode#refreshChildTuplesLeft(BavetJoinBridgeUniTuple)}, right or tri/quad/... variants. */
-    private Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher;
+    /** See {@link BavetIndexFactory#buildJoinerKey}. */
+    private final List<Object> joinerKey;
+    /**
+     * Calls {@link BavetJoinBiNode#refreshChildTuplesLeft(BavetJoinBridgeUniTuple)} or its right variant,
+     * once for each join node that this join bridge node is shared by.
+     */
+    private final List<Consumer<BavetJoinBridgeUniTuple<A>>> childTupleRefresherList = new ArrayList<>(1);
 
     private final BavetIndex<BavetJoinBridgeUniTuple<A>> index;
 
     public BavetJoinBridgeUniNode(BavetConstraintSession session, int nodeIndex, BavetAbstractUniNode<A> parentNode,
-            Function<A, Object[]> mapping, BavetIndex<BavetJoinBridgeUniTuple<A>> index) {
+            Function<A, Object[]> mapping, List<Object> joinerKey,
+            BavetIndex<BavetJoinBridgeUniTuple<A>> index) {
         super(session, nodeIndex);
         this.parentNode = parentNode;
         this.mapping = mapping;
+        this.joinerKey = joinerKey;
         this.index = index;
     }
 
@@ -51,6 +61,32 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
         return Collections.emptyList();
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), joinerKey);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBridgeUniNode) {
+            BavetJoinBridgeUniNode<?> other = (BavetJoinBridgeUniNode<?>) o;
+            return parentNode == other.parentNode
+                    && joinerKey.equals(other.joinerKey);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
     @Override
     public BavetJoinBridgeUniTuple<A> createTuple(BavetAbstractUniTuple<A> parentTuple) {
         return new BavetJoinBridgeUniTuple<>(this, parentTuple);
@@ -68,7 +104,9 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
             Object[] indexProperties = mapping.apply(a);
             index.put(indexProperties, tuple);
         }
-        childTupleRefresher.accept(tuple);
+        for (Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher : childTupleRefresherList) {
+            childTupleRefresher.accept(tuple);
+        }
     }
 
     @Override
@@ -84,8 +122,8 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
         return index;
     }
 
-    public void setChildTupleRefresher(Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher) {
-        this.childTupleRefresher = childTupleRefresher;
+    public void addChildTupleRefresher(Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher) {
+        childTupleRefresherList.add(childTupleRefresher);
     }
 
 }
@@ -16,8 +16,8 @@
 
 package org.optaplanner.core.impl.solver;
 
-import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.solver.Solver;
@@ -86,22 +86,42 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
         }
     }
 
-    protected void runPhases(SolverScope<Solution_> solverScope) {
+    /**
+     * @param solverScope never null
+     * @return the index of the last phase that started, -1 if no phase started
+     */
+    protected int runPhases(SolverScope<Solution_> solverScope) {
+        int lastStartedPhaseIndex = -1;
         if (solverScope.getSolutionDescriptor().getMovableEntityCount(solverScope.getScoreDirector()) == 0) {
             logger.info("Skipped all phases ({}): out of {} planning entities, none are movable (non-pinned).",
                     phaseList.size(),
                     solverScope.getSolutionDescriptor().getEntityCount(solverScope.getWorkingSolution()));
-            return;
+            return lastStartedPhaseIndex;
         }
-        Iterator<Phase<Solution_>> it = phaseList.iterator();
+        ListIterator<Phase<Solution_>> it = phaseList.listIterator();
         while (!termination.isSolverTerminated(solverScope) && it.hasNext()) {
+            int phaseIndex = it.nextIndex();
             Phase<Solution_> phase = it.next();
+            if (isPhaseSkipped(solverScope, phaseIndex)) {
+                continue;
+            }
+            lastStartedPhaseIndex = phaseIndex;
             phase.solve(solverScope);
             if (it.hasNext()) {
                 solverScope.setWorkingSolutionFromBestSolution();
             }
         }
         // TODO support doing round-robin of phases (only non-construction heuristics)
+        return lastStartedPhaseIndex;
+    }
+
+    /**
+     * @param solverScope never null
+     * @param phaseIndex {@code 0 <= phaseIndex < phaseList.size()}
+     * @return true if that phase must not run in this (re)start
+     */
+    protected boolean isPhaseSkipped(SolverScope<Solution_> solverScope, int phaseIndex) {
+        return false;
     }
 
     public void solvingEnded(SolverScope<Solution_> solverScope) {
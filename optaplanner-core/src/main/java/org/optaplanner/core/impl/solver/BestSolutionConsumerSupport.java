@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.SolverManager;
+
+/**
+ * Calls the bestSolutionConsumer of 1 {@link DefaultSolverJob} on a consumer thread,
+ * so the solver thread never blocks on a slow consumer.
+ * <p>
+ * While the consumer is busy or throttled, a newer best solution replaces the pending one (skip ahead),
+ * so the consumer always receives the latest best solution.
+ * At most 1 consumer task per solver job runs at the same time, so best solutions are consumed in order.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <ProblemId_> the ID type of a submitted problem, such as {@link Long} or {@link UUID}.
+ * @see SolverManager#solveAndListen
+ */
+final class BestSolutionConsumerSupport<Solution_, ProblemId_> {
+
+    private final ProblemId_ problemId;
+    private final Consumer<? super Solution_> bestSolutionConsumer;
+    private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
+    private final ExecutorService consumerThreadPool;
+    private final long throttlingDelayNanos;
+
+    // Guarded by this
+    private Solution_ pendingBestSolution = null;
+    private boolean consuming = false;
+    private boolean flushing = false;
+    private long nextConsumptionNanos;
+
+    public BestSolutionConsumerSupport(ProblemId_ problemId, Consumer<? super Solution_> bestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            ExecutorService consumerThreadPool, long throttlingDelayNanos) {
+        this.problemId = problemId;
+        this.bestSolutionConsumer = bestSolutionConsumer;
+        this.exceptionHandler = exceptionHandler;
+        this.consumerThreadPool = consumerThreadPool;
+        this.throttlingDelayNanos = throttlingDelayNanos;
+        nextConsumptionNanos = System.nanoTime();
+    }
+
+    /**
+     * Called on the solver thread. Never blocks.
+     *
+     * @param bestSolution never null
+     */
+    public void produceBestSolution(Solution_ bestSolution) {
+        synchronized (this) {
+            pendingBestSolution = bestSolution;
+            if (consuming) {
+                // The active consumer task picks it up (skip ahead)
+                return;
+            }
+            consuming = true;
+        }
+        try {
+            consumerThreadPool.execute(this::consumeBestSolutions);
+        } catch (RejectedExecutionException e) {
+            // The SolverManager is closing
+            synchronized (this) {
+                pendingBestSolution = null;
+                consuming = false;
+                notifyAll();
+            }
+        }
+    }
+
+    private void consumeBestSolutions() {
+        while (true) {
+            Solution_ bestSolution;
+            synchronized (this) {
+                long waitNanos = nextConsumptionNanos - System.nanoTime();
+                while (!flushing && waitNanos > 0L) {
+                    try {
+                        // Woken up early by flush()
+                        wait(TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        pendingBestSolution = null;
+                        consuming = false;
+                        notifyAll();
+                        return;
+                    }
+                    waitNanos = nextConsumptionNanos - System.nanoTime();
+                }
+                bestSolution = pendingBestSolution;
+                pendingBestSolution = null;
+                if (bestSolution == null) {
+                    consuming = false;
+                    notifyAll();
+                    return;
+                }
+            }
+            try {
+                bestSolutionConsumer.accept(bestSolution);
+            } catch (Throwable throwable) {
+                // Don't fail the solver or lose later best solutions because of a failing consumer
+                exceptionHandler.accept(problemId, throwable);
+            }
+            synchronized (this) {
+                nextConsumptionNanos = System.nanoTime() + throttlingDelayNanos;
+            }
+        }
+    }
+
+    /**
+     * Called on the solver thread after solving ended.
+     * Consumes the pending best solution without throttling
+     * and only returns once the bestSolutionConsumer won't be called any more.
+     */
+    public void flush() {
+        synchronized (this) {
+            flushing = true;
+            notifyAll();
+            while (consuming) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+}
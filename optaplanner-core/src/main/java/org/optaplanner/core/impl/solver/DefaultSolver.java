@@ -16,8 +16,10 @@
 
 package org.optaplanner.core.impl.solver;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -25,6 +27,8 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.ProblemFactChange;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.RestartMode;
+import org.optaplanner.core.impl.constructionheuristic.ConstructionHeuristicPhase;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
@@ -48,6 +52,7 @@ import io.micrometer.core.instrument.Metrics;
 public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
 
     protected EnvironmentMode environmentMode;
+    protected RestartMode restartMode;
     protected RandomFactory randomFactory;
 
     protected BasicPlumbingTermination<Solution_> basicPlumbingTermination;
@@ -56,6 +61,10 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
 
     protected final SolverScope<Solution_> solverScope;
 
+    // Only used on the solver thread
+    private final List<CompletableFuture<Void>> processedProblemFactChangeFutureList = new ArrayList<>();
+    private int resumePhaseIndex = 0;
+
     private final String moveThreadCountDescription;
 
     // Metrics
@@ -66,12 +75,13 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     // Constructors and simple getters/setters
     // ************************************************************************
 
-    public DefaultSolver(EnvironmentMode environmentMode, RandomFactory randomFactory,
+    public DefaultSolver(EnvironmentMode environmentMode, RestartMode restartMode, RandomFactory randomFactory,
             BestSolutionRecaller<Solution_> bestSolutionRecaller,
             BasicPlumbingTermination<Solution_> basicPlumbingTermination, Termination<Solution_> termination,
             List<Phase<Solution_>> phaseList, SolverScope<Solution_> solverScope, String moveThreadCountDescription) {
         super(bestSolutionRecaller, termination, phaseList);
         this.environmentMode = environmentMode;
+        this.restartMode = restartMode;
         this.randomFactory = randomFactory;
         this.basicPlumbingTermination = basicPlumbingTermination;
         this.solverScope = solverScope;
@@ -84,6 +94,10 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return environmentMode;
     }
 
+    public RestartMode getRestartMode() {
+        return restartMode;
+    }
+
     public RandomFactory getRandomFactory() {
         return randomFactory;
     }
@@ -151,6 +165,34 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return basicPlumbingTermination.addProblemFactChanges(problemFactChangeList);
     }
 
+    /**
+     * Schedules the {@link ProblemFactChange}s as one batch, like {@link #addProblemFactChanges(List)}.
+     * <p>
+     * This method is thread-safe.
+     *
+     * @param problemFactChangeList never null, not empty
+     * @return never null, completes once every change of the batch has been applied to the working solution
+     *         and the best solution has been updated, just before the {@link Solver} restarts
+     */
+    public CompletableFuture<Void> scheduleProblemFactChanges(
+            List<ProblemFactChange<Solution_>> problemFactChangeList) {
+        if (problemFactChangeList.isEmpty()) {
+            throw new IllegalArgumentException("The problemFactChangeList (" + problemFactChangeList
+                    + ") must not be empty.");
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        int lastIndex = problemFactChangeList.size() - 1;
+        List<ProblemFactChange<Solution_>> wrappedProblemFactChangeList = new ArrayList<>(
+                problemFactChangeList.subList(0, lastIndex));
+        ProblemFactChange<Solution_> lastProblemFactChange = problemFactChangeList.get(lastIndex);
+        wrappedProblemFactChangeList.add(scoreDirector -> {
+            lastProblemFactChange.doChange(scoreDirector);
+            processedProblemFactChangeFutureList.add(future);
+        });
+        basicPlumbingTermination.addProblemFactChanges(wrappedProblemFactChangeList);
+        return future;
+    }
+
     @Override
     public boolean isEveryProblemFactChangeProcessed() {
         return basicPlumbingTermination.isEveryProblemFactChangeProcessed();
@@ -170,9 +212,10 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         boolean restartSolver = true;
         while (restartSolver) {
             LongTaskTimer.Sample sample = solveLengthTimer.start();
+            int lastStartedPhaseIndex;
             try {
                 solvingStarted(solverScope);
-                runPhases(solverScope);
+                lastStartedPhaseIndex = runPhases(solverScope);
                 solvingEnded(solverScope);
             } catch (Exception e) {
                 errorCounter.increment();
@@ -181,6 +224,9 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
                 sample.stop();
             }
             restartSolver = checkProblemFactChanges();
+            if (restartSolver && restartMode == RestartMode.WARM) {
+                resumePhaseIndex = Math.max(resumePhaseIndex, lastStartedPhaseIndex);
+            }
         }
         outerSolvingEnded(solverScope);
         return solverScope.getBestSolution();
@@ -189,6 +235,7 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     public void outerSolvingStarted(SolverScope<Solution_> solverScope) {
         solving.set(true);
         basicPlumbingTermination.resetTerminateEarly();
+        resumePhaseIndex = 0;
         solverScope.setStartingSolverCount(0);
         solverScope.setWorkingRandom(randomFactory.createRandom());
     }
@@ -210,6 +257,19 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
                 (randomFactory != null ? randomFactory : "not fixed"));
     }
 
+    @Override
+    protected boolean isPhaseSkipped(SolverScope<Solution_> solverScope, int phaseIndex) {
+        if (phaseIndex >= resumePhaseIndex) {
+            return false;
+        }
+        // Warm restart: this phase already completed before the problem fact changes came in
+        if (phaseList.get(phaseIndex) instanceof ConstructionHeuristicPhase) {
+            // Only initializes the variables that the problem fact changes left uninitialized
+            return solverScope.getBestScore().isSolutionInitialized();
+        }
+        return true;
+    }
+
     @Override
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         super.solvingEnded(solverScope);
@@ -240,29 +300,42 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             solverScope.setWorkingSolutionFromBestSolution();
             Score score = null;
             int stepIndex = 0;
-            ProblemFactChange<Solution_> problemFactChange = problemFactChangeQueue.poll();
-            while (problemFactChange != null) {
-                score = doProblemFactChange(problemFactChange, stepIndex);
-                stepIndex++;
-                problemFactChange = problemFactChangeQueue.poll();
+            try {
+                ProblemFactChange<Solution_> problemFactChange = problemFactChangeQueue.poll();
+                while (problemFactChange != null) {
+                    doProblemFactChange(problemFactChange, stepIndex);
+                    stepIndex++;
+                    problemFactChange = problemFactChangeQueue.poll();
+                }
+                // Calculate the score once for all changes together, instead of once per change
+                score = solverScope.calculateScore();
+                // All PFCs are processed, fail fast if any of the new facts have null planning IDs.
+                InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+                scoreDirector.assertNonNullPlanningIds();
+            } catch (RuntimeException e) {
+                for (CompletableFuture<Void> future : processedProblemFactChangeFutureList) {
+                    future.completeExceptionally(e);
+                }
+                processedProblemFactChangeFutureList.clear();
+                throw e;
             }
-            // All PFCs are processed, fail fast if any of the new facts have null planning IDs.
-            InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
-            scoreDirector.assertNonNullPlanningIds();
             // Everything is fine, proceed.
             basicPlumbingTermination.endProblemFactChangesProcessing();
             bestSolutionRecaller.updateBestSolution(solverScope);
             logger.info("Real-time problem fact changes done: step total ({}), new best score ({}).",
                     stepIndex, score);
+            // All changes that were queued during the previous run are coalesced into this single restart
+            for (CompletableFuture<Void> future : processedProblemFactChangeFutureList) {
+                future.complete(null);
+            }
+            processedProblemFactChangeFutureList.clear();
             return true;
         }
     }
 
-    private Score doProblemFactChange(ProblemFactChange<Solution_> problemFactChange, int stepIndex) {
+    private void doProblemFactChange(ProblemFactChange<Solution_> problemFactChange, int stepIndex) {
         problemFactChange.doChange(solverScope.getScoreDirector());
-        Score score = solverScope.calculateScore();
-        logger.debug("    Step index ({}), new score ({}) for real-time problem fact change.", stepIndex, score);
-        return score;
+        logger.debug("    Step index ({}), real-time problem fact change done.", stepIndex);
     }
 
 }
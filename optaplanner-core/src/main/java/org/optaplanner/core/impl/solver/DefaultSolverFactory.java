@@ -30,6 +30,7 @@ import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.RestartMode;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.random.RandomType;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
@@ -77,6 +78,9 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
     public Solver<Solution_> buildSolver() {
         EnvironmentMode environmentMode_ = solverConfig.determineEnvironmentMode();
         boolean daemon_ = defaultIfNull(solverConfig.getDaemon(), false);
+        RestartMode restartMode_ = defaultIfNull(solverConfig.getRestartMode(), RestartMode.FULL);
+        boolean lazyBestSolutionCloningEnabled_ =
+                defaultIfNull(solverConfig.getLazyBestSolutionCloningEnabled(), false);
 
         RandomFactory randomFactory = buildRandomFactory(environmentMode_);
         Integer moveThreadCount_ = new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
@@ -86,10 +90,11 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         solverScope.setScoreDirector(scoreDirectorFactory.buildScoreDirector(true, constraintMatchEnabledPreference));
 
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
-                BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_);
+                BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_,
+                        lazyBestSolutionCloningEnabled_);
         HeuristicConfigPolicy<Solution_> configPolicy = new HeuristicConfigPolicy<>(environmentMode_,
-                moveThreadCount_, solverConfig.getMoveThreadBufferSize(), solverConfig.getThreadFactoryClass(),
-                scoreDirectorFactory);
+                moveThreadCount_, solverConfig.getMoveThreadBufferSize(), solverConfig.getMoveThreadBatchSize(),
+                solverConfig.getThreadFactoryClass(), scoreDirectorFactory);
         TerminationConfig terminationConfig_ = solverConfig.getTerminationConfig() == null
                 ? new TerminationConfig()
                 : solverConfig.getTerminationConfig();
@@ -97,8 +102,8 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         Termination<Solution_> termination = TerminationFactory.<Solution_> create(terminationConfig_)
                 .buildTermination(configPolicy, basicPlumbingTermination);
         List<Phase<Solution_>> phaseList = buildPhaseList(configPolicy, bestSolutionRecaller, termination);
-        return new DefaultSolver<>(environmentMode_, randomFactory, bestSolutionRecaller, basicPlumbingTermination,
-                termination, phaseList, solverScope,
+        return new DefaultSolver<>(environmentMode_, restartMode_, randomFactory, bestSolutionRecaller,
+                basicPlumbingTermination, termination, phaseList, solverScope,
                 moveThreadCount_ == null ? SolverConfig.MOVE_THREAD_COUNT_NONE : Integer.toString(moveThreadCount_));
     }
 
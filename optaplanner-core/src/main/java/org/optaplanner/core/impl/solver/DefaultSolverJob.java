@@ -17,8 +17,13 @@
 package org.optaplanner.core.impl.solver;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -28,6 +33,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.ProblemFactChange;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverJob;
 import org.optaplanner.core.api.solver.SolverStatus;
@@ -47,11 +53,13 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private final DefaultSolver<Solution_> solver;
     private final ProblemId_ problemId;
     private final Function<? super ProblemId_, ? extends Solution_> problemFinder;
+    private final BestSolutionConsumerSupport<Solution_, ProblemId_> bestSolutionConsumerSupport;
     private final Consumer<? super Solution_> finalBestSolutionConsumer;
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
 
     private final AtomicReference<SolverStatus> solverStatusReference;
     private CountDownLatch terminatedLatch;
+    private final Set<CompletableFuture<Void>> problemFactChangeFutureSet;
 
     private Future<Solution_> future;
 
@@ -59,6 +67,7 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             DefaultSolverManager<Solution_, ProblemId_> solverManager,
             Solver<Solution_> solver, ProblemId_ problemId,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            BestSolutionConsumerSupport<Solution_, ProblemId_> bestSolutionConsumerSupport,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
         this.solverManager = solverManager;
@@ -69,10 +78,12 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         }
         this.solver = (DefaultSolver<Solution_>) solver;
         this.problemFinder = problemFinder;
+        this.bestSolutionConsumerSupport = bestSolutionConsumerSupport;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer;
         this.exceptionHandler = exceptionHandler;
         solverStatusReference = new AtomicReference<>(SolverStatus.SOLVING_SCHEDULED);
         terminatedLatch = new CountDownLatch(1);
+        problemFactChangeFutureSet = ConcurrentHashMap.newKeySet();
     }
 
     public void setFuture(Future<Solution_> future) {
@@ -99,6 +110,7 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         try {
             Solution_ problem = problemFinder.apply(problemId);
             final Solution_ finalBestSolution = solver.solve(problem);
+            flushBestSolutionConsumer();
             if (finalBestSolutionConsumer != null) {
                 // TODO consumption should happen on different thread than solver thread
                 finalBestSolutionConsumer.accept(finalBestSolution);
@@ -106,29 +118,61 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             return finalBestSolution;
         } catch (Exception e) {
             exceptionHandler.accept(problemId, e);
-            throw new IllegalStateException("Solving failed for problemId (" + problemId + ").", e);
+            IllegalStateException solvingFailedException = new IllegalStateException(
+                    "Solving failed for problemId (" + problemId + ").", e);
+            failProblemFactChangeFutures(solvingFailedException);
+            throw solvingFailedException;
         } finally {
+            flushBestSolutionConsumer();
             solvingTerminated();
         }
     }
 
+    private void flushBestSolutionConsumer() {
+        if (bestSolutionConsumerSupport != null) {
+            // The bestSolutionConsumer is called before the finalBestSolutionConsumer
+            bestSolutionConsumerSupport.flush();
+        }
+    }
+
     private void solvingTerminated() {
         solverStatusReference.set(SolverStatus.NOT_SOLVING);
         solverManager.unregisterSolverJob(problemId);
+        failProblemFactChangeFutures(new IllegalStateException("The problemId (" + problemId
+                + ") terminated before the problem fact change was processed."));
         terminatedLatch.countDown();
     }
 
+    private void failProblemFactChangeFutures(Throwable throwable) {
+        // Does nothing for the futures that are already completed
+        for (CompletableFuture<Void> future : problemFactChangeFutureSet) {
+            future.completeExceptionally(throwable);
+        }
+    }
+
     // TODO Future features
     //    @Override
     //    public void reloadProblem(Function<? super ProblemId_, Solution_> problemFinder) {
     //        throw new UnsupportedOperationException("The solver is still solving and reloadProblem() is not yet supported.");
     //    }
 
-    // TODO Future features
-    //    @Override
-    //    public void addProblemFactChange(ProblemFactChange<Solution_> problemFactChange) {
-    //        solver.addProblemFactChange(problemFactChange);
-    //    }
+    @Override
+    public CompletableFuture<Void> addProblemFactChange(ProblemFactChange<Solution_> problemFactChange) {
+        return addProblemFactChanges(Collections.singletonList(problemFactChange));
+    }
+
+    @Override
+    public CompletableFuture<Void> addProblemFactChanges(List<ProblemFactChange<Solution_>> problemFactChangeList) {
+        CompletableFuture<Void> future = solver.scheduleProblemFactChanges(problemFactChangeList);
+        problemFactChangeFutureSet.add(future);
+        future.whenComplete((result, throwable) -> problemFactChangeFutureSet.remove(future));
+        if (solverStatusReference.get() == SolverStatus.NOT_SOLVING) {
+            // Solving terminated before the future was registered, so the change will never be processed
+            future.completeExceptionally(new IllegalStateException("The problemId (" + problemId
+                    + ") is not solving, so the problem fact change cannot be processed."));
+        }
+        return future;
+    }
 
     @Override
     public void terminateEarly() {
@@ -16,7 +16,10 @@
 
 package org.optaplanner.core.impl.solver;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
@@ -27,12 +30,14 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.ProblemFactChange;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.solver.SolverJob;
 import org.optaplanner.core.api.solver.SolverManager;
 import org.optaplanner.core.api.solver.SolverStatus;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +52,8 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
     private final ExecutorService solverThreadPool;
+    private final ExecutorService bestSolutionConsumerThreadPool;
+    private final long throttlingDelayNanos;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
@@ -57,6 +64,10 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         validateSolverFactory();
         int parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
         solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+        // At most 1 consumer task per solver job runs at the same time
+        bestSolutionConsumerThreadPool = Executors.newFixedThreadPool(parallelSolverCount,
+                new DefaultSolverThreadFactory("BestSolutionConsumer"));
+        throttlingDelayNanos = solverManagerConfig.resolveThrottlingDelay().toNanos();
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
@@ -103,21 +114,26 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
         Solver<Solution_> solver = solverFactory.buildSolver();
-        // TODO consumption should happen on different thread than solver thread, doing skipAhead and throttling
-        if (bestSolutionConsumer != null) {
-            solver.addEventListener(event -> bestSolutionConsumer.accept(event.getNewBestSolution()));
-        }
         BiConsumer<? super ProblemId_, ? super Throwable> finalExceptionHandler = (exceptionHandler != null)
                 ? exceptionHandler
                 : defaultExceptionHandler;
+        BestSolutionConsumerSupport<Solution_, ProblemId_> bestSolutionConsumerSupport;
+        if (bestSolutionConsumer != null) {
+            bestSolutionConsumerSupport = new BestSolutionConsumerSupport<>(problemId, bestSolutionConsumer,
+                    finalExceptionHandler, bestSolutionConsumerThreadPool, throttlingDelayNanos);
+            solver.addEventListener(
+                    event -> bestSolutionConsumerSupport.produceBestSolution(event.getNewBestSolution()));
+        } else {
+            bestSolutionConsumerSupport = null;
+        }
         DefaultSolverJob<Solution_, ProblemId_> solverJob = problemIdToSolverJobMap
                 .compute(problemId, (key, oldSolverJob) -> {
                     if (oldSolverJob != null) {
                         // TODO Future features: automatically restart solving by calling reloadProblem()
                         throw new IllegalStateException("The problemId (" + problemId + ") is already solving.");
                     } else {
-                        return new DefaultSolverJob<>(this, solver, problemId, problemFinder, finalBestSolutionConsumer,
-                                finalExceptionHandler);
+                        return new DefaultSolverJob<>(this, solver, problemId, problemFinder,
+                                bestSolutionConsumerSupport, finalBestSolutionConsumer, finalExceptionHandler);
                     }
                 });
         Future<Solution_> future = solverThreadPool.submit(solverJob);
@@ -146,17 +162,25 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     //        solverJob.reloadProblem(problemFinder);
     //    }
 
-    // TODO Future features
-    //    @Override
-    //    public void addProblemFactChange(ProblemId_ problemId, ProblemFactChange<Solution_> problemFactChange) {
-    //        DefaultSolverJob<Solution_, ProblemId_> solverJob = problemIdToSolverJobMap.get(problemId);
-    //        if (solverJob == null) {
-    //            // We cannot distinguish between "already terminated" and "never solved" without causing a memory leak.
-    //            logger.debug("Ignoring addProblemFactChange() call because problemId ({}) is not solving.", problemId);
-    //            return;
-    //        }
-    //        solverJob.addProblemFactChange(problemFactChange);
-    //    }
+    @Override
+    public CompletableFuture<Void> addProblemFactChange(ProblemId_ problemId,
+            ProblemFactChange<Solution_> problemFactChange) {
+        return addProblemFactChanges(problemId, Collections.singletonList(problemFactChange));
+    }
+
+    @Override
+    public CompletableFuture<Void> addProblemFactChanges(ProblemId_ problemId,
+            List<ProblemFactChange<Solution_>> problemFactChangeList) {
+        DefaultSolverJob<Solution_, ProblemId_> solverJob = getSolverJob(problemId);
+        if (solverJob == null) {
+            // We cannot distinguish between "already terminated" and "never solved" without causing a memory leak.
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(new IllegalStateException("The problemId (" + problemId
+                    + ") is not solving, so the problem fact change cannot be processed."));
+            return future;
+        }
+        return solverJob.addProblemFactChanges(problemFactChangeList);
+    }
 
     @Override
     public void terminateEarly(ProblemId_ problemId) {
@@ -172,6 +196,7 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     @Override
     public void close() {
         solverThreadPool.shutdownNow();
+        bestSolutionConsumerThreadPool.shutdownNow();
     }
 
     protected void unregisterSolverJob(ProblemId_ problemId) {
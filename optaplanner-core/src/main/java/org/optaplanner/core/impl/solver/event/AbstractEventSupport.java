@@ -32,4 +32,8 @@ public class AbstractEventSupport<E extends EventListener> {
         eventListenerSet.remove(eventListener);
     }
 
+    public boolean hasEventListeners() {
+        return !eventListenerSet.isEmpty();
+    }
+
 }
@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.solver.recaller;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
@@ -36,9 +37,13 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     protected boolean assertInitialScoreFromScratch = false;
     protected boolean assertShadowVariablesAreNotStale = false;
     protected boolean assertBestScoreIsUnmodified = false;
+    protected boolean lazyBestSolutionCloningEnabled = false;
 
     protected SolverEventSupport<Solution_> solverEventSupport;
 
+    // True if the best score improved, but the working solution hasn't been cloned as the best solution yet
+    private boolean unclonedBestSolution = false;
+
     public void setAssertInitialScoreFromScratch(boolean assertInitialScoreFromScratch) {
         this.assertInitialScoreFromScratch = assertInitialScoreFromScratch;
     }
@@ -51,6 +56,10 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         this.assertBestScoreIsUnmodified = assertBestScoreIsUnmodified;
     }
 
+    public void setLazyBestSolutionCloningEnabled(boolean lazyBestSolutionCloningEnabled) {
+        this.lazyBestSolutionCloningEnabled = lazyBestSolutionCloningEnabled;
+    }
+
     public void setSolverEventSupport(SolverEventSupport<Solution_> solverEventSupport) {
         this.solverEventSupport = solverEventSupport;
     }
@@ -79,9 +88,26 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         if (assertShadowVariablesAreNotStale) {
             scoreDirector.assertShadowVariablesAreNotStale(score, "Initial score calculated");
         }
+        unclonedBestSolution = false;
     }
 
     public void processWorkingSolutionDuringStep(AbstractStepScope<Solution_> stepScope) {
+        processWorkingSolutionDuringStep(stepScope, null, null);
+    }
+
+    /**
+     * Unlike {@link #processWorkingSolutionDuringStep(AbstractStepScope)},
+     * this might postpone cloning a new best solution, if lazy best solution cloning is enabled.
+     * Until it is cloned, the best solution of the {@link SolverScope} is stale, but its best score is not.
+     * If the next step doesn't improve the best score, its undoStep restores the best solution to clone it,
+     * after which that step is done again.
+     *
+     * @param stepScope never null
+     * @param step sometimes null, the move that has been done in this step
+     * @param undoStep null if step is null, the undo move of that step
+     */
+    public void processWorkingSolutionDuringStep(AbstractStepScope<Solution_> stepScope,
+            Move<Solution_> step, Move<Solution_> undoStep) {
         AbstractPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
         Score score = stepScope.getScore();
         SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
@@ -89,13 +115,46 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
+            if (undoStep != null && lazyBestSolutionCloningEnabled && !solverEventSupport.hasEventListeners()) {
+                // The working solution is the new best solution until the next step changes it
+                updateBestScore(solverScope, score);
+                unclonedBestSolution = true;
+                return;
+            }
             Solution_ newBestSolution = stepScope.createOrGetClonedSolution();
             updateBestSolution(solverScope, score, newBestSolution);
-        } else if (assertBestScoreIsUnmodified) {
-            solverScope.assertScoreFromScratch(solverScope.getBestSolution());
+            unclonedBestSolution = false;
+        } else {
+            if (unclonedBestSolution) {
+                // The best solution is the working solution before this step
+                InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
+                undoStep.doMove(scoreDirector);
+                cloneUnclonedBestSolution(solverScope);
+                step.doMove(scoreDirector);
+            }
+            if (assertBestScoreIsUnmodified) {
+                solverScope.assertScoreFromScratch(solverScope.getBestSolution());
+            }
         }
     }
 
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        if (unclonedBestSolution) {
+            // No step changed the working solution since it became the new best solution
+            cloneUnclonedBestSolution(phaseScope.getSolverScope());
+        }
+    }
+
+    private void cloneUnclonedBestSolution(SolverScope<Solution_> solverScope) {
+        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolutionAsBestSolution();
+        // The working solution might still have the score of a later step
+        solverScope.getSolutionDescriptor().setScore(newBestSolution, solverScope.getBestScore());
+        // Don't change the bestSolutionTimeMillis, which was set when the best score improved
+        solverScope.setBestSolution(newBestSolution);
+        unclonedBestSolution = false;
+    }
+
     public void processWorkingSolutionDuringMove(Score score, AbstractStepScope<Solution_> stepScope) {
         AbstractPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
         SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
@@ -107,7 +166,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolutionAsBestSolution();
             updateBestSolution(solverScope, score, newBestSolution);
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
@@ -115,21 +174,25 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     }
 
     public void updateBestSolution(SolverScope<Solution_> solverScope) {
-        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolutionAsBestSolution();
         Score newBestScore = solverScope.getSolutionDescriptor().getScore(newBestSolution);
         updateBestSolution(solverScope, newBestScore, newBestSolution);
     }
 
     protected void updateBestSolution(SolverScope<Solution_> solverScope, Score bestScore, Solution_ bestSolution) {
+        solverScope.setBestSolution(bestSolution);
+        updateBestScore(solverScope, bestScore);
+        solverEventSupport.fireBestSolutionChanged(solverScope, bestSolution);
+    }
+
+    private void updateBestScore(SolverScope<Solution_> solverScope, Score bestScore) {
         if (bestScore.isSolutionInitialized()) {
             if (!solverScope.isBestSolutionInitialized()) {
                 solverScope.setStartingInitializedScore(bestScore);
             }
         }
-        solverScope.setBestSolution(bestSolution);
         solverScope.setBestScore(bestScore);
         solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
-        solverEventSupport.fireBestSolutionChanged(solverScope, bestSolution);
     }
 
 }
@@ -25,7 +25,13 @@ public class BestSolutionRecallerFactory {
     }
 
     public <Solution_> BestSolutionRecaller<Solution_> buildBestSolutionRecaller(EnvironmentMode environmentMode) {
+        return buildBestSolutionRecaller(environmentMode, false);
+    }
+
+    public <Solution_> BestSolutionRecaller<Solution_> buildBestSolutionRecaller(EnvironmentMode environmentMode,
+            boolean lazyBestSolutionCloningEnabled) {
         BestSolutionRecaller<Solution_> bestSolutionRecaller = new BestSolutionRecaller<>();
+        bestSolutionRecaller.setLazyBestSolutionCloningEnabled(lazyBestSolutionCloningEnabled);
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             bestSolutionRecaller.setAssertInitialScoreFromScratch(true);
             bestSolutionRecaller.setAssertShadowVariablesAreNotStale(true);
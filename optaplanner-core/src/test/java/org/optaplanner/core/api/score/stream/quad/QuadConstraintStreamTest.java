@@ -70,7 +70,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void filter_entity() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 0, 1, 0);
         TestdataLavishValue value1 = new TestdataLavishValue("MyValue 1", solution.getFirstValueGroup());
         solution.getValueList().add(value1);
@@ -123,7 +122,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void filter_consecutive() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(5, 5);
         TestdataLavishEntity entity1 = solution.getEntityList().get(0);
         TestdataLavishEntity entity2 = solution.getEntityList().get(1);
@@ -1015,7 +1013,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void mapWithDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -1049,7 +1046,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void mapWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -1081,7 +1077,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void mapAndDistinctWithDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -1115,7 +1110,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void mapAndDistinctWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -1148,7 +1142,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void flattenLastWithDuplicates() {
-        assumeDrools();
 
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         TestdataLavishEntity entity1 = solution.getFirstEntity();
@@ -1188,7 +1181,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void flattenLastWithoutDuplicates() {
-        assumeDrools();
 
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         TestdataLavishEntity entity1 = solution.getFirstEntity();
@@ -1225,7 +1217,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void flattenLastAndDistinctWithDuplicates() {
-        assumeDrools();
 
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         TestdataLavishEntity entity1 = solution.getFirstEntity();
@@ -1263,7 +1254,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void flattenLastAndDistinctWithoutDuplicates() {
-        assumeDrools();
 
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         TestdataLavishEntity entity1 = solution.getFirstEntity();
@@ -1305,7 +1295,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_Int() {
-        assumeDrools();
         TestdataSolution solution = new TestdataSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(singletonList(v1));
@@ -1333,7 +1322,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_Long() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = new TestdataSimpleLongScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1362,7 +1350,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_BigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = new TestdataSimpleBigDecimalScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1393,7 +1380,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_negative() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
 
         String constraintName = "myConstraint";
@@ -1410,7 +1396,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_Int() {
-        assumeDrools();
         TestdataSolution solution = new TestdataSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1438,7 +1423,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_Long() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = new TestdataSimpleLongScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1467,7 +1451,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_BigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = new TestdataSimpleBigDecimalScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1498,7 +1481,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_negative() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
 
         String constraintName = "myConstraint";
@@ -157,7 +157,6 @@ public class TriConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void join_0() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 0, 1, 0);
         TestdataLavishValue value1 = new TestdataLavishValue("MyValue 1", solution.getFirstValueGroup());
         solution.getValueList().add(value1);
@@ -212,7 +211,6 @@ public class TriConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void join_1Equal() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 0, 1, 0);
         TestdataLavishValue value1 = new TestdataLavishValue("MyValue 1", solution.getFirstValueGroup());
         solution.getValueList().add(value1);
@@ -270,7 +268,6 @@ public class TriConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void join_2Equal() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 0, 1, 0);
         TestdataLavishValue value1 = new TestdataLavishValue("MyValue 1", solution.getFirstValueGroup());
         solution.getValueList().add(value1);
@@ -1133,7 +1130,6 @@ public class TriConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapWithDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -1164,7 +1160,6 @@ public class TriConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 3, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -1196,7 +1191,6 @@ public class TriConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapAndDistinctWithDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -1226,7 +1220,6 @@ public class TriConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapAndDistinctWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 3, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -1259,7 +1252,6 @@ public class TriConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void flattenLastWithDuplicates() {
-        assumeDrools();
 
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         TestdataLavishEntity entity1 = solution.getFirstEntity();
@@ -1298,7 +1290,6 @@ public class TriConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void flattenLastWithoutDuplicates() {
-        assumeDrools();
 
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         TestdataLavishEntity entity1 = solution.getFirstEntity();
@@ -1334,7 +1325,6 @@ public class TriConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void flattenLastAndDistinctWithDuplicates() {
-        assumeDrools();
 
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         TestdataLavishEntity entity1 = solution.getFirstEntity();
@@ -1371,7 +1361,6 @@ public class TriConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void flattenLastAndDistinctWithoutDuplicates() {
-        assumeDrools();
 
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         TestdataLavishEntity entity1 = solution.getFirstEntity();
@@ -1411,7 +1411,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapWithDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.from(TestdataLavishEntity.class)
@@ -1440,7 +1439,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.from(TestdataLavishEntity.class)
@@ -1470,7 +1468,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapAndDistinctWithDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.from(TestdataLavishEntity.class)
@@ -1499,7 +1496,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapAndDistinctWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.from(TestdataLavishEntity.class)
@@ -1527,10 +1523,61 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
                 assertMatch(group2));
     }
 
+    @TestTemplate
+    public void mapAndDistinctWithNullMappedValues() {
+        assumeBavet();
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 3);
+        TestdataLavishEntity entity1 = solution.getFirstEntity();
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+        TestdataLavishEntity entity3 = solution.getEntityList().get(2);
+        entity1.setIntegerProperty(null);
+        entity2.setIntegerProperty(null);
+        entity3.setIntegerProperty(1);
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .map(TestdataLavishEntity::getIntegerProperty) // Two entities map to null => duplicates.
+                    .distinct()
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch((Object) null),
+                assertMatch(1));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(1);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatch((Object) null),
+                assertMatch(1));
+
+        scoreDirector.beforeEntityRemoved(entity2);
+        solution.getEntityList().remove(entity2);
+        scoreDirector.afterEntityRemoved(entity2);
+        assertScore(scoreDirector,
+                assertMatch(1));
+
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(null);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatch((Object) null),
+                assertMatch(1));
+
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(2);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatch(1),
+                assertMatch(2));
+    }
+
     @Override
     @TestTemplate
     public void flattenLastWithDuplicates() {
-        assumeDrools();
 
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         TestdataLavishEntityGroup group1 = solution.getFirstEntityGroup();
@@ -1567,7 +1614,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void flattenLastWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.from(TestdataLavishEntity.class)
@@ -1597,7 +1643,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void flattenLastAndDistinctWithDuplicates() {
-        assumeDrools();
 
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         TestdataLavishEntityGroup group1 = solution.getFirstEntityGroup();
@@ -1630,7 +1675,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void flattenLastAndDistinctWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.from(TestdataLavishEntity.class)
@@ -24,12 +24,15 @@ import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_ACTIVE;
 import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_SCHEDULED;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertSolutionInitialized;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
@@ -214,10 +217,10 @@ public class SolverManagerTest {
         solverManager.close();
     }
 
-    @Disabled("Skip ahead not yet supported")
     @Test
     @Timeout(60)
     public void skipAhead() throws ExecutionException, InterruptedException {
+        CountDownLatch consumptionStartedLatch = new CountDownLatch(1);
         CountDownLatch latch = new CountDownLatch(1);
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
                 TestdataEntity.class)
@@ -230,6 +233,12 @@ public class SolverManagerTest {
                             scoreDirector.afterVariableChanged(entity, "value");
                             scoreDirector.triggerVariableListeners();
                         }, (ScoreDirector<TestdataSolution> scoreDirector) -> {
+                            // The consumer is blocked on an earlier best solution from now on
+                            try {
+                                consumptionStartedLatch.await();
+                            } catch (InterruptedException e) {
+                                throw new IllegalStateException("The consumptionStartedLatch failed.", e);
+                            }
                             TestdataSolution solution = scoreDirector.getWorkingSolution();
                             TestdataEntity entity = solution.getEntityList().get(1);
                             scoreDirector.beforeVariableChanged(entity, "value");
@@ -244,14 +253,15 @@ public class SolverManagerTest {
                             scoreDirector.afterVariableChanged(entity, "value");
                             scoreDirector.triggerVariableListeners();
                         }, (ScoreDirector<TestdataSolution> scoreDirector) -> {
-                            // In the next best solution event, both e1 and e2 are definitely not null (but e3 might be).
-                            latch.countDown();
                             TestdataSolution solution = scoreDirector.getWorkingSolution();
                             TestdataEntity entity = solution.getEntityList().get(3);
                             scoreDirector.beforeVariableChanged(entity, "value");
                             entity.setValue(solution.getValueList().get(3));
                             scoreDirector.afterVariableChanged(entity, "value");
                             scoreDirector.triggerVariableListeners();
+                        }, (ScoreDirector<TestdataSolution> scoreDirector) -> {
+                            // The best solution events of e2, e3 and e4 happened while the consumer was blocked
+                            latch.countDown();
                         }));
         SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
                 solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
@@ -261,31 +271,49 @@ public class SolverManagerTest {
         SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
                 problemId -> PlannerTestUtils.generateTestdataSolution("s1", 4),
                 bestSolution -> {
-                    if (bestSolution.getEntityList().get(1).getValue() == null) {
-                        // The problem itself causes a best solution event. TODO Do we really want that behavior?
-                        return;
-                    }
-                    bestSolutionCount.incrementAndGet();
-                    if (bestSolution.getEntityList().get(2).getValue() == null) {
+                    if (bestSolutionCount.getAndIncrement() == 0) {
+                        consumptionStartedLatch.countDown();
                         try {
                             latch.await();
                         } catch (InterruptedException e) {
                             fail("Latch failed.");
                         }
                     } else if (bestSolution.getEntityList().get(3).getValue() == null) {
-                        fail("No skip ahead occurred: both e2 and e3 are null in a best solution event.");
+                        fail("No skip ahead occurred: e4 is null in a later best solution event.");
                     }
                 },
                 finalBestSolution -> finalBestSolutionCount.incrementAndGet(),
                 (problemId, throwable) -> exceptionCount.incrementAndGet());
         assertSolutionInitialized(solverJob1.getFinalBestSolution());
-        // EventCount can be 2 or 3, depending on the race, but it can never be 4.
-        assertThat(bestSolutionCount).hasValueLessThan(4);
+        // The best solutions with e2 and e3 assigned but not e4 were skipped
+        assertThat(bestSolutionCount).hasValue(2);
         assertThat(finalBestSolutionCount).hasValue(1);
         assertThat(exceptionCount).hasValue(0);
         solverManager.close();
     }
 
+    @Test
+    @Timeout(60)
+    public void throttlingDelay() throws ExecutionException, InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        // Much longer than the test timeout: the final best solution must not wait for the throttlingDelay
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(solverConfig,
+                new SolverManagerConfig().withParallelSolverCount("1").withThrottlingDelay(Duration.ofHours(1L)));
+        List<TestdataSolution> consumedBestSolutions = Collections.synchronizedList(new ArrayList<>());
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1", 4),
+                consumedBestSolutions::add);
+        TestdataSolution finalBestSolution = solverJob1.getFinalBestSolution();
+        assertSolutionInitialized(finalBestSolution);
+        // At most the first best solution is consumed before the throttlingDelay kicks in
+        assertThat(consumedBestSolutions).hasSizeBetween(1, 2);
+        TestdataSolution lastConsumedBestSolution = consumedBestSolutions.get(consumedBestSolutions.size() - 1);
+        assertSolutionInitialized(lastConsumedBestSolution);
+        assertThat(lastConsumedBestSolution.getScore()).isEqualTo(finalBestSolution.getScore());
+        solverManager.close();
+    }
+
     @Test
     @Timeout(600)
     public void terminateEarly() throws InterruptedException, BrokenBarrierException {
@@ -347,6 +375,46 @@ public class SolverManagerTest {
         solverManager.close();
     }
 
+    @Test
+    @Timeout(60)
+    public void addProblemFactChanges() throws ExecutionException, InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withDaemon(true)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1", 4));
+        solverJob1.addProblemFactChange(addEntity("e5")).get();
+        solverManager.addProblemFactChanges(1L, Arrays.asList(addEntity("e6"), addEntity("e7"))).get();
+        solverJob1.terminateEarly();
+        TestdataSolution finalBestSolution = solverJob1.getFinalBestSolution();
+        assertThat(finalBestSolution.getEntityList()).extracting(TestdataEntity::getCode)
+                .containsExactly("e1", "e2", "e3", "e4", "e5", "e6", "e7");
+        assertSolutionInitialized(finalBestSolution);
+
+        CompletableFuture<Void> terminatedFuture = solverJob1.addProblemFactChange(addEntity("e8"));
+        assertThatThrownBy(terminatedFuture::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        CompletableFuture<Void> unknownFuture = solverManager.addProblemFactChange(2L, addEntity("e8"));
+        assertThatThrownBy(unknownFuture::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        solverManager.close();
+    }
+
+    private static ProblemFactChange<TestdataSolution> addEntity(String code) {
+        return scoreDirector -> {
+            TestdataEntity entity = new TestdataEntity(code);
+            scoreDirector.beforeEntityAdded(entity);
+            scoreDirector.getWorkingSolution().getEntityList().add(entity);
+            scoreDirector.afterEntityAdded(entity);
+            scoreDirector.triggerVariableListeners();
+        };
+    }
+
     /**
      * Tests whether SolverManager can solve on multiple threads problems that use multiple thread counts.
      */
@@ -468,9 +536,12 @@ public class SolverManagerTest {
 
     private void assertConsumedSolutions(Map<Integer, List<TestdataSolution>> consumedSolutions) {
         for (List<TestdataSolution> consumedSolution : consumedSolutions.values()) {
-            assertThat(consumedSolution).hasSize(2);
-            assertConsumedFirstBestSolution(consumedSolution.get(0));
-            assertConsumedFinalBestSolution(consumedSolution.get(1));
+            // The first best solution is skipped if the final best solution arrives before it is consumed
+            assertThat(consumedSolution).hasSizeBetween(1, 2);
+            if (consumedSolution.size() == 2) {
+                assertConsumedFirstBestSolution(consumedSolution.get(0));
+            }
+            assertConsumedFinalBestSolution(consumedSolution.get(consumedSolution.size() - 1));
         }
     }
 
@@ -17,15 +17,27 @@
 package org.optaplanner.core.config.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.config.heuristic.selector.move.factory.MoveIteratorFactoryConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.solver.testutil.MockThreadFactory;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.move.factory.MoveIteratorFactory;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -73,6 +85,76 @@ public class SolverConfigMultiThreadedTest {
         return testdataSolution;
     }
 
+    @Test
+    @Timeout(5)
+    public void moveSelectionOnMoveThreadsIsReproducible() {
+        List<String> firstValueCodeList = solveWithMoveSelectionOnMoveThreads().getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .collect(Collectors.toList());
+        List<String> secondValueCodeList = solveWithMoveSelectionOnMoveThreads().getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .collect(Collectors.toList());
+        assertThat(secondValueCodeList).isEqualTo(firstValueCodeList);
+    }
+
+    private TestdataSolution solveWithMoveSelectionOnMoveThreads() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        ((LocalSearchPhaseConfig) solverConfig.getPhaseConfigList().get(1)).setMoveSelectionOnMoveThreads(true);
+
+        TestdataSolution solution = PlannerTestUtils.solve(solverConfig, createTestSolution(10, 5));
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        return solution;
+    }
+
+    @Test
+    @Timeout(5)
+    public void moveSelectionOnMoveThreadsSelectsOnMoveThreads() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        LocalSearchPhaseConfig localSearchPhaseConfig =
+                (LocalSearchPhaseConfig) solverConfig.getPhaseConfigList().get(1);
+        localSearchPhaseConfig.setMoveSelectionOnMoveThreads(true);
+        MoveIteratorFactoryConfig moveIteratorFactoryConfig = new MoveIteratorFactoryConfig();
+        moveIteratorFactoryConfig.setMoveIteratorFactoryClass(ThreadRecordingMoveIteratorFactory.class);
+        localSearchPhaseConfig.setMoveSelectorConfig(moveIteratorFactoryConfig);
+        ThreadRecordingMoveIteratorFactory.SELECTING_THREAD_SET.clear();
+
+        TestdataSolution solution = PlannerTestUtils.solve(solverConfig, createTestSolution(10, 5));
+        assertThat(solution).isNotNull();
+        // The solver thread is the current thread
+        assertThat(ThreadRecordingMoveIteratorFactory.SELECTING_THREAD_SET)
+                .isNotEmpty()
+                .doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    @Timeout(5)
+    public void moveSelectionOnMoveThreadsWithoutMoveThreadCount() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        ((LocalSearchPhaseConfig) solverConfig.getPhaseConfigList().get(1)).setMoveSelectionOnMoveThreads(true);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, createTestSolution(10, 5)))
+                .withMessageContaining("moveSelectionOnMoveThreads");
+    }
+
+    @Test
+    @Timeout(5)
+    public void solvingWithMoveThreadBatchSize() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setMoveThreadBatchSize(4);
+
+        TestdataSolution solution = PlannerTestUtils.solve(solverConfig, createTestSolution(10, 5));
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+    }
+
     @Test
     @Timeout(5)
     public void customThreadFactoryClassIsUsed() {
@@ -89,4 +171,47 @@ public class SolverConfigMultiThreadedTest {
         assertThat(MockThreadFactory.hasBeenCalled()).isTrue();
     }
 
+    public static class ThreadRecordingMoveIteratorFactory
+            implements MoveIteratorFactory<TestdataSolution, ChangeMove<TestdataSolution>> {
+
+        private static final Set<Thread> SELECTING_THREAD_SET = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public long getSize(ScoreDirector<TestdataSolution> scoreDirector) {
+            TestdataSolution solution = scoreDirector.getWorkingSolution();
+            return (long) solution.getEntityList().size() * solution.getValueList().size();
+        }
+
+        @Override
+        public Iterator<ChangeMove<TestdataSolution>> createOriginalMoveIterator(
+                ScoreDirector<TestdataSolution> scoreDirector) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterator<ChangeMove<TestdataSolution>> createRandomMoveIterator(
+                ScoreDirector<TestdataSolution> scoreDirector, Random workingRandom) {
+            TestdataSolution solution = scoreDirector.getWorkingSolution();
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                    ((InnerScoreDirector<TestdataSolution, ?>) scoreDirector).getSolutionDescriptor()
+                            .findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+            return new Iterator<ChangeMove<TestdataSolution>>() {
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public ChangeMove<TestdataSolution> next() {
+                    SELECTING_THREAD_SET.add(Thread.currentThread());
+                    List<TestdataEntity> entityList = solution.getEntityList();
+                    List<TestdataValue> valueList = solution.getValueList();
+                    return new ChangeMove<>(entityList.get(workingRandom.nextInt(entityList.size())),
+                            variableDescriptor, valueList.get(workingRandom.nextInt(valueList.size())));
+                }
+            };
+        }
+
+    }
+
 }
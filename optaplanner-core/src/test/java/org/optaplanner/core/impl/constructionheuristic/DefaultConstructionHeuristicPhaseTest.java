@@ -21,10 +21,15 @@ import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.testutil.calculator.TestdataDifferentValuesCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -111,4 +116,35 @@ public class DefaultConstructionHeuristicPhaseTest {
         assertThat(solution.getEntityList().size()).isEqualTo(0);
     }
 
+    @Test
+    public void solveWithMoveThreadsEqualsSingleThreaded() {
+        List<String> singleThreadedValueCodeList = solveWithMoveThreadCount(SolverConfig.MOVE_THREAD_COUNT_NONE, 1);
+        assertThat(solveWithMoveThreadCount("2", 1)).isEqualTo(singleThreadedValueCodeList);
+        assertThat(solveWithMoveThreadCount("3", 4)).isEqualTo(singleThreadedValueCodeList);
+    }
+
+    private List<String> solveWithMoveThreadCount(String moveThreadCount, int moveThreadBatchSize) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setScoreDirectorFactoryConfig(new ScoreDirectorFactoryConfig()
+                .withEasyScoreCalculatorClass(TestdataDifferentValuesCalculator.class));
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()));
+        solverConfig.setMoveThreadCount(moveThreadCount);
+        solverConfig.setMoveThreadBatchSize(moveThreadBatchSize);
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(IntStream.range(0, 7)
+                .mapToObj(i -> new TestdataValue("v" + i))
+                .collect(Collectors.toList()));
+        solution.setEntityList(IntStream.range(0, 20)
+                .mapToObj(i -> new TestdataEntity("e" + i))
+                .collect(Collectors.toList()));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .collect(Collectors.toList());
+    }
+
 }
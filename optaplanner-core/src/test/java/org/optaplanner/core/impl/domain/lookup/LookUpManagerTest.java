@@ -16,6 +16,7 @@
 package org.optaplanner.core.impl.domain.lookup;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 import java.util.Arrays;
@@ -63,4 +64,55 @@ public class LookUpManagerTest {
         assertThatNullPointerException()
                 .isThrownBy(() -> lookUpManager.addWorkingObject(new TestdataObjectIntegerId(0)));
     }
+
+    @Test
+    public void linkParentLookUpManager() {
+        TestdataObjectIntegerId parentO = new TestdataObjectIntegerId(0);
+        TestdataObjectIntegerId parentP = new TestdataObjectIntegerId(1);
+        lookUpManager.resetWorkingObjects(Arrays.asList(parentO, parentP));
+        LookUpManager childLookUpManager = new LookUpManager(
+                new LookUpStrategyResolver(DomainAccessType.REFLECTION, LookUpStrategyType.PLANNING_ID_OR_NONE));
+        TestdataObjectIntegerId childO = new TestdataObjectIntegerId(0);
+        TestdataObjectIntegerId childP = new TestdataObjectIntegerId(1);
+        // A different order than the parent, the index is aligned by PlanningId
+        childLookUpManager.resetWorkingObjects(Arrays.asList(childP, childO));
+        childLookUpManager.linkParentLookUpManager(lookUpManager);
+
+        assertThat(childLookUpManager.lookUpWorkingObject(parentO)).isSameAs(childO);
+        assertThat(childLookUpManager.lookUpWorkingObject(parentP)).isSameAs(childP);
+        assertThat(lookUpManager.lookUpWorkingObject(childO)).isSameAs(parentO);
+        assertThat(lookUpManager.lookUpWorkingObject(childP)).isSameAs(parentP);
+        // Objects that aren't indexed fall back to the PlanningId
+        assertThat(childLookUpManager.lookUpWorkingObject(new TestdataObjectIntegerId(1))).isSameAs(childP);
+
+        lookUpManager.removeWorkingObject(parentP);
+        assertThat(lookUpManager.lookUpWorkingObjectOrReturnNull(childP)).isNull();
+        assertThat(lookUpManager.lookUpWorkingObject(childO)).isSameAs(parentO);
+
+        childLookUpManager.clearWorkingObjects();
+        TestdataObjectIntegerId otherO = new TestdataObjectIntegerId(0);
+        lookUpManager.resetWorkingObjects(Collections.singletonList(otherO));
+        assertThat(lookUpManager.lookUpWorkingObject(childO)).isSameAs(otherO);
+    }
+
+    @Test
+    public void clearParentWorkingObjects() {
+        TestdataObjectIntegerId parentO = new TestdataObjectIntegerId(0);
+        lookUpManager.resetWorkingObjects(Collections.singletonList(parentO));
+        LookUpManager childLookUpManager = new LookUpManager(
+                new LookUpStrategyResolver(DomainAccessType.REFLECTION, LookUpStrategyType.PLANNING_ID_OR_NONE));
+        TestdataObjectIntegerId childO = new TestdataObjectIntegerId(0);
+        childLookUpManager.resetWorkingObjects(Collections.singletonList(childO));
+        childLookUpManager.linkParentLookUpManager(lookUpManager);
+
+        lookUpManager.clearWorkingObjects();
+        assertThatIllegalStateException()
+                .isThrownBy(() -> lookUpManager.lookUpWorkingObject(childO));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> lookUpManager.lookUpWorkingObjectOrReturnNull(childO));
+        // The child no longer uses the cleared index of its parent, but still falls back to the PlanningId
+        assertThat(childLookUpManager.lookUpWorkingObject(parentO)).isSameAs(childO);
+        assertThat(childLookUpManager.lookUpWorkingObjectOrReturnNull(new TestdataObjectIntegerId(1))).isNull();
+    }
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.solution.cloner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+public class IncrementalSolutionClonerTest {
+
+    @Test
+    public void reuseUnchangedEntityClones() {
+        IncrementalSolutionCloner<TestdataSolution> cloner =
+                new IncrementalSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val1);
+        TestdataEntity c = new TestdataEntity("c", val2);
+        TestdataSolution original = new TestdataSolution("solution");
+        original.setValueList(Arrays.asList(val1, val2));
+        original.setEntityList(Arrays.asList(a, b, c));
+
+        TestdataSolution firstClone = cloner.cloneSolutionIncrementally(original);
+        cloner.markEntityChanged(b);
+        b.setValue(val2);
+        TestdataSolution secondClone = cloner.cloneSolutionIncrementally(original);
+
+        assertThat(secondClone).isNotSameAs(firstClone);
+        assertThat(secondClone.getEntityList()).isNotSameAs(firstClone.getEntityList());
+        List<TestdataEntity> firstCloneEntityList = firstClone.getEntityList();
+        List<TestdataEntity> secondCloneEntityList = secondClone.getEntityList();
+        assertThat(secondCloneEntityList.get(0)).isSameAs(firstCloneEntityList.get(0));
+        assertThat(secondCloneEntityList.get(1)).isNotSameAs(firstCloneEntityList.get(1)).isNotSameAs(b);
+        assertThat(secondCloneEntityList.get(2)).isSameAs(firstCloneEntityList.get(2));
+        assertCode("1", firstCloneEntityList.get(1).getValue());
+        assertCode("2", secondCloneEntityList.get(1).getValue());
+
+        cloner.markAllEntitiesChanged();
+        TestdataSolution thirdClone = cloner.cloneSolutionIncrementally(original);
+        assertThat(thirdClone.getEntityList().get(0)).isNotSameAs(secondCloneEntityList.get(0));
+        assertThat(thirdClone.getEntityList().get(2)).isNotSameAs(secondCloneEntityList.get(2));
+    }
+
+    @Test
+    public void neverReuseEntityClonesThatReferenceOtherEntities() {
+        IncrementalSolutionCloner<TestdataChainedSolution> cloner =
+                new IncrementalSolutionCloner<>(TestdataChainedSolution.buildSolutionDescriptor());
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedSolution original = new TestdataChainedSolution("solution");
+        original.setChainedAnchorList(Arrays.asList(a0));
+        original.setChainedEntityList(Arrays.asList(a1, a2));
+
+        TestdataChainedSolution firstClone = cloner.cloneSolutionIncrementally(original);
+        TestdataChainedSolution secondClone = cloner.cloneSolutionIncrementally(original);
+
+        TestdataChainedEntity firstCloneA1 = firstClone.getChainedEntityList().get(0);
+        TestdataChainedEntity secondCloneA1 = secondClone.getChainedEntityList().get(0);
+        TestdataChainedEntity secondCloneA2 = secondClone.getChainedEntityList().get(1);
+        // The anchor is a problem fact, so a1 doesn't reference another planning entity
+        assertThat(secondCloneA1).isSameAs(firstCloneA1);
+        assertThat(secondCloneA2).isNotSameAs(firstClone.getChainedEntityList().get(1));
+        assertThat(secondCloneA2.getChainedObject()).isSameAs(secondCloneA1);
+    }
+
+}
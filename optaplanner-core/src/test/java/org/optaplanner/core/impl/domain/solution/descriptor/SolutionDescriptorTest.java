@@ -21,16 +21,21 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfCollection;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataObject;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedSolution;
 import org.optaplanner.core.impl.testdata.domain.collection.TestdataArrayBasedSolution;
 import org.optaplanner.core.impl.testdata.domain.collection.TestdataSetBasedSolution;
 import org.optaplanner.core.impl.testdata.domain.extended.TestdataAnnotatedExtendedSolution;
@@ -341,4 +346,18 @@ public class SolutionDescriptorTest {
         assertAllCodesOfCollection(solutionDescriptor.getAllFacts(solution), "otherE1", "f1", "p1", "e1", "e2");
     }
 
+    @Test
+    public void variableDescriptorOrdinals() {
+        SolutionDescriptor<TestdataShadowingChainedSolution> solutionDescriptor =
+                TestdataShadowingChainedSolution.buildSolutionDescriptor();
+        List<Integer> ordinalList = solutionDescriptor.getEntityDescriptors().stream()
+                .map(EntityDescriptor::getDeclaredVariableDescriptors)
+                .flatMap(Collection::stream)
+                .map(VariableDescriptor::getOrdinal)
+                .collect(Collectors.toList());
+        assertThat(solutionDescriptor.getVariableDescriptorCount()).isEqualTo(ordinalList.size());
+        assertThat(ordinalList).doesNotHaveDuplicates()
+                .allMatch(ordinal -> ordinal >= 0 && ordinal < ordinalList.size());
+    }
+
 }
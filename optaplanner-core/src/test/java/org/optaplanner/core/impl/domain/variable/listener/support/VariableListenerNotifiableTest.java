@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.listener.support;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+
+public class VariableListenerNotifiableTest {
+
+    @Test
+    public void triggerNotificationsBeyondInitialBufferCapacity() {
+        VariableListener<Object, Object> variableListener = mock(VariableListener.class);
+        ScoreDirector<Object> scoreDirector = mock(ScoreDirector.class);
+        VariableListenerNotifiable notifiable = new VariableListenerNotifiable(variableListener, 0);
+        int entityCount = VariableListenerNotifiable.INITIAL_BUFFER_CAPACITY * 2 + 1;
+        TestdataEntity[] entities = new TestdataEntity[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            entities[i] = new TestdataEntity("e" + i);
+            notifiable.addNotification(entities[i], VariableListenerNotificationType.VARIABLE_CHANGED);
+        }
+        TestdataEntity removedEntity = new TestdataEntity("removed");
+        notifiable.addNotification(removedEntity, VariableListenerNotificationType.ENTITY_REMOVED);
+
+        notifiable.triggerNotifications(scoreDirector);
+        InOrder inOrder = inOrder(variableListener);
+        for (TestdataEntity entity : entities) {
+            inOrder.verify(variableListener).afterVariableChanged(scoreDirector, entity);
+        }
+        inOrder.verify(variableListener).afterEntityRemoved(scoreDirector, removedEntity);
+
+        // The buffer is reused and no notifications are replayed
+        notifiable.addNotification(entities[0], VariableListenerNotificationType.ENTITY_ADDED);
+        notifiable.triggerNotifications(scoreDirector);
+        verify(variableListener).afterEntityAdded(scoreDirector, entities[0]);
+        verify(variableListener).requiresUniqueEntityEvents();
+        verifyNoMoreInteractions(variableListener);
+    }
+
+    @Test
+    public void triggerNotificationsFailsFastOnUpstreamChange() {
+        VariableListener<Object, Object> variableListener = mock(VariableListener.class);
+        ScoreDirector<Object> scoreDirector = mock(ScoreDirector.class);
+        VariableListenerNotifiable notifiable = new VariableListenerNotifiable(variableListener, 0);
+        doAnswer(invocation -> notifiable.addNotification(invocation.getArgument(1),
+                VariableListenerNotificationType.VARIABLE_CHANGED))
+                        .when(variableListener).afterVariableChanged(any(), any());
+        notifiable.addNotification(new TestdataEntity("e1"), VariableListenerNotificationType.VARIABLE_CHANGED);
+        assertThatIllegalStateException().isThrownBy(() -> notifiable.triggerNotifications(scoreDirector))
+                .withMessageContaining("upstream shadow variable");
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.move;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ReusableChangeMove;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class ReusableMoveTest {
+
+    @Test
+    public void copyIfReusable() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataValue v1 = new TestdataValue("1");
+        ChangeMove<TestdataSolution> move = new ChangeMove<>(a, variableDescriptor, v1);
+        assertThat(ReusableMove.copyIfReusable(move)).isSameAs(move);
+
+        ReusableChangeMove<TestdataSolution> reusableMove = new ReusableChangeMove<>(variableDescriptor);
+        reusableMove.reset(a, v1);
+        Move<TestdataSolution> copy = ReusableMove.copyIfReusable(reusableMove);
+        assertThat(copy)
+                .isNotSameAs(reusableMove)
+                .isEqualTo(move);
+    }
+
+    @Test
+    public void copyIfReusableComposite() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataValue v1 = new TestdataValue("1");
+        DummyMove dummyMove = new DummyMove("dummy");
+        CompositeMove<TestdataSolution> compositeMove = new CompositeMove<>(dummyMove, new DummyMove("other"));
+        assertThat(ReusableMove.copyIfReusable(compositeMove)).isSameAs(compositeMove);
+
+        ReusableChangeMove<TestdataSolution> reusableMove = new ReusableChangeMove<>(variableDescriptor);
+        reusableMove.reset(a, v1);
+        compositeMove = new CompositeMove<>(dummyMove, reusableMove);
+        CompositeMove<TestdataSolution> copy =
+                (CompositeMove<TestdataSolution>) ReusableMove.copyIfReusable(compositeMove);
+        assertThat(copy).isNotSameAs(compositeMove);
+        assertThat(copy.getMoves()[0]).isSameAs(dummyMove);
+        assertThat(copy.getMoves()[1])
+                .isNotSameAs(reusableMove)
+                .isEqualTo(new ChangeMove<>(a, variableDescriptor, v1));
+        // The original composite move is left untouched
+        assertThat(compositeMove.getMoves()[1]).isSameAs(reusableMove);
+    }
+
+}
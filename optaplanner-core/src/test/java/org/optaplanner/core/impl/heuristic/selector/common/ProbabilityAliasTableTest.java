@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ProbabilityAliasTableTest {
+
+    @Test
+    public void sampleDistribution() {
+        ProbabilityAliasTable<String> table = ProbabilityAliasTable.<String> builder()
+                .add("a", 1000.0)
+                .add("b", 200.0)
+                .add("zero", 0.0)
+                .add("c", 30.0)
+                .add("d", 4.0)
+                .build();
+        assertThat(table.getSize()).isEqualTo(5);
+        assertThat(table.getProbabilityWeightTotal()).isEqualTo(1234.0);
+
+        Random workingRandom = new Random(37);
+        int sampleCount = 1_000_000;
+        Map<String, Integer> countMap = new HashMap<>();
+        for (int i = 0; i < sampleCount; i++) {
+            countMap.merge(table.sample(workingRandom), 1, Integer::sum);
+        }
+        assertThat(countMap).doesNotContainKey("zero");
+        assertThat(countMap.get("a") / (double) sampleCount).isCloseTo(1000.0 / 1234.0, within(0.005));
+        assertThat(countMap.get("b") / (double) sampleCount).isCloseTo(200.0 / 1234.0, within(0.005));
+        assertThat(countMap.get("c") / (double) sampleCount).isCloseTo(30.0 / 1234.0, within(0.005));
+        assertThat(countMap.get("d") / (double) sampleCount).isCloseTo(4.0 / 1234.0, within(0.005));
+    }
+
+    @Test
+    public void sampleReproducible() {
+        ProbabilityAliasTable.Builder<Integer> builder = ProbabilityAliasTable.builder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(i, (i * 7) % 13);
+        }
+        ProbabilityAliasTable<Integer> table = builder.build();
+        assertThat(sample(table, new Random(7), 1000)).isEqualTo(sample(table, new Random(7), 1000));
+    }
+
+    private static <T> List<T> sample(ProbabilityAliasTable<T> table, Random workingRandom, int sampleCount) {
+        List<T> sampleList = new ArrayList<>(sampleCount);
+        for (int i = 0; i < sampleCount; i++) {
+            sampleList.add(table.sample(workingRandom));
+        }
+        return sampleList;
+    }
+
+    @Test
+    public void invalidProbabilityWeight() {
+        ProbabilityAliasTable.Builder<String> builder = ProbabilityAliasTable.builder();
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.add("a", -1.0));
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.add("a", Double.NaN));
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.add("a", Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void sampleWithoutPositiveProbabilityWeight() {
+        ProbabilityAliasTable<String> table = ProbabilityAliasTable.<String> builder()
+                .add("a", 0.0)
+                .build();
+        assertThatIllegalStateException().isThrownBy(() -> table.sample(new Random(37)));
+    }
+
+}
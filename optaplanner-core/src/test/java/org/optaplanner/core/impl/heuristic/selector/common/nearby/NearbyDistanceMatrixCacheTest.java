@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+class NearbyDistanceMatrixCacheTest {
+
+    private final SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+
+    @Test
+    void addAllDestinationsReusesEqualPlanningIds() {
+        NearbyDistanceMatrixCache cache = new NearbyDistanceMatrixCache(2);
+        AtomicInteger distanceCount = new AtomicInteger();
+
+        List<TestdataValue> firstValueList = createValueList();
+        NearbyDistanceMatrix<TestdataValue, TestdataValue> firstMatrix = addAllDestinations(cache, distanceCount,
+                firstValueList);
+        assertThat(distanceCount).hasValue(9);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(firstMatrix.getDestination(firstValueList.get(0), 1)).isSameAs(firstValueList.get(1));
+
+        // Other instances with the same planning ids, such as those of a new solver job
+        List<TestdataValue> secondValueList = createValueList();
+        NearbyDistanceMatrix<TestdataValue, TestdataValue> secondMatrix = addAllDestinations(cache, distanceCount,
+                secondValueList);
+        assertThat(distanceCount).hasValue(9);
+        assertThat(cache.size()).isEqualTo(1);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                assertThat(secondMatrix.getDestination(secondValueList.get(i), j))
+                        .isSameAs(secondValueList.get(firstValueList.indexOf(
+                                firstMatrix.getDestination(firstValueList.get(i), j))));
+            }
+        }
+
+        List<TestdataValue> otherValueList = Arrays.asList(new TestdataValue("v0"), new TestdataValue("v3"));
+        addAllDestinations(cache, distanceCount, otherValueList);
+        assertThat(distanceCount).hasValue(9 + 4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        NearbyDistanceMatrixCache cache = new NearbyDistanceMatrixCache(1);
+        AtomicInteger distanceCount = new AtomicInteger();
+        addAllDestinations(cache, distanceCount, createValueList());
+        addAllDestinations(cache, distanceCount, Arrays.asList(new TestdataValue("v0"), new TestdataValue("v3")));
+        assertThat(cache.size()).isEqualTo(1);
+        addAllDestinations(cache, distanceCount, createValueList());
+        assertThat(distanceCount).hasValue(9 + 4 + 9);
+    }
+
+    @Test
+    void planningIdIsRequired() {
+        NearbyDistanceMatrixCache cache = new NearbyDistanceMatrixCache(1);
+        List<Object> originList = Arrays.asList(new Object(), new Object());
+        NearbyDistanceMatrix<Object, Object> matrix = new NearbyDistanceMatrix<>((origin, destination) -> 0.0, 2,
+                origin -> originList.iterator(), origin -> 2);
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> cache.addAllDestinations(matrix, solutionDescriptor,
+                        originList, originList));
+    }
+
+    @Test
+    void getInstancePerNearbyDistanceMeterClass() {
+        NearbyDistanceMeter<TestdataValue, TestdataValue> meter = (origin, destination) -> 0.0;
+        NearbyDistanceMeter<TestdataValue, TestdataValue> otherMeter = (origin, destination) -> 1.0;
+        assertThat(NearbyDistanceMatrixCache.getInstance(meter.getClass()))
+                .isSameAs(NearbyDistanceMatrixCache.getInstance(meter.getClass()))
+                .isNotSameAs(NearbyDistanceMatrixCache.getInstance(otherMeter.getClass()));
+    }
+
+    private static List<TestdataValue> createValueList() {
+        return Arrays.asList(new TestdataValue("v0"), new TestdataValue("v1"), new TestdataValue("v2"));
+    }
+
+    private NearbyDistanceMatrix<TestdataValue, TestdataValue> addAllDestinations(NearbyDistanceMatrixCache cache,
+            AtomicInteger distanceCount, List<TestdataValue> valueList) {
+        NearbyDistanceMeter<TestdataValue, TestdataValue> meter = (origin, destination) -> {
+            distanceCount.incrementAndGet();
+            return Math.abs(valueList.indexOf(origin) - valueList.indexOf(destination));
+        };
+        NearbyDistanceMatrix<TestdataValue, TestdataValue> matrix = new NearbyDistanceMatrix<>(meter,
+                valueList.size(), origin -> valueList.iterator(), origin -> valueList.size());
+        cache.addAllDestinations(matrix, solutionDescriptor, valueList, valueList);
+        return matrix;
+    }
+
+}
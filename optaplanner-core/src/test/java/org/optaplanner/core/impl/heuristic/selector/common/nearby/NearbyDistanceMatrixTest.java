@@ -96,6 +96,36 @@ class NearbyDistanceMatrixTest {
         assertThat(nearbyDistanceMatrix.getDestination(d, 3)).isSameAs(c);
     }
 
+    @Test
+    void addAllDestinationsWithDestinationSizeMaximum() {
+        final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 1.0, 1.0, 1.0 });
+        final MatrixTestdataObject b = new MatrixTestdataObject("b", 1, new double[] { 4.0, 0.0, 5.0, 10.0 });
+        final MatrixTestdataObject c = new MatrixTestdataObject("c", 2, new double[] { 2.0, 5.0, 0.0, 7.0 });
+        final MatrixTestdataObject d = new MatrixTestdataObject("d", 3, new double[] { 6.0, 10.0, 7.0, 0.0 });
+        List<Object> entityList = Arrays.asList(a, b, c, d);
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin,
+                destination) -> origin.distances[destination.index];
+
+        NearbyDistanceMatrix nearbyDistanceMatrix =
+                new NearbyDistanceMatrix(meter, 4, origin -> entityList.iterator(), origin -> 4, 2, true);
+        nearbyDistanceMatrix.addAllDestinations(entityList.iterator());
+
+        assertThat(nearbyDistanceMatrix.getDestination(a, 0)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(a, 1)).isSameAs(b);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 0)).isSameAs(b);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(c, 0)).isSameAs(c);
+        assertThat(nearbyDistanceMatrix.getDestination(c, 1)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 0)).isSameAs(d);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 1)).isSameAs(a);
+        // Beyond the destinationSizeMaximum
+        assertThat(nearbyDistanceMatrix.getDestination(a, 2)).isSameAs(c);
+        assertThat(nearbyDistanceMatrix.getDestination(a, 3)).isSameAs(d);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 2)).isSameAs(c);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 3)).isSameAs(b);
+        assertThat(nearbyDistanceMatrix.getDestination(a, 1)).isSameAs(b);
+    }
+
     @Test
     void missingItem_isComputedOnDemand() {
         final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 1.0 });
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.config.heuristic.selector.common.nearby.NearbySelectionConfig;
+import org.optaplanner.core.config.heuristic.selector.common.nearby.NearbySelectionDistributionType;
+
+public class NearbyRandomFactoryTest {
+
+    @Test
+    public void distanceMatrixSizeMaximumWithDistributionSizeMaximum() {
+        NearbySelectionConfig nearbySelectionConfig = new NearbySelectionConfig();
+        nearbySelectionConfig.setParabolicDistributionSizeMaximum(40);
+        nearbySelectionConfig.setDistanceMatrixSizeMaximum(40);
+        NearbyRandom nearbyRandom = NearbyRandomFactory.create(nearbySelectionConfig).buildNearbyRandom(true);
+        assertThat(nearbyRandom.getOverallSizeMaximum()).isEqualTo(40);
+    }
+
+    @Test
+    public void distanceMatrixSizeMaximumLowerThanDistributionSizeMaximum() {
+        NearbySelectionConfig nearbySelectionConfig = new NearbySelectionConfig();
+        nearbySelectionConfig.setParabolicDistributionSizeMaximum(40);
+        nearbySelectionConfig.setDistanceMatrixSizeMaximum(20);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> NearbyRandomFactory.create(nearbySelectionConfig).buildNearbyRandom(true))
+                .withMessageContaining("distanceMatrixSizeMaximum (20)");
+    }
+
+    @Test
+    public void distanceMatrixSizeMaximumWithoutDistributionSizeMaximum() {
+        NearbySelectionConfig nearbySelectionConfig = new NearbySelectionConfig();
+        nearbySelectionConfig.setNearbySelectionDistributionType(NearbySelectionDistributionType.BETA_DISTRIBUTION);
+        nearbySelectionConfig.setDistanceMatrixSizeMaximum(40);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> NearbyRandomFactory.create(nearbySelectionConfig).buildNearbyRandom(true));
+    }
+
+    @Test
+    public void distanceMatrixSizeMaximumWithOriginalSelection() {
+        NearbySelectionConfig nearbySelectionConfig = new NearbySelectionConfig();
+        nearbySelectionConfig.setDistanceMatrixSizeMaximum(40);
+        assertThat(NearbyRandomFactory.create(nearbySelectionConfig).buildNearbyRandom(false)).isNull();
+    }
+
+}
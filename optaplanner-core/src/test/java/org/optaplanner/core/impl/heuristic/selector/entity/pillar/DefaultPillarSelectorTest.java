@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -24,17 +25,23 @@ import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCod
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCodesOfIterator;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.verifyPhaseLifecycle;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.domain.variable.VariableListener;
 import org.optaplanner.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataObject;
@@ -146,6 +153,95 @@ public class DefaultPillarSelectorTest {
         verifyPhaseLifecycle(entitySelector, 1, 2, 3);
     }
 
+    @Test
+    public void originalNoSubsWithIncrementalPillars() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+        TestdataValue val4 = new TestdataValue("4");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val3);
+        final TestdataEntity d = new TestdataEntity("d", val2);
+        final TestdataEntity e = new TestdataEntity("e", val3);
+        final TestdataEntity f = new TestdataEntity("f", val3);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                a, b, c, d, e, f);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
+                entitySelector, Arrays.asList(variableDescriptor), false, SubPillarConfigPolicy.withoutSubpillars());
+
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        SupplyManager supplyManager = mock(SupplyManager.class);
+        when(scoreDirector.getSupplyManager()).thenReturn(supplyManager);
+        List<VariableListener> listenerList = new ArrayList<>();
+        when(supplyManager.demand(any())).thenAnswer(invocation -> {
+            VariableListener listener = (VariableListener) ((Demand) invocation.getArgument(0))
+                    .createExternalizedSupply(scoreDirector);
+            listenerList.add(listener);
+            return listener;
+        });
+        SolverScope solverScope = mock(SolverScope.class);
+        when(solverScope.getScoreDirector()).thenReturn(scoreDirector);
+        pillarSelector.solvingStarted(solverScope);
+        assertThat(listenerList).hasSize(1);
+        VariableListener listener = listenerList.get(0);
+
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c, e, f]");
+        List<Object> oldPillar = (List<Object>) pillarSelector.iterator().next();
+        pillarSelector.stepEnded(stepScopeA1);
+
+        b.setValue(val3);
+        listener.afterVariableChanged(scoreDirector, b);
+        a.setValue(val4);
+        listener.afterVariableChanged(scoreDirector, a);
+        a.setValue(val1); // Undone
+        listener.afterVariableChanged(scoreDirector, a);
+        f.setValue(val4);
+        listener.afterVariableChanged(scoreDirector, f);
+        // An evaluated move is ignored
+        when(scoreDirector.isAllChangesWillBeUndoneBeforeStepEnds()).thenReturn(true);
+        c.setValue(val4);
+        listener.afterVariableChanged(scoreDirector, c);
+        c.setValue(val3);
+        listener.afterVariableChanged(scoreDirector, c);
+        when(scoreDirector.isAllChangesWillBeUndoneBeforeStepEnds()).thenReturn(false);
+        assertThat(pillarSelector.changedEntitySet).containsExactlyInAnyOrder(a, b, f);
+
+        AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, c, e]", "[d]", "[f]");
+        pillarSelector.stepEnded(stepScopeA2);
+
+        d.setValue(val1);
+        listener.afterVariableChanged(scoreDirector, d);
+
+        AbstractStepScope stepScopeA3 = mock(AbstractStepScope.class);
+        when(stepScopeA3.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA3);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, d]", "[b, c, e]", "[f]");
+        pillarSelector.stepEnded(stepScopeA3);
+        // The pillars of a previous step are not modified
+        assertAllCodesOfIterator(oldPillar.iterator(), "a");
+
+        pillarSelector.phaseEnded(phaseScopeA);
+
+        pillarSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(entitySelector, 1, 1, 3);
+    }
+
     @Test
     public void emptyEntitySelectorOriginalNoSubs() {
         GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
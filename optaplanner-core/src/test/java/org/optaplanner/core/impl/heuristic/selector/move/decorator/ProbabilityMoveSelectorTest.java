@@ -62,7 +62,7 @@ public class ProbabilityMoveSelectorTest {
                 SelectionCacheType.STEP, probabilityWeightFactory);
 
         Random workingRandom = mock(Random.class);
-        when(workingRandom.nextDouble()).thenReturn(1222.0 / 1234.0, 111.0 / 1234.0, 0.0, 1230.0 / 1234.0, 1199.0 / 1234.0);
+        when(workingRandom.nextDouble()).thenReturn(0.5, 0.0, 0.9, 0.75, 0.3);
 
         SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
         when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
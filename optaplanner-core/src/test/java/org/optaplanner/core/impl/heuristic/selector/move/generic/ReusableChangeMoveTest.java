@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.ReusableMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class ReusableChangeMoveTest {
+
+    @Test
+    public void doMoveReusesUndoMove() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        ReusableChangeMove<TestdataSolution> move =
+                new ReusableChangeMove<>(TestdataEntity.buildVariableDescriptorForValue());
+
+        move.reset(a, v2);
+        Move<TestdataSolution> undoMove = move.doMove(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v2);
+        assertThat(undoMove.doMove(scoreDirector)).isSameAs(move);
+        assertThat(a.getValue()).isSameAs(v1);
+
+        move.reset(b, v3);
+        assertThat(move.doMove(scoreDirector)).isSameAs(undoMove);
+        assertThat(b.getValue()).isSameAs(v3);
+        undoMove.doMove(scoreDirector);
+        assertThat(b.getValue()).isSameAs(v2);
+        assertThat(a.getValue()).isSameAs(v1);
+    }
+
+    @Test
+    public void copy() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        ReusableChangeMove<TestdataSolution> move =
+                new ReusableChangeMove<>(TestdataEntity.buildVariableDescriptorForValue());
+        move.reset(a, v2);
+
+        ChangeMove<TestdataSolution> copy = move.copy();
+        // The live move is checked against its copies in a tabu list
+        assertThat(move).isEqualTo(copy).hasSameHashCodeAs(copy);
+        assertThat(copy).isEqualTo(move);
+        move.reset(a, v1);
+        assertThat(move).isNotEqualTo(copy);
+        assertThat(copy).isNotInstanceOf(ReusableMove.class);
+        assertThat(copy.getEntity()).isSameAs(a);
+        assertThat(copy.getToPlanningValue()).isSameAs(v2);
+    }
+
+}
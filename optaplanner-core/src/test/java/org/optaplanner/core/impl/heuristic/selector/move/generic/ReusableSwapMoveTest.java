@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.generic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.ReusableMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class ReusableSwapMoveTest {
+
+    @Test
+    public void doMoveReusesUndoMove() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v2);
+        TestdataEntity c = new TestdataEntity("c", v3);
+
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        ReusableSwapMove<TestdataSolution> move = new ReusableSwapMove<>(
+                TestdataEntity.buildEntityDescriptor().getGenuineVariableDescriptorList());
+
+        move.reset(a, b);
+        Move<TestdataSolution> undoMove = move.doMove(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v2);
+        assertThat(b.getValue()).isSameAs(v1);
+        assertThat(undoMove.doMove(scoreDirector)).isSameAs(move);
+        assertThat(a.getValue()).isSameAs(v1);
+        assertThat(b.getValue()).isSameAs(v2);
+
+        move.reset(b, c);
+        assertThat(move.doMove(scoreDirector)).isSameAs(undoMove);
+        assertThat(b.getValue()).isSameAs(v3);
+        assertThat(c.getValue()).isSameAs(v2);
+        undoMove.doMove(scoreDirector);
+        assertThat(b.getValue()).isSameAs(v2);
+        assertThat(c.getValue()).isSameAs(v3);
+    }
+
+    @Test
+    public void copy() {
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        TestdataEntity c = new TestdataEntity("c");
+        ReusableSwapMove<TestdataSolution> move = new ReusableSwapMove<>(
+                TestdataEntity.buildEntityDescriptor().getGenuineVariableDescriptorList());
+        move.reset(a, b);
+
+        SwapMove<TestdataSolution> copy = move.copy();
+        // The live move is checked against its copies in a tabu list
+        assertThat(move).isEqualTo(copy).hasSameHashCodeAs(copy);
+        assertThat(copy).isEqualTo(move);
+        move.reset(b, c);
+        assertThat(move).isNotEqualTo(copy);
+        assertThat(copy).isNotInstanceOf(ReusableMove.class);
+        assertThat(copy.getLeftEntity()).isSameAs(a);
+        assertThat(copy.getRightEntity()).isSameAs(b);
+    }
+
+}
@@ -99,7 +99,8 @@ public class NearEntityNearbyValueSelectorTest {
                 europe, oceania);
         ManualEntityMimicRecorder entityMimicRecorder = new ManualEntityMimicRecorder(entitySelector);
         NearEntityNearbyValueSelector valueSelector = new NearEntityNearbyValueSelector(
-                childValueSelector, new MimicReplayingEntitySelector(entityMimicRecorder), meter, null, false);
+                childValueSelector, new MimicReplayingEntitySelector(entityMimicRecorder), meter, null, false, null,
+                false, null);
 
         SolverScope solverScope = mock(SolverScope.class);
         valueSelector.solvingStarted(solverScope);
@@ -217,7 +218,8 @@ public class NearEntityNearbyValueSelectorTest {
                 spain, australia);
         ManualEntityMimicRecorder entityMimicRecorder = new ManualEntityMimicRecorder(entitySelector);
         NearEntityNearbyValueSelector valueSelector = new NearEntityNearbyValueSelector(
-                childValueSelector, new MimicReplayingEntitySelector(entityMimicRecorder), meter, null, false);
+                childValueSelector, new MimicReplayingEntitySelector(entityMimicRecorder), meter, null, false, null,
+                false, null);
 
         SolverScope solverScope = mock(SolverScope.class);
         valueSelector.solvingStarted(solverScope);
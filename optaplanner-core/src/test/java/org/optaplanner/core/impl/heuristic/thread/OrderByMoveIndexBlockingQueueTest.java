@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
+import java.util.Arrays;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -114,6 +115,33 @@ public class OrderByMoveIndexBlockingQueueTest {
         assertResult("b1", -1, queue.take());
     }
 
+    @Test
+    public void addMoveResultList() throws InterruptedException {
+        // Capacity: 2 batches in circulation + 2 exception handling results
+        OrderByMoveIndexBlockingQueue<TestdataSolution> queue = new OrderByMoveIndexBlockingQueue<>(2 + 2);
+
+        queue.startNextStep(0);
+        executorService.submit(() -> queue.addMoveResultList(0, Arrays.asList(
+                moveResult(1, 0, 2, new DummyMove("a2"), true, SimpleScore.of(-2)),
+                moveResult(1, 0, 3, new DummyMove("a3"), false, null))));
+        executorService.submit(() -> queue.addMoveResultList(0, Arrays.asList(
+                moveResult(0, 0, 0, new DummyMove("a0"), true, SimpleScore.of(0)),
+                moveResult(0, 0, 1, new DummyMove("a1"), true, SimpleScore.of(-1)))));
+        assertResult("a0", 0, queue.take());
+        assertResult("a1", -1, queue.take());
+        assertResult("a2", -2, queue.take());
+
+        queue.startNextStep(1);
+        executorService.submit(() -> queue.addMoveResultList(0, Arrays.asList(
+                moveResult(1, 0, 4, new DummyMove("a4"), true, SimpleScore.of(-4)),
+                moveResult(1, 0, 5, new DummyMove("a5"), true, SimpleScore.of(-5)))));
+        executorService.submit(() -> queue.addMoveResultList(1, Arrays.asList(
+                moveResult(0, 1, 0, new DummyMove("b0"), false, null),
+                moveResult(0, 1, 1, new DummyMove("b1"), true, SimpleScore.of(-1)))));
+        assertResult("b0", false, queue.take());
+        assertResult("b1", -1, queue.take());
+    }
+
     @Test
     public void addExceptionThrown() throws InterruptedException, ExecutionException {
         // Capacity: 4 moves in circulation + 2 exception handling results
@@ -163,6 +191,12 @@ public class OrderByMoveIndexBlockingQueueTest {
         }).hasCause(exception);
     }
 
+    private OrderByMoveIndexBlockingQueue.MoveResult<TestdataSolution> moveResult(int moveThreadIndex, int stepIndex,
+            int moveIndex, DummyMove move, boolean moveDoable, SimpleScore score) {
+        return new OrderByMoveIndexBlockingQueue.MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, moveDoable,
+                score);
+    }
+
     private void assertResult(String moveCode, int score, OrderByMoveIndexBlockingQueue.MoveResult<TestdataSolution> result) {
         assertCode(moveCode, result.getMove());
         assertThat(result.getScore()).isEqualTo(SimpleScore.of(score));
@@ -26,6 +26,10 @@ import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchPickEarlyType;
 import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.move.ReusableMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ReusableChangeMove;
 import org.optaplanner.core.impl.localsearch.decider.forager.finalist.HighestScoreFinalistPodium;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
@@ -33,7 +37,9 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 
 public class AcceptedLocalSearchForagerTest {
 
@@ -223,6 +229,39 @@ public class AcceptedLocalSearchForagerTest {
         forager.phaseEnded(phaseScope);
     }
 
+    @Test
+    public void pickMoveRetainsCopyOfReusableMove() {
+        // Setup
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, false);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        ReusableChangeMove<TestdataSolution> reusableMove =
+                new ReusableChangeMove<>(TestdataEntity.buildVariableDescriptorForValue());
+        TestdataEntity entity = new TestdataEntity("a");
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+        // Do stuff
+        reusableMove.reset(entity, v1);
+        forager.addMove(createMoveScope(stepScope, reusableMove, SimpleScore.of(-20), true));
+        reusableMove.reset(entity, v2);
+        forager.addMove(createMoveScope(stepScope, reusableMove, SimpleScore.of(-1), true));
+        reusableMove.reset(entity, v3);
+        forager.addMove(createMoveScope(stepScope, reusableMove, SimpleScore.of(-5), true));
+        LocalSearchMoveScope<TestdataSolution> pickedScope = forager.pickMove(stepScope);
+        // Post conditions
+        assertThat(pickedScope.getMove())
+                .isNotSameAs(reusableMove)
+                .isNotInstanceOf(ReusableMove.class);
+        ChangeMove<TestdataSolution> pickedMove = (ChangeMove<TestdataSolution>) pickedScope.getMove();
+        assertThat(pickedMove.getEntity()).isSameAs(entity);
+        assertThat(pickedMove.getToPlanningValue()).isSameAs(v2);
+        forager.phaseEnded(phaseScope);
+    }
+
     private LocalSearchPhaseScope<TestdataSolution> createPhaseScope() {
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
@@ -242,7 +281,12 @@ public class AcceptedLocalSearchForagerTest {
 
     public LocalSearchMoveScope<TestdataSolution> createMoveScope(LocalSearchStepScope<TestdataSolution> stepScope,
             SimpleScore score, boolean accepted) {
-        LocalSearchMoveScope<TestdataSolution> moveScope = new LocalSearchMoveScope<>(stepScope, 0, new DummyMove());
+        return createMoveScope(stepScope, new DummyMove(), score, accepted);
+    }
+
+    public LocalSearchMoveScope<TestdataSolution> createMoveScope(LocalSearchStepScope<TestdataSolution> stepScope,
+            Move<TestdataSolution> move, SimpleScore score, boolean accepted) {
+        LocalSearchMoveScope<TestdataSolution> moveScope = new LocalSearchMoveScope<>(stepScope, 0, move);
         moveScope.setScore(score);
         moveScope.setAccepted(accepted);
         return moveScope;
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.partitionedsearch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -78,6 +79,22 @@ class DefaultPartitionedSearchPhaseFactoryTest {
         assertThat(partitionedSearchPhase.isAssertShadowVariablesAreNotStaleAfterStep()).isTrue();
     }
 
+    @Test
+    void roundCountLimitWithoutRoundIndexSupport() {
+        HeuristicConfigPolicy heuristicConfigPolicy = mock(HeuristicConfigPolicy.class);
+        when(heuristicConfigPolicy.createPhaseConfigPolicy()).thenReturn(heuristicConfigPolicy);
+
+        PartitionedSearchPhaseConfig phaseConfig = new PartitionedSearchPhaseConfig();
+        phaseConfig.setSolutionPartitionerClass(TestdataSolutionPartitioner.class);
+        phaseConfig.setRoundCountLimit(3);
+        DefaultPartitionedSearchPhaseFactory<TestdataSolution> partitionedSearchPhaseFactory =
+                new DefaultPartitionedSearchPhaseFactory<>(phaseConfig);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> partitionedSearchPhaseFactory.buildPhase(0, heuristicConfigPolicy,
+                        mock(BestSolutionRecaller.class), mock(Termination.class)))
+                .withMessageContaining("roundCountLimit (3)");
+    }
+
     private DefaultPartitionedSearchPhase<TestdataSolution> mockEnvironmentMode(EnvironmentMode environmentMode) {
         HeuristicConfigPolicy heuristicConfigPolicy = mock(HeuristicConfigPolicy.class);
         when(heuristicConfigPolicy.getEnvironmentMode()).thenReturn(environmentMode);
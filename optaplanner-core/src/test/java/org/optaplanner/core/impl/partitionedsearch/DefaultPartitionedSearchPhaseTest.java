@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -34,14 +35,17 @@ import java.util.stream.IntStream;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.impl.partitionedsearch.scope.PartitionedSearchPhaseScope;
+import org.optaplanner.core.impl.phase.custom.CustomPhaseCommand;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.solver.DefaultSolver;
@@ -81,6 +85,102 @@ public class DefaultPartitionedSearchPhaseTest {
         solver.solve(createSolution(partCount * partSize, 2));
     }
 
+    @Test
+    @Timeout(5)
+    public void defaultSolutionPartitioner() {
+        final int partCount = 3;
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig = new PartitionedSearchPhaseConfig();
+        Map<String, String> solutionPartitionerCustomProperties = new HashMap<>();
+        solutionPartitionerCustomProperties.put("partCount", Integer.toString(partCount));
+        solutionPartitionerCustomProperties.put("minimumPartSize", "1");
+        partitionedSearchPhaseConfig.setSolutionPartitionerCustomProperties(solutionPartitionerCustomProperties);
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig();
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(1));
+        partitionedSearchPhaseConfig.setPhaseConfigList(
+                Arrays.asList(new ConstructionHeuristicPhaseConfig(), localSearchPhaseConfig));
+        solverConfig.setPhaseConfigList(Arrays.asList(partitionedSearchPhaseConfig));
+        DefaultSolver<TestdataSolution> solver =
+                (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        solver.getPhaseList().get(0).addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+            @Override
+            public void phaseStarted(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                assertThat(((PartitionedSearchPhaseScope) phaseScope).getPartCount()).isEqualTo(Integer.valueOf(partCount));
+            }
+        });
+        TestdataSolution solution = solver.solve(createSolution(9, 2));
+        assertThat(solution.getEntityList()).hasSize(9)
+                .allMatch(entity -> entity.getValue() != null);
+    }
+
+    @Test
+    @Timeout(5)
+    public void roundCountLimit() {
+        final int roundCountLimit = 3;
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig = new PartitionedSearchPhaseConfig();
+        Map<String, String> solutionPartitionerCustomProperties = new HashMap<>();
+        solutionPartitionerCustomProperties.put("partCount", "3");
+        solutionPartitionerCustomProperties.put("minimumPartSize", "1");
+        partitionedSearchPhaseConfig.setSolutionPartitionerCustomProperties(solutionPartitionerCustomProperties);
+        partitionedSearchPhaseConfig.setRoundCountLimit(roundCountLimit);
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig();
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(1));
+        partitionedSearchPhaseConfig.setPhaseConfigList(
+                Arrays.asList(new ConstructionHeuristicPhaseConfig(), localSearchPhaseConfig));
+        solverConfig.setPhaseConfigList(Arrays.asList(partitionedSearchPhaseConfig));
+        DefaultSolver<TestdataSolution> solver =
+                (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        solver.getPhaseList().get(0).addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+            @Override
+            public void phaseEnded(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                assertThat(((PartitionedSearchPhaseScope) phaseScope).getRoundCount()).isEqualTo(roundCountLimit);
+            }
+        });
+        TestdataSolution solution = solver.solve(createSolution(9, 2));
+        assertThat(solution.getEntityList()).hasSize(9)
+                .allMatch(entity -> entity.getValue() != null);
+    }
+
+    @Test
+    @Timeout(5)
+    public void partEventThrottlingDelay() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig = new PartitionedSearchPhaseConfig();
+        partitionedSearchPhaseConfig.setSolutionPartitionerClass(TestdataSolutionPartitioner.class);
+        Map<String, String> solutionPartitionerCustomProperties = new HashMap<>();
+        solutionPartitionerCustomProperties.put("partSize", "3");
+        partitionedSearchPhaseConfig.setSolutionPartitionerCustomProperties(solutionPartitionerCustomProperties);
+        // Only the first new best solution of each part is sent immediately, the last one is sent when the part ends
+        partitionedSearchPhaseConfig.setPartEventThrottlingDelay(Duration.ofDays(1L));
+        CustomPhaseConfig customPhaseConfig = new CustomPhaseConfig();
+        // Every step initializes 1 entity and improves the best solution
+        customPhaseConfig.setCustomPhaseCommandClassList(Arrays.asList(InitializeEntityCustomPhaseCommand.class,
+                InitializeEntityCustomPhaseCommand.class, InitializeEntityCustomPhaseCommand.class));
+        partitionedSearchPhaseConfig.setPhaseConfigList(Arrays.asList(customPhaseConfig));
+        solverConfig.setPhaseConfigList(Arrays.asList(partitionedSearchPhaseConfig));
+
+        TestdataSolution solution = PlannerTestUtils.solve(solverConfig, createSolution(9, 2));
+        assertThat(solution.getEntityList()).hasSize(9)
+                .allMatch(entity -> entity.getValue() != null);
+    }
+
+    public static class InitializeEntityCustomPhaseCommand implements CustomPhaseCommand<TestdataSolution> {
+
+        @Override
+        public void changeWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector) {
+            TestdataSolution solution = scoreDirector.getWorkingSolution();
+            TestdataEntity entity = solution.getEntityList().stream()
+                    .filter(e -> e.getValue() == null)
+                    .findFirst().orElseThrow(IllegalStateException::new);
+            scoreDirector.beforeVariableChanged(entity, "value");
+            entity.setValue(solution.getValueList().get(0));
+            scoreDirector.afterVariableChanged(entity, "value");
+            scoreDirector.triggerVariableListeners();
+        }
+
+    }
+
     private static SolverFactory<TestdataSolution> createSolverFactory(boolean infinite, String moveThreadCount, int partSize) {
         SolverConfig solverConfig = PlannerTestUtils
                 .buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+class DefaultSolutionPartitionerTest {
+
+    @Test
+    void splitBySharedPlanningValue() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataSolution solution = createSolution(Arrays.asList(v1, v2),
+                new TestdataEntity("a", v1), new TestdataEntity("b", v2), new TestdataEntity("c", v1),
+                new TestdataEntity("d", v2), new TestdataEntity("e", v1), new TestdataEntity("f", v2));
+        List<TestdataEntity> originalEntityList = solution.getEntityList();
+        List<TestdataEntity> originalEntityListCopy = Arrays.asList(originalEntityList.toArray(new TestdataEntity[0]));
+
+        DefaultSolutionPartitioner<TestdataSolution> partitioner = new DefaultSolutionPartitioner<>(null);
+        partitioner.setPartCount(2);
+        partitioner.setMinimumPartSize(1);
+        List<TestdataSolution> partList = partitioner.splitWorkingSolution(buildScoreDirector(solution), null);
+
+        assertThat(partList).hasSize(2);
+        assertThat(extractCodes(partList.get(0))).containsExactly("a", "c", "e");
+        assertThat(extractCodes(partList.get(1))).containsExactly("b", "d", "f");
+        assertThat(partList.get(0).getEntityList()).allMatch(entity -> entity.getValue() == v1)
+                .doesNotContainAnyElementsOf(originalEntityList);
+        assertThat(partList.get(1).getValueList()).containsExactly(v1, v2);
+        // The working solution is restored
+        assertThat(solution.getEntityList()).isSameAs(originalEntityList)
+                .containsExactlyElementsOf(originalEntityListCopy);
+    }
+
+    @Test
+    void splitByNearbyDistance() {
+        TestdataSolution solution = createSolution(Arrays.asList(new TestdataValue("v1")),
+                new TestdataEntity("0"), new TestdataEntity("11"), new TestdataEntity("1"),
+                new TestdataEntity("12"), new TestdataEntity("2"), new TestdataEntity("10"));
+        NearbyDistanceMeter<TestdataEntity, TestdataEntity> nearbyDistanceMeter = (origin, destination) -> Math.abs(
+                Integer.parseInt(origin.getCode()) - Integer.parseInt(destination.getCode()));
+
+        DefaultSolutionPartitioner<TestdataSolution> partitioner =
+                new DefaultSolutionPartitioner<>(nearbyDistanceMeter);
+        partitioner.setMinimumPartSize(1);
+        List<TestdataSolution> partList = partitioner.splitWorkingSolution(buildScoreDirector(solution), 2);
+
+        assertThat(partList).hasSize(2);
+        assertThat(extractCodes(partList.get(0))).containsExactly("0", "1", "2");
+        assertThat(extractCodes(partList.get(1))).containsExactly("11", "12", "10");
+    }
+
+    @Test
+    void roundIndexShiftsPartitionBoundaries() {
+        TestdataSolution solution = createSolution(Arrays.asList(new TestdataValue("v1")),
+                new TestdataEntity("a"), new TestdataEntity("b"), new TestdataEntity("c"),
+                new TestdataEntity("d"), new TestdataEntity("e"), new TestdataEntity("f"));
+
+        DefaultSolutionPartitioner<TestdataSolution> partitioner = new DefaultSolutionPartitioner<>(null);
+        partitioner.setMinimumPartSize(1);
+        List<TestdataSolution> firstRoundPartList =
+                partitioner.splitWorkingSolution(buildScoreDirector(solution), 2, 0);
+        List<TestdataSolution> secondRoundPartList =
+                partitioner.splitWorkingSolution(buildScoreDirector(solution), 2, 1);
+
+        assertThat(extractCodes(firstRoundPartList.get(0))).containsExactly("a", "c", "e");
+        assertThat(extractCodes(firstRoundPartList.get(1))).containsExactly("b", "d", "f");
+        assertThat(extractCodes(secondRoundPartList.get(0))).containsExactly("a", "d", "e");
+        assertThat(extractCodes(secondRoundPartList.get(1))).containsExactly("b", "c", "f");
+    }
+
+    @Test
+    void minimumPartSize() {
+        TestdataSolution solution = createSolution(Arrays.asList(new TestdataValue("v1")),
+                new TestdataEntity("a"), new TestdataEntity("b"), new TestdataEntity("c"),
+                new TestdataEntity("d"), new TestdataEntity("e"), new TestdataEntity("f"));
+
+        DefaultSolutionPartitioner<TestdataSolution> partitioner = new DefaultSolutionPartitioner<>(null);
+        partitioner.setMinimumPartSize(4);
+        List<TestdataSolution> partList = partitioner.splitWorkingSolution(buildScoreDirector(solution), 3);
+
+        assertThat(partList).hasSize(1);
+        assertThat(extractCodes(partList.get(0))).containsExactly("a", "b", "c", "d", "e", "f");
+        assertThat(partList.get(0)).isNotSameAs(solution);
+    }
+
+    private static TestdataSolution createSolution(List<TestdataValue> valueList, TestdataEntity... entities) {
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(valueList);
+        solution.setEntityList(Arrays.stream(entities).collect(Collectors.toList()));
+        return solution;
+    }
+
+    private static InnerScoreDirector<TestdataSolution, ?> buildScoreDirector(TestdataSolution solution) {
+        InnerScoreDirector<TestdataSolution, ?> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+        return scoreDirector;
+    }
+
+    private static List<String> extractCodes(TestdataSolution part) {
+        return part.getEntityList().stream()
+                .map(TestdataEntity::getCode)
+                .collect(Collectors.toList());
+    }
+
+}
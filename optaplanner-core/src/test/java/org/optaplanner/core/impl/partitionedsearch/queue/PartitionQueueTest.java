@@ -96,6 +96,7 @@ public class PartitionQueueTest {
 
         executorService.submit(() -> partitionQueue.addFinish(2, 123)).get();
         assertThat(it.hasNext()).isSameAs(false);
+        assertThat(partitionQueue.getDroppedMoveCount()).isEqualTo(6L);
     }
 
     @Test
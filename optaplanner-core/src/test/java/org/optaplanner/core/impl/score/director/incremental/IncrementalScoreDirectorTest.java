@@ -18,22 +18,35 @@ package org.optaplanner.core.impl.score.director.incremental;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.calculator.ConstraintMatchAwareIncrementalScoreCalculator;
 import org.optaplanner.core.api.score.calculator.IncrementalScoreCalculator;
+import org.optaplanner.core.api.score.calculator.PeekingIncrementalScoreCalculator;
+import org.optaplanner.core.api.score.calculator.ProblemFactChangeAwareIncrementalScoreCalculator;
+import org.optaplanner.core.api.score.calculator.VariableChange;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
 import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedAnchor;
 import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedSolution;
@@ -122,6 +135,107 @@ public class IncrementalScoreDirectorTest {
         assertThat(director.isConstraintMatchEnabled()).isFalse();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void problemFactChangesWithProblemFactChangeAwareScoreCalculator() {
+        ProblemFactChangeAwareIncrementalScoreCalculator<Object, SimpleScore> incrementalScoreCalculator =
+                mock(ProblemFactChangeAwareIncrementalScoreCalculator.class);
+        IncrementalScoreDirector<Object, SimpleScore> director = new IncrementalScoreDirector<>(
+                mockIncrementalScoreDirectorFactory(), false, false, incrementalScoreCalculator);
+        Object workingSolution = new Object();
+        director.setWorkingSolution(workingSolution);
+        reset(incrementalScoreCalculator);
+
+        Object problemFact = new Object();
+        director.beforeProblemFactAdded(problemFact);
+        director.afterProblemFactAdded(problemFact);
+        director.beforeProblemPropertyChanged(problemFact);
+        director.afterProblemPropertyChanged(problemFact);
+        director.beforeProblemFactRemoved(problemFact);
+        director.afterProblemFactRemoved(problemFact);
+
+        InOrder inOrder = inOrder(incrementalScoreCalculator);
+        inOrder.verify(incrementalScoreCalculator).beforeProblemFactAdded(problemFact);
+        inOrder.verify(incrementalScoreCalculator).afterProblemFactAdded(problemFact);
+        inOrder.verify(incrementalScoreCalculator).beforeProblemPropertyChanged(problemFact);
+        inOrder.verify(incrementalScoreCalculator).afterProblemPropertyChanged(problemFact);
+        inOrder.verify(incrementalScoreCalculator).beforeProblemFactRemoved(problemFact);
+        inOrder.verify(incrementalScoreCalculator).afterProblemFactRemoved(problemFact);
+        inOrder.verifyNoMoreInteractions();
+        verify(incrementalScoreCalculator, never()).resetWorkingSolution(workingSolution);
+    }
+
+    @Test
+    public void problemFactChangesResetScoreCalculator() {
+        IncrementalScoreCalculator<Object, SimpleScore> incrementalScoreCalculator =
+                mockIncrementalScoreCalculator(false);
+        IncrementalScoreDirector<Object, SimpleScore> director = new IncrementalScoreDirector<>(
+                mockIncrementalScoreDirectorFactory(), false, false, incrementalScoreCalculator);
+        Object workingSolution = new Object();
+        director.setWorkingSolution(workingSolution);
+        reset(incrementalScoreCalculator);
+
+        Object problemFact = new Object();
+        director.beforeProblemFactAdded(problemFact);
+        director.afterProblemFactAdded(problemFact);
+        director.beforeProblemPropertyChanged(problemFact);
+        director.afterProblemPropertyChanged(problemFact);
+        director.beforeProblemFactRemoved(problemFact);
+        director.afterProblemFactRemoved(problemFact);
+
+        verify(incrementalScoreCalculator, times(3)).resetWorkingSolution(workingSolution);
+        verifyNoMoreInteractions(incrementalScoreCalculator);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void peekableMoveWithPeekingScoreCalculator() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", null);
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(e1, e2));
+
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = solutionDescriptor
+                .findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+        IncrementalScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                mock(IncrementalScoreDirectorFactory.class);
+        when(scoreDirectorFactory.getSolutionDescriptor()).thenReturn(solutionDescriptor);
+        when(scoreDirectorFactory.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        PeekingIncrementalScoreCalculator<TestdataSolution, SimpleScore> incrementalScoreCalculator =
+                mock(PeekingIncrementalScoreCalculator.class);
+        IncrementalScoreDirector<TestdataSolution, SimpleScore> scoreDirector = new IncrementalScoreDirector<>(
+                scoreDirectorFactory, false, false, incrementalScoreCalculator);
+        scoreDirector.setWorkingSolution(solution);
+        reset(incrementalScoreCalculator);
+        when(incrementalScoreCalculator.peekScore(any())).thenReturn(SimpleScore.of(-7));
+
+        // Changing an initialized variable keeps the initScore
+        assertThat(scoreDirector.doAndProcessMove(new ChangeMove<>(e1, variableDescriptor, v2), false))
+                .isEqualTo(SimpleScore.ofUninitialized(-1, -7));
+        // Initializing the only uninitialized variable brings the initScore to 0
+        assertThat(scoreDirector.doAndProcessMove(new ChangeMove<>(e2, variableDescriptor, v1), false))
+                .isEqualTo(SimpleScore.of(-7));
+        // Uninitializing a variable lowers the initScore
+        assertThat(scoreDirector.doAndProcessMove(new ChangeMove<>(e1, variableDescriptor, null), false))
+                .isEqualTo(SimpleScore.ofUninitialized(-2, -7));
+        assertThat(scoreDirector.getCalculationCount()).isEqualTo(3L);
+
+        ArgumentCaptor<List<VariableChange>> variableChangeListCaptor = ArgumentCaptor.forClass(List.class);
+        verify(incrementalScoreCalculator, times(3)).peekScore(variableChangeListCaptor.capture());
+        VariableChange variableChange = variableChangeListCaptor.getAllValues().get(0).get(0);
+        assertThat(variableChange.getEntity()).isSameAs(e1);
+        assertThat(variableChange.getVariableName()).isEqualTo("value");
+        assertThat(variableChange.getToValue()).isSameAs(v2);
+        // None of the moves was done (or undone)
+        verifyNoMoreInteractions(incrementalScoreCalculator);
+        assertThat(e1.getValue()).isSameAs(v1);
+        assertThat(e2.getValue()).isNull();
+    }
+
     @SuppressWarnings("unchecked")
     private IncrementalScoreDirectorFactory<Object, SimpleScore> mockIncrementalScoreDirectorFactory() {
         IncrementalScoreDirectorFactory<Object, SimpleScore> factory = mock(IncrementalScoreDirectorFactory.class);
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntityGroup;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishValueGroup;
+
+public class BavetConstraintStreamNodeSharingTest {
+
+    private static final Function<TestdataLavishEntity, TestdataLavishEntityGroup> ENTITY_GROUP_MAPPING =
+            TestdataLavishEntity::getEntityGroup;
+    private static final Predicate<TestdataLavishEntity> FILTER = entity -> entity.getValue() != null;
+    private static final Predicate<TestdataLavishEntity> OTHER_FILTER = entity -> entity.getEntityGroup() != null;
+
+    private static Constraint buildConstraint(ConstraintFactory factory, String constraintName,
+            Predicate<TestdataLavishEntity> filter) {
+        return factory.from(TestdataLavishEntity.class)
+                .filter(filter)
+                .join(TestdataLavishEntity.class, equal(ENTITY_GROUP_MAPPING))
+                .join(TestdataLavishValueGroup.class)
+                .penalize(constraintName, SimpleScore.ONE);
+    }
+
+    @Test
+    void identicalConstraintsShareAllNodesButScoring() {
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> singleSession = buildSession(
+                factory -> new Constraint[] {
+                        buildConstraint(factory, "Constraint 1", FILTER)
+                });
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> doubleSession = buildSession(
+                factory -> new Constraint[] {
+                        buildConstraint(factory, "Constraint 1", FILTER),
+                        buildConstraint(factory, "Constraint 2", FILTER)
+                });
+        assertThat(doubleSession.getScoringNodeList()).hasSize(2);
+        assertThat(doubleSession.getNodes())
+                .as("Only the scoring node is not shared.")
+                .hasSize(singleSession.getNodes().size() + 1);
+    }
+
+    @Test
+    void differentFiltersStopSharing() {
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> singleSession = buildSession(
+                factory -> new Constraint[] {
+                        buildConstraint(factory, "Constraint 1", FILTER)
+                });
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> doubleSession = buildSession(
+                factory -> new Constraint[] {
+                        buildConstraint(factory, "Constraint 1", FILTER),
+                        buildConstraint(factory, "Constraint 2", OTHER_FILTER)
+                });
+        assertThat(doubleSession.getNodes())
+                .as("The from nodes, the isInitialized filter node and both right join bridge nodes are shared. "
+                        + "The filter node, both left join bridge nodes, both join nodes and the scoring node are not.")
+                .hasSize(singleSession.getNodes().size() + 6);
+    }
+
+    @Test
+    void sharedNodesCalculateTheSameScore() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        int score = calculateScore(solution, factory -> new Constraint[] {
+                buildConstraint(factory, "Constraint 1", FILTER)
+        });
+        int otherScore = calculateScore(solution, factory -> new Constraint[] {
+                buildConstraint(factory, "Constraint 2", OTHER_FILTER)
+        });
+        assertThat(score).isNegative();
+        assertThat(otherScore).isNegative();
+        assertThat(calculateScore(solution, factory -> new Constraint[] {
+                buildConstraint(factory, "Constraint 1", FILTER),
+                buildConstraint(factory, "Constraint 2", FILTER)
+        })).isEqualTo(score * 2);
+        assertThat(calculateScore(solution, factory -> new Constraint[] {
+                buildConstraint(factory, "Constraint 1", FILTER),
+                buildConstraint(factory, "Constraint 2", OTHER_FILTER)
+        })).isEqualTo(score + otherScore);
+    }
+
+    @Test
+    void sharedNodesCalculateTheSameScoreIncrementally() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(factory -> new Constraint[] {
+                        buildConstraint(factory, "Constraint 1", FILTER),
+                        buildConstraint(factory, "Constraint 2", FILTER),
+                        buildConstraint(factory, "Constraint 3", OTHER_FILTER)
+                });
+        scoreDirector.setWorkingSolution(solution);
+        assertSharedScore(scoreDirector, solution);
+
+        TestdataLavishEntity entity = solution.getFirstEntity();
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(null);
+        scoreDirector.afterVariableChanged(entity, "value");
+        assertSharedScore(scoreDirector, solution);
+
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(solution.getFirstValue());
+        scoreDirector.afterVariableChanged(entity, "value");
+        assertSharedScore(scoreDirector, solution);
+
+        TestdataLavishEntity otherEntity = solution.getEntityList().get(1);
+        scoreDirector.beforeProblemPropertyChanged(otherEntity);
+        otherEntity.setEntityGroup(solution.getFirstEntityGroup());
+        scoreDirector.afterProblemPropertyChanged(otherEntity);
+        assertSharedScore(scoreDirector, solution);
+
+        scoreDirector.beforeEntityRemoved(entity);
+        solution.getEntityList().remove(entity);
+        scoreDirector.afterEntityRemoved(entity);
+        assertSharedScore(scoreDirector, solution);
+
+        TestdataLavishEntity addedEntity = new TestdataLavishEntity("Added entity",
+                solution.getFirstEntityGroup(), solution.getFirstValue());
+        scoreDirector.beforeEntityAdded(addedEntity);
+        solution.getEntityList().add(addedEntity);
+        scoreDirector.afterEntityAdded(addedEntity);
+        assertSharedScore(scoreDirector, solution);
+
+        TestdataLavishValueGroup valueGroup = solution.getFirstValueGroup();
+        scoreDirector.beforeProblemFactRemoved(valueGroup);
+        solution.getValueGroupList().remove(valueGroup);
+        scoreDirector.afterProblemFactRemoved(valueGroup);
+        assertSharedScore(scoreDirector, solution);
+    }
+
+    /**
+     * Compares the incremental score of the shared session with the scores of unshared sessions,
+     * each calculated from scratch.
+     */
+    private static void assertSharedScore(
+            BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector,
+            TestdataLavishSolution solution) {
+        int score = calculateScore(solution, factory -> new Constraint[] {
+                buildConstraint(factory, "Constraint 1", FILTER)
+        });
+        int otherScore = calculateScore(solution, factory -> new Constraint[] {
+                buildConstraint(factory, "Constraint 3", OTHER_FILTER)
+        });
+        assertThat(scoreDirector.calculateScore().getScore()).isEqualTo(score * 2 + otherScore);
+    }
+
+    private static int calculateScore(TestdataLavishSolution solution, ConstraintProvider constraintProvider) {
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(constraintProvider);
+        scoreDirector.setWorkingSolution(solution);
+        return scoreDirector.calculateScore().getScore();
+    }
+
+    private static BavetConstraintSession<TestdataLavishSolution, SimpleScore> buildSession(
+            ConstraintProvider constraintProvider) {
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(constraintProvider);
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution());
+        return scoreDirector.getSession();
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> buildScoreDirector(
+            ConstraintProvider constraintProvider) {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        constraintProvider);
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+import org.optaplanner.core.impl.score.stream.common.AbstractJoiner;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+public class BavetIndexFactoryTest {
+
+    @Test
+    public void buildIndexNone() {
+        BavetIndex<TestTuple> index = buildIndex(true);
+        assertThat(index).isInstanceOf(BavetNoneIndex.class);
+        TestTuple a = put(index, "a");
+        TestTuple b = put(index, "b");
+        assertThat(visit(index)).containsExactly(a, b);
+        index.remove(a);
+        assertThat(visit(index)).containsExactly(b);
+    }
+
+    @Test
+    public void buildIndexSingleEquals() {
+        BavetIndex<TestTuple> index = buildIndex(true, JoinerType.EQUAL);
+        assertThat(index).isInstanceOf(BavetSingleEqualsIndex.class);
+        TestTuple a1 = put(index, "a1", 1);
+        TestTuple b1 = put(index, "b1", 1);
+        TestTuple c2 = put(index, "c2", 2);
+        assertThat(visit(index, 1)).containsExactly(a1, b1);
+        assertThat(visit(index, 2)).containsExactly(c2);
+        assertThat(visit(index, 3)).isEmpty();
+        index.remove(a1);
+        assertThat(visit(index, 1)).containsExactly(b1);
+        index.remove(b1);
+        assertThat(visit(index, 1)).isEmpty();
+    }
+
+    @Test
+    public void buildIndexDoubleEquals() {
+        BavetIndex<TestTuple> index = buildIndex(true, JoinerType.EQUAL, JoinerType.EQUAL);
+        assertThat(index).isInstanceOf(BavetDoubleEqualsIndex.class);
+        TestTuple a = put(index, "a", 1, "x");
+        TestTuple b = put(index, "b", 1, "y");
+        TestTuple c = put(index, "c", 1, "x");
+        assertThat(visit(index, 1, "x")).containsExactly(a, c);
+        assertThat(visit(index, 1, "y")).containsExactly(b);
+        assertThat(visit(index, 2, "x")).isEmpty();
+        index.remove(b);
+        assertThat(visit(index, 1, "y")).isEmpty();
+    }
+
+    @Test
+    public void buildIndexTripleEquals() {
+        BavetIndex<TestTuple> index = buildIndex(true, JoinerType.EQUAL, JoinerType.EQUAL, JoinerType.EQUAL);
+        assertThat(index).isInstanceOf(BavetEqualsIndex.class);
+        TestTuple a = put(index, "a", 1, "x", true);
+        put(index, "b", 1, "x", false);
+        assertThat(visit(index, 1, "x", true)).containsExactly(a);
+    }
+
+    @Test
+    public void buildIndexComparison() {
+        BavetIndex<TestTuple> index = buildIndex(true, JoinerType.LESS_THAN);
+        assertThat(index).isInstanceOf(BavetComparisonIndex.class);
+        TestTuple t1 = put(index, "t1", 1);
+        TestTuple t2 = put(index, "t2", 2);
+        TestTuple t3 = put(index, "t3", 3);
+        assertThat(visit(index, 3)).containsExactly(t1, t2);
+        assertThat(visit(index, 1)).isEmpty();
+        index.remove(t1);
+        assertThat(visit(index, 4)).containsExactly(t2, t3);
+    }
+
+    @Test
+    public void buildIndexComparisonFlipsForRightBridge() {
+        BavetIndex<TestTuple> index = buildIndex(false, JoinerType.LESS_THAN);
+        TestTuple t1 = put(index, "t1", 1);
+        TestTuple t2 = put(index, "t2", 2);
+        TestTuple t3 = put(index, "t3", 3);
+        assertThat(visit(index, 1)).containsExactly(t2, t3);
+        assertThat(visit(index, 3)).isEmpty();
+        index.remove(t3);
+        assertThat(visit(index, 0)).containsExactly(t1, t2);
+    }
+
+    @Test
+    public void buildIndexEqualsAndComparison() {
+        BavetIndex<TestTuple> index = buildIndex(true, JoinerType.EQUAL, JoinerType.GREATER_THAN_OR_EQUAL);
+        assertThat(index).isInstanceOf(BavetSingleEqualsAndComparisonIndex.class);
+        TestTuple x1 = put(index, "x1", "x", 1);
+        TestTuple x2 = put(index, "x2", "x", 2);
+        put(index, "y2", "y", 2);
+        assertThat(visit(index, "x", 2)).containsExactly(x2);
+        assertThat(visit(index, "x", 1)).containsExactly(x1, x2);
+        assertThat(visit(index, "z", 1)).isEmpty();
+        index.remove(x2);
+        assertThat(visit(index, "x", 1)).containsExactly(x1);
+    }
+
+    @Test
+    public void buildIndexDoubleEqualsAndComparison() {
+        BavetIndex<TestTuple> index = buildIndex(true, JoinerType.EQUAL, JoinerType.EQUAL, JoinerType.LESS_THAN);
+        assertThat(index).isInstanceOf(BavetDoubleEqualsAndComparisonIndex.class);
+        TestTuple a = put(index, "a", "x", 1, 1);
+        TestTuple b = put(index, "b", "x", 2, 1);
+        put(index, "c", "x", 1, 5);
+        assertThat(visit(index, "x", 1, 3)).containsExactly(a);
+        assertThat(visit(index, "x", 2, 3)).containsExactly(b);
+        index.remove(a);
+        assertThat(visit(index, "x", 1, 3)).isEmpty();
+        assertThat(visit(index, "x", 2, 3)).containsExactly(b);
+    }
+
+    @Test
+    public void buildIndexTripleEqualsAndComparison() {
+        BavetIndex<TestTuple> index = buildIndex(true,
+                JoinerType.EQUAL, JoinerType.EQUAL, JoinerType.EQUAL, JoinerType.LESS_THAN);
+        assertThat(index).isInstanceOf(BavetEqualsAndComparisonIndex.class);
+        TestTuple a = put(index, "a", "x", 1, true, 1);
+        put(index, "b", "x", 1, false, 1);
+        put(index, "c", "x", 1, true, 5);
+        assertThat(visit(index, "x", 1, true, 3)).containsExactly(a);
+        index.remove(a);
+        assertThat(visit(index, "x", 1, true, 3)).isEmpty();
+    }
+
+    // ************************************************************************
+    // Helper methods
+    // ************************************************************************
+
+    private static BavetIndex<TestTuple> buildIndex(boolean isLeftBridge, JoinerType... joinerTypes) {
+        AbstractJoiner joiner = new AbstractJoiner() {
+            @Override
+            public JoinerType[] getJoinerTypes() {
+                return joinerTypes;
+            }
+        };
+        return new BavetIndexFactory(joiner).buildIndex(isLeftBridge);
+    }
+
+    private static TestTuple put(BavetIndex<TestTuple> index, String fact, Object... indexProperties) {
+        TestTuple tuple = new TestTuple(fact);
+        index.put(indexProperties, tuple);
+        return tuple;
+    }
+
+    private static List<TestTuple> visit(BavetIndex<TestTuple> index, Object... indexProperties) {
+        List<TestTuple> tupleList = new ArrayList<>();
+        index.visit(indexProperties, tupleList::add);
+        return tupleList;
+    }
+
+    private static final class TestTuple implements BavetJoinBridgeTuple {
+
+        private final String fact;
+        private Object[] indexProperties;
+
+        private TestTuple(String fact) {
+            this.fact = fact;
+        }
+
+        @Override
+        public BavetNode getNode() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object[] getFacts() {
+            return new Object[] { fact };
+        }
+
+        @Override
+        public Object[] getIndexProperties() {
+            return indexProperties;
+        }
+
+        @Override
+        public void setIndexProperties(Object[] indexProperties) {
+            this.indexProperties = indexProperties;
+        }
+
+        @Override
+        public String toString() {
+            return fact;
+        }
+
+    }
+
+}
@@ -20,10 +20,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -31,14 +35,21 @@ import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.solver.ProblemFactChange;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.RestartMode;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.testutil.calculator.TestdataDifferentValuesCalculator;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import org.optaplanner.core.impl.phase.custom.NoChangeCustomPhaseCommand;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -70,6 +81,109 @@ public class DefaultSolverTest {
         assertThat(solution.getScore().isSolutionInitialized()).isTrue();
     }
 
+    @Test
+    public void solveWithIncrementalSolutionCloning() {
+        SolverConfig solverConfig = buildDifferentValuesSolverConfig();
+        solverConfig.getScoreDirectorFactoryConfig().setIncrementalSolutionCloningEnabled(true);
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        List<TestdataSolution> eventSolutionList = new ArrayList<>();
+        List<SimpleScore> eventScoreList = new ArrayList<>();
+        solver.addEventListener(event -> {
+            eventSolutionList.add(event.getNewBestSolution());
+            eventScoreList.add((SimpleScore) event.getNewBestScore());
+        });
+        TestdataSolution solution = solver.solve(buildDifferentValuesProblem());
+
+        assertThat(eventSolutionList).hasSizeGreaterThan(1);
+        // Later clones share unchanged entity clones, so they must not have changed earlier best solutions
+        for (int i = 0; i < eventSolutionList.size(); i++) {
+            assertThat(calculateDifferentValuesScore(eventSolutionList.get(i))).isEqualTo(eventScoreList.get(i));
+        }
+        assertThat(eventScoreList).isSortedAccordingTo(SimpleScore::compareTo).doesNotHaveDuplicates();
+        assertThat(solution.getScore()).isEqualTo(eventScoreList.get(eventScoreList.size() - 1));
+        assertThat(calculateDifferentValuesScore(solution)).isEqualTo(solution.getScore());
+        assertSameAssignment(solution, solveWithFullCloning());
+    }
+
+    @Test
+    public void solveWithLazyBestSolutionCloning() {
+        SolverConfig solverConfig = buildDifferentValuesSolverConfig();
+        solverConfig.setLazyBestSolutionCloningEnabled(true);
+        // No SolverEventListener, otherwise every new best solution is cloned eagerly anyway
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        TestdataSolution solution = solver.solve(buildDifferentValuesProblem());
+
+        assertThat(solution.getScore()).isGreaterThan(DIFFERENT_VALUES_INITIAL_SCORE);
+        assertThat(calculateDifferentValuesScore(solution)).isEqualTo(solution.getScore());
+        // Late acceptance also accepts worse steps, so the best solution is often cloned after it was left
+        assertSameAssignment(solution, solveWithFullCloning());
+    }
+
+    @Test
+    public void solveWithLazyBestSolutionCloningAndEventListener() {
+        SolverConfig solverConfig = buildDifferentValuesSolverConfig();
+        solverConfig.setLazyBestSolutionCloningEnabled(true);
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        List<SimpleScore> eventScoreList = new ArrayList<>();
+        solver.addEventListener(event -> {
+            assertThat(calculateDifferentValuesScore(event.getNewBestSolution())).isEqualTo(event.getNewBestScore());
+            eventScoreList.add((SimpleScore) event.getNewBestScore());
+        });
+        TestdataSolution solution = solver.solve(buildDifferentValuesProblem());
+
+        assertThat(eventScoreList).hasSizeGreaterThan(1);
+        assertThat(solution.getScore()).isEqualTo(eventScoreList.get(eventScoreList.size() - 1));
+        assertThat(calculateDifferentValuesScore(solution)).isEqualTo(solution.getScore());
+        assertSameAssignment(solution, solveWithFullCloning());
+    }
+
+    private static final SimpleScore DIFFERENT_VALUES_INITIAL_SCORE = SimpleScore.of(-5);
+
+    private static SolverConfig buildDifferentValuesSolverConfig() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataSolution.class, TestdataEntity.class);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(
+                TestdataDifferentValuesCalculator.class);
+        LocalSearchPhaseConfig localSearchPhaseConfig = new LocalSearchPhaseConfig();
+        localSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(100));
+        solverConfig.setPhaseConfigList(Collections.singletonList(localSearchPhaseConfig));
+        return solverConfig;
+    }
+
+    /**
+     * @return never null, all 6 entities start on the same value, so the score starts at
+     *         {@link #DIFFERENT_VALUES_INITIAL_SCORE} and can improve up to -2
+     */
+    private static TestdataSolution buildDifferentValuesProblem() {
+        List<TestdataValue> valueList = Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2"),
+                new TestdataValue("v3"), new TestdataValue("v4"));
+        List<TestdataEntity> entityList = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            entityList.add(new TestdataEntity("e" + i, valueList.get(0)));
+        }
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(valueList);
+        solution.setEntityList(entityList);
+        assertThat(calculateDifferentValuesScore(solution)).isEqualTo(DIFFERENT_VALUES_INITIAL_SCORE);
+        return solution;
+    }
+
+    private static SimpleScore calculateDifferentValuesScore(TestdataSolution solution) {
+        return new TestdataDifferentValuesCalculator().calculateScore(solution);
+    }
+
+    private static TestdataSolution solveWithFullCloning() {
+        return PlannerTestUtils.solve(buildDifferentValuesSolverConfig(), buildDifferentValuesProblem());
+    }
+
+    private static void assertSameAssignment(TestdataSolution solution, TestdataSolution expectedSolution) {
+        assertThat(solution.getScore()).isEqualTo(expectedSolution.getScore());
+        assertThat(solution.getEntityList()).extracting(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(expectedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .collect(Collectors.toList()));
+    }
+
     @Test
     public void solveMetrics() {
         TestMeterRegistry meterRegistry = new TestMeterRegistry();
@@ -304,4 +418,69 @@ public class DefaultSolverTest {
         assertThat(solution.getScore().isSolutionInitialized()).isFalse();
     }
 
+    @Test
+    public void fullRestartRerunsEveryPhase() {
+        List<String> phaseList = solveWithProblemFactChangeInLastPhase(RestartMode.FULL, false);
+        assertThat(phaseList).containsExactly("custom", "constructionHeuristic", "custom",
+                "custom", "constructionHeuristic", "custom");
+    }
+
+    @Test
+    public void warmRestartResumesLastPhase() {
+        List<String> phaseList = solveWithProblemFactChangeInLastPhase(RestartMode.WARM, false);
+        assertThat(phaseList).containsExactly("custom", "constructionHeuristic", "custom",
+                "custom");
+    }
+
+    @Test
+    public void warmRestartReinitializesAddedEntity() {
+        List<String> phaseList = solveWithProblemFactChangeInLastPhase(RestartMode.WARM, true);
+        assertThat(phaseList).containsExactly("custom", "constructionHeuristic", "custom",
+                "constructionHeuristic", "custom");
+    }
+
+    private List<String> solveWithProblemFactChangeInLastPhase(RestartMode restartMode, boolean entityAdded) {
+        AtomicReference<Solver<TestdataSolution>> solverReference = new AtomicReference<>();
+        AtomicBoolean problemFactChangeAdded = new AtomicBoolean(false);
+        ProblemFactChange<TestdataSolution> problemFactChange = scoreDirector -> {
+            if (entityAdded) {
+                TestdataEntity entity = new TestdataEntity("e3");
+                scoreDirector.beforeEntityAdded(entity);
+                scoreDirector.getWorkingSolution().getEntityList().add(entity);
+                scoreDirector.afterEntityAdded(entity);
+                scoreDirector.triggerVariableListeners();
+            }
+        };
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withRestartMode(restartMode)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(scoreDirector -> {
+                }),
+                        new ConstructionHeuristicPhaseConfig(),
+                        new CustomPhaseConfig().withCustomPhaseCommands(scoreDirector -> {
+                            // Only the first run of the last phase adds a problem fact change
+                            if (problemFactChangeAdded.compareAndSet(false, true)) {
+                                solverReference.get().addProblemFactChange(problemFactChange);
+                            }
+                        }));
+        DefaultSolver<TestdataSolution> solver =
+                (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        solverReference.set(solver);
+        List<String> phaseList = new ArrayList<>();
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+            @Override
+            public void phaseStarted(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                phaseList.add(phaseScope instanceof ConstructionHeuristicPhaseScope
+                        ? "constructionHeuristic"
+                        : "custom");
+            }
+        });
+
+        TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1");
+        solution.setEntityList(new ArrayList<>(solution.getEntityList()));
+        solution = solver.solve(solution);
+        assertThat(solution.getEntityList()).hasSize(entityAdded ? 3 : 2);
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        return phaseList;
+    }
+
 }
@@ -17,15 +17,21 @@
 package org.optaplanner.core.impl.solver.recaller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.event.SolverEventSupport;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
@@ -111,6 +117,42 @@ public class BestSolutionRecallerTest {
         }
     }
 
+    @Test
+    public void lazyBestSolutionCloning() {
+        SolverScope<TestdataSolution> solverScope = createSolverScope();
+        InnerScoreDirector<TestdataSolution, ?> scoreDirector = solverScope.getScoreDirector();
+        TestdataSolution originalBestSolution = mock(TestdataSolution.class);
+        solverScope.setBestSolution(originalBestSolution);
+        solverScope.setBestScore(SimpleScore.of(-2));
+        BestSolutionRecaller<TestdataSolution> recaller = createBestSolutionRecaller();
+        recaller.setLazyBestSolutionCloningEnabled(true);
+
+        ConstructionHeuristicStepScope<TestdataSolution> improvingStepScope = setupConstrunctionHeuristics(solverScope);
+        when(improvingStepScope.getScore()).thenReturn(SimpleScore.of(-1));
+        recaller.processWorkingSolutionDuringStep(improvingStepScope, mock(Move.class), mock(Move.class));
+        assertThat(solverScope.getBestSolution()).isSameAs(originalBestSolution);
+        assertThat(solverScope.getBestScore()).isEqualTo(SimpleScore.of(-1));
+        verify(scoreDirector, never()).cloneWorkingSolutionAsBestSolution();
+
+        ConstructionHeuristicStepScope<TestdataSolution> unimprovingStepScope =
+                setupConstrunctionHeuristics(solverScope);
+        when(unimprovingStepScope.getScore()).thenReturn(SimpleScore.of(-3));
+        doReturn(scoreDirector).when(unimprovingStepScope).getScoreDirector();
+        Move<TestdataSolution> unimprovingStep = mock(Move.class);
+        Move<TestdataSolution> unimprovingUndoStep = mock(Move.class);
+        TestdataSolution newBestSolution = mock(TestdataSolution.class);
+        when(scoreDirector.cloneWorkingSolutionAsBestSolution()).thenReturn(newBestSolution);
+        recaller.processWorkingSolutionDuringStep(unimprovingStepScope, unimprovingStep, unimprovingUndoStep);
+        // The best solution is cloned from the working solution before the unimproving step
+        InOrder inOrder = inOrder(unimprovingUndoStep, scoreDirector, unimprovingStep);
+        inOrder.verify(unimprovingUndoStep).doMove(scoreDirector);
+        inOrder.verify(scoreDirector).cloneWorkingSolutionAsBestSolution();
+        inOrder.verify(unimprovingStep).doMove(scoreDirector);
+        assertThat(solverScope.getBestSolution()).isSameAs(newBestSolution);
+        assertThat(solverScope.getBestScore()).isEqualTo(SimpleScore.of(-1));
+        verify(solverScope.getSolutionDescriptor()).setScore(newBestSolution, SimpleScore.of(-1));
+    }
+
     @Test
     public void unimprovedUninitializedProcessWorkingSolutionDuringMove() {
         Score bestScore = SimpleScore.of(-10);
@@ -153,7 +195,7 @@ public class BestSolutionRecallerTest {
         TestdataSolution moveSolution = mock(TestdataSolution.class);
         when(solverScope.getScoreDirector().getSolutionDescriptor().getScore(moveSolution))
                 .thenReturn(moveScore);
-        when(solverScope.getScoreDirector().cloneWorkingSolution()).thenReturn(moveSolution);
+        when(solverScope.getScoreDirector().cloneWorkingSolutionAsBestSolution()).thenReturn(moveSolution);
 
         BestSolutionRecaller<TestdataSolution> recaller = createBestSolutionRecaller();
         recaller.processWorkingSolutionDuringMove(moveScore, stepScope);
@@ -34,6 +34,9 @@ public class VehicleRoutingBenchmarkApp extends CommonBenchmarkApp {
                         "org/optaplanner/examples/vehiclerouting/optional/benchmark/vehicleRoutingScoreDirectorBenchmarkConfig.xml"),
                 new ArgOption("template",
                         "org/optaplanner/examples/vehiclerouting/optional/benchmark/vehicleRoutingBenchmarkConfigTemplate.xml.ftl",
+                        true),
+                new ArgOption("moveThread",
+                        "org/optaplanner/examples/vehiclerouting/optional/benchmark/vehicleRoutingMoveThreadBenchmarkConfigTemplate.xml.ftl",
                         true));
     }
 